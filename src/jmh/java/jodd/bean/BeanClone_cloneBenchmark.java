@@ -0,0 +1,136 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.bean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for deep copy of an order with 20 items, using recursive
+ * {@link BeanCopy} calls and using {@link BeanClone}.
+ * <pre>
+
+gradlew BeanClone_cloneBenchmark
+
+BeanClone_cloneBenchmark.beanClone  thrpt  505.787 ops/ms
+BeanClone_cloneBenchmark.beanCopy   thrpt  250.376 ops/ms
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BeanClone_cloneBenchmark {
+
+	public static class Item {
+		private String name;
+		private int quantity;
+		private long price;
+
+		public String getName() {
+			return name;
+		}
+		public void setName(final String name) {
+			this.name = name;
+		}
+		public int getQuantity() {
+			return quantity;
+		}
+		public void setQuantity(final int quantity) {
+			this.quantity = quantity;
+		}
+		public long getPrice() {
+			return price;
+		}
+		public void setPrice(final long price) {
+			this.price = price;
+		}
+	}
+
+	public static class Order {
+		private String customer;
+		private List<Item> items = new ArrayList<>();
+
+		public String getCustomer() {
+			return customer;
+		}
+		public void setCustomer(final String customer) {
+			this.customer = customer;
+		}
+		public List<Item> getItems() {
+			return items;
+		}
+		public void setItems(final List<Item> items) {
+			this.items = items;
+		}
+	}
+
+	private final Order order = new Order();
+	private final BeanClone beanClone = BeanClone.create();
+
+	public BeanClone_cloneBenchmark() {
+		order.setCustomer("customer");
+		for (int i = 0; i < 20; i++) {
+			final Item item = new Item();
+			item.setName("item" + i);
+			item.setQuantity(i);
+			item.setPrice(i * 100L);
+			order.getItems().add(item);
+		}
+	}
+
+	@Benchmark
+	public Order beanCopy() {
+		final Order clone = new Order();
+		clone.setCustomer(order.getCustomer());
+		for (final Item item : order.getItems()) {
+			final Item itemClone = new Item();
+			BeanCopy.from(item).to(itemClone).copy();
+			clone.getItems().add(itemClone);
+		}
+		return clone;
+	}
+
+	@Benchmark
+	public Order beanClone() {
+		return beanClone.clone(order);
+	}
+}
@@ -0,0 +1,122 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.bean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link BeanCopy#copy()} of beans with 10, 50 and 200 properties.
+ * <pre>
+
+gradlew BeanCopy_copyBenchmark
+
+BeanCopy_copyBenchmark.copy   10  thrpt  2303.741 ops/ms
+BeanCopy_copyBenchmark.copy   50  thrpt   444.024 ops/ms
+BeanCopy_copyBenchmark.copy  200  thrpt   116.199 ops/ms
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BeanCopy_copyBenchmark {
+
+	public static class Bean10 {
+		public int i0, i1, i2;
+		public long l0, l1, l2;
+		public String s0, s1, s2, s3;
+	}
+
+	public static class Bean50 {
+		public int i0, i1, i2, i3, i4, i5, i6, i7, i8, i9;
+		public int i10, i11, i12, i13, i14, i15;
+		public long l0, l1, l2, l3, l4, l5, l6, l7, l8, l9;
+		public long l10, l11, l12, l13, l14, l15;
+		public String s0, s1, s2, s3, s4, s5, s6, s7, s8, s9;
+		public String s10, s11, s12, s13, s14, s15, s16, s17;
+	}
+
+	public static class Bean200 {
+		public int i0, i1, i2, i3, i4, i5, i6, i7, i8, i9;
+		public int i10, i11, i12, i13, i14, i15, i16, i17, i18, i19;
+		public int i20, i21, i22, i23, i24, i25, i26, i27, i28, i29;
+		public int i30, i31, i32, i33, i34, i35, i36, i37, i38, i39;
+		public int i40, i41, i42, i43, i44, i45, i46, i47, i48, i49;
+		public int i50, i51, i52, i53, i54, i55, i56, i57, i58, i59;
+		public int i60, i61, i62, i63, i64, i65;
+		public long l0, l1, l2, l3, l4, l5, l6, l7, l8, l9;
+		public long l10, l11, l12, l13, l14, l15, l16, l17, l18, l19;
+		public long l20, l21, l22, l23, l24, l25, l26, l27, l28, l29;
+		public long l30, l31, l32, l33, l34, l35, l36, l37, l38, l39;
+		public long l40, l41, l42, l43, l44, l45, l46, l47, l48, l49;
+		public long l50, l51, l52, l53, l54, l55, l56, l57, l58, l59;
+		public long l60, l61, l62, l63, l64, l65;
+		public String s0, s1, s2, s3, s4, s5, s6, s7, s8, s9;
+		public String s10, s11, s12, s13, s14, s15, s16, s17, s18, s19;
+		public String s20, s21, s22, s23, s24, s25, s26, s27, s28, s29;
+		public String s30, s31, s32, s33, s34, s35, s36, s37, s38, s39;
+		public String s40, s41, s42, s43, s44, s45, s46, s47, s48, s49;
+		public String s50, s51, s52, s53, s54, s55, s56, s57, s58, s59;
+		public String s60, s61, s62, s63, s64, s65, s66, s67;
+	}
+
+	@Param({"10", "50", "200"})
+	public int properties;
+
+	private Object source;
+	private Object destination;
+
+	@Setup
+	public void prepare() {
+		switch (properties) {
+			case 10: source = new Bean10(); destination = new Bean10(); break;
+			case 50: source = new Bean50(); destination = new Bean50(); break;
+			default: source = new Bean200(); destination = new Bean200(); break;
+		}
+		BeanCopy.from(source).to(destination).includeFields(true).copy();
+	}
+
+	@Benchmark
+	public Object copy() {
+		BeanCopy.from(source).to(destination).includeFields(true).copy();
+		return destination;
+	}
+}
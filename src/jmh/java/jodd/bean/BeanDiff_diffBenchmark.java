@@ -0,0 +1,104 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.bean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for comparing wide beans with two changed properties, using
+ * {@link BeanVisitor} and <code>equals()</code> and using {@link BeanDiff}.
+ * Beans are the same as in {@link BeanCopy_copyBenchmark}.
+ * <pre>
+
+gradlew BeanDiff_diffBenchmark
+
+BeanDiff_diffBenchmark.diff      50  thrpt  1190.561 ops/ms
+BeanDiff_diffBenchmark.diff     200  thrpt   226.351 ops/ms
+BeanDiff_diffBenchmark.visitor   50  thrpt    99.050 ops/ms
+BeanDiff_diffBenchmark.visitor  200  thrpt    29.459 ops/ms
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BeanDiff_diffBenchmark {
+
+	@Param({"50", "200"})
+	public int properties;
+
+	private Object oldBean;
+	private Object newBean;
+	private final BeanDiff beanDiff = BeanDiff.create().includeFields(true);
+
+	@Setup
+	public void prepare() {
+		if (properties == 50) {
+			oldBean = new BeanCopy_copyBenchmark.Bean50();
+			newBean = new BeanCopy_copyBenchmark.Bean50();
+		} else {
+			oldBean = new BeanCopy_copyBenchmark.Bean200();
+			newBean = new BeanCopy_copyBenchmark.Bean200();
+		}
+		BeanUtil.pojo.setProperty(newBean, "i3", 3);
+		BeanUtil.pojo.setProperty(newBean, "s7", "seven");
+	}
+
+	@Benchmark
+	public List<String> visitor() {
+		final List<String> changes = new ArrayList<>();
+		new BeanVisitor(oldBean).includeFields(true).visit((name, value) -> {
+			if (!Objects.equals(value, BeanUtil.pojo.getProperty(newBean, name))) {
+				changes.add(name);
+			}
+		});
+		return changes;
+	}
+
+	@Benchmark
+	public List<BeanDiff.Change> diff() {
+		return beanDiff.diff(oldBean, newBean);
+	}
+}
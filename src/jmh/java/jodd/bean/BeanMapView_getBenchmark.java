@@ -0,0 +1,175 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.bean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for reading 3 of 20 bean properties as a <code>Map</code>:
+ * by copying the bean into a <code>HashMap</code> and by using the {@link BeanMapView}.
+ * Run with <code>-prof gc</code> for allocation rates.
+ * <pre>
+
+gradlew BeanMapView_getBenchmark
+
+BeanMapView_getBenchmark.copy                         thrpt    150.265 ops/ms
+BeanMapView_getBenchmark.copy:·gc.alloc.rate.norm     thrpt  10848.003 B/op
+BeanMapView_getBenchmark.view                         thrpt  17201.002 ops/ms
+BeanMapView_getBenchmark.view:·gc.alloc.rate.norm     thrpt    104.000 B/op
+BeanMapView_getBenchmark.visitor                      thrpt    616.493 ops/ms
+BeanMapView_getBenchmark.visitor:·gc.alloc.rate.norm  thrpt   4704.001 B/op
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BeanMapView_getBenchmark {
+
+	public static class Bean {
+		private String p0 = "p0";
+		private String p1 = "p1";
+		private String p2 = "p2";
+		private String p3 = "p3";
+		private String p4 = "p4";
+		private String p5 = "p5";
+		private String p6 = "p6";
+		private String p7 = "p7";
+		private String p8 = "p8";
+		private String p9 = "p9";
+		private String p10 = "p10";
+		private String p11 = "p11";
+		private String p12 = "p12";
+		private String p13 = "p13";
+		private String p14 = "p14";
+		private String p15 = "p15";
+		private String p16 = "p16";
+		private String p17 = "p17";
+		private String p18 = "p18";
+		private String p19 = "p19";
+
+		public String getP0() {
+			return p0;
+		}
+		public String getP1() {
+			return p1;
+		}
+		public String getP2() {
+			return p2;
+		}
+		public String getP3() {
+			return p3;
+		}
+		public String getP4() {
+			return p4;
+		}
+		public String getP5() {
+			return p5;
+		}
+		public String getP6() {
+			return p6;
+		}
+		public String getP7() {
+			return p7;
+		}
+		public String getP8() {
+			return p8;
+		}
+		public String getP9() {
+			return p9;
+		}
+		public String getP10() {
+			return p10;
+		}
+		public String getP11() {
+			return p11;
+		}
+		public String getP12() {
+			return p12;
+		}
+		public String getP13() {
+			return p13;
+		}
+		public String getP14() {
+			return p14;
+		}
+		public String getP15() {
+			return p15;
+		}
+		public String getP16() {
+			return p16;
+		}
+		public String getP17() {
+			return p17;
+		}
+		public String getP18() {
+			return p18;
+		}
+		public String getP19() {
+			return p19;
+		}
+	}
+
+	private final Bean bean = new Bean();
+
+	@Benchmark
+	public int copy() {
+		final Map<String, Object> map = new HashMap<>();
+		BeanCopy.from(bean).to(map).copy();
+		return read(map);
+	}
+
+	@Benchmark
+	public int visitor() {
+		final Map<String, Object> map = new HashMap<>();
+		new BeanVisitor(bean).visit(map::put);
+		return read(map);
+	}
+
+	@Benchmark
+	public int view() {
+		return read(BeanMapView.of(bean));
+	}
+
+	private int read(final Map<String, Object> map) {
+		return map.get("p1").hashCode() + map.get("p7").hashCode() + map.get("p13").hashCode();
+	}
+}
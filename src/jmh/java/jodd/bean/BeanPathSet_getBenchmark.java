@@ -0,0 +1,156 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.bean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for reading many nested properties with common prefixes
+ * from the same bean, one by one and with the {@link BeanPathSet}.
+ * <pre>
+
+gradlew BeanPathSet_getBenchmark
+
+BeanPathSet_getBenchmark.compiledGet  thrpt  1767.107 ops/ms
+BeanPathSet_getBenchmark.getProperty  thrpt   331.815 ops/ms
+BeanPathSet_getBenchmark.pathSetGet   thrpt  2130.019 ops/ms
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BeanPathSet_getBenchmark {
+
+	public static class Address {
+		private final String street = "street";
+		private final String city = "city";
+		private final String zip = "zip";
+		private final String country = "country";
+
+		public String getStreet() {
+			return street;
+		}
+		public String getCity() {
+			return city;
+		}
+		public String getZip() {
+			return zip;
+		}
+		public String getCountry() {
+			return country;
+		}
+	}
+
+	public static class Customer {
+		private final String name = "name";
+		private final Address address = new Address();
+		private final Address billing = new Address();
+
+		public String getName() {
+			return name;
+		}
+		public Address getAddress() {
+			return address;
+		}
+		public Address getBilling() {
+			return billing;
+		}
+	}
+
+	public static class Report {
+		private final Customer customer = new Customer();
+		private final Customer owner = new Customer();
+
+		public Customer getCustomer() {
+			return customer;
+		}
+		public Customer getOwner() {
+			return owner;
+		}
+	}
+
+	private static final String[] PATHS = new String[18];
+
+	static {
+		int i = 0;
+		for (final String customer : new String[] {"customer", "owner"}) {
+			PATHS[i++] = customer + ".name";
+			for (final String address : new String[] {"address", "billing"}) {
+				for (final String field : new String[] {"street", "city", "zip", "country"}) {
+					PATHS[i++] = customer + '.' + address + '.' + field;
+				}
+			}
+		}
+	}
+
+	private final Report report = new Report();
+	private final BeanPath[] beanPaths = new BeanPath[PATHS.length];
+	private final BeanPathSet beanPathSet = BeanUtil.pojo.compileAll(PATHS);
+	private final Object[] values = new Object[PATHS.length];
+
+	public BeanPathSet_getBenchmark() {
+		for (int i = 0; i < PATHS.length; i++) {
+			beanPaths[i] = BeanUtil.pojo.compile(PATHS[i]);
+		}
+	}
+
+	@Benchmark
+	public Object[] getProperty() {
+		for (int i = 0; i < PATHS.length; i++) {
+			values[i] = BeanUtil.pojo.getProperty(report, PATHS[i]);
+		}
+		return values;
+	}
+
+	@Benchmark
+	public Object[] compiledGet() {
+		for (int i = 0; i < beanPaths.length; i++) {
+			values[i] = beanPaths[i].get(report);
+		}
+		return values;
+	}
+
+	@Benchmark
+	public Object[] pathSetGet() {
+		beanPathSet.get(report, values);
+		return values;
+	}
+}
@@ -0,0 +1,121 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.bean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for reading and writing nested property by its name and
+ * by the compiled {@link BeanPath}.
+ * <pre>
+
+gradlew BeanPath_getBenchmark
+
+BeanPath_getBenchmark.compiledGet  thrpt  22238.780 ops/ms
+BeanPath_getBenchmark.compiledSet  thrpt  20200.152 ops/ms
+BeanPath_getBenchmark.getProperty  thrpt   3912.028 ops/ms
+BeanPath_getBenchmark.setProperty  thrpt   3165.994 ops/ms
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BeanPath_getBenchmark {
+
+	public static class Item {
+		private int price = 173;
+
+		public int getPrice() {
+			return price;
+		}
+		public void setPrice(final int price) {
+			this.price = price;
+		}
+	}
+
+	public static class Order {
+		private final List<Item> items = new ArrayList<>();
+
+		public Order() {
+			for (int i = 0; i < 5; i++) {
+				items.add(new Item());
+			}
+		}
+
+		public List<Item> getItems() {
+			return items;
+		}
+	}
+
+	public static class Bean {
+		private final Order order = new Order();
+
+		public Order getOrder() {
+			return order;
+		}
+	}
+
+	private static final String PATH = "order.items[3].price";
+
+	private final Bean bean = new Bean();
+	private final BeanPath beanPath = BeanUtil.pojo.compile(PATH);
+
+	@Benchmark
+	public Object getProperty() {
+		return BeanUtil.pojo.getProperty(bean, PATH);
+	}
+
+	@Benchmark
+	public Object compiledGet() {
+		return beanPath.get(bean);
+	}
+
+	@Benchmark
+	public void setProperty() {
+		BeanUtil.pojo.setProperty(bean, PATH, 7);
+	}
+
+	@Benchmark
+	public void compiledSet() {
+		beanPath.set(bean, 7);
+	}
+}
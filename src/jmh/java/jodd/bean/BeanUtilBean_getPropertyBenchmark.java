@@ -0,0 +1,97 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.bean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for silent {@link BeanUtilBean#getProperty(Object, String)} on a workload
+ * where most of the properties are missing, like in templates.
+ * <pre>
+
+gradlew BeanUtilBean_getPropertyBenchmark
+
+BeanUtilBean_getPropertyBenchmark.silentMisses  thrpt  1448.645 ops/ms
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BeanUtilBean_getPropertyBenchmark {
+
+	public static class Bean {
+		private final String name = "jodd";
+		private final String[] tags = {"one", "two"};
+		private final List<String> items = new ArrayList<>();
+		private Bean child;
+
+		public String getName() {
+			return name;
+		}
+		public String[] getTags() {
+			return tags;
+		}
+		public List<String> getItems() {
+			return items;
+		}
+		public Bean getChild() {
+			return child;
+		}
+	}
+
+	private static final String[] NAMES = {
+		"name", "missing", "child.name", "tags[5]", "items[0]", "tags[first]", "", "child..name",
+	};
+
+	private final Bean bean = new Bean();
+
+	@Benchmark
+	public int silentMisses() {
+		int hits = 0;
+		for (final String name : NAMES) {
+			if (BeanUtil.declaredSilent.getProperty(bean, name) != null) {
+				hits++;
+			}
+		}
+		return hits;
+	}
+}
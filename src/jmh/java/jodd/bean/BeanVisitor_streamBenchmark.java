@@ -0,0 +1,93 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.bean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark for reading few properties of a wide bean, by filtering visited
+ * properties and by the lazy {@link BeanVisitor#stream()} with name filter.
+ * Bean is the same as in {@link BeanCopy_copyBenchmark}.
+ * <pre>
+
+gradlew BeanVisitor_streamBenchmark
+
+BeanVisitor_streamBenchmark.streamFilter     thrpt    737.079 ops/ms
+BeanVisitor_streamBenchmark.streamFindFirst  thrpt  11226.780 ops/ms
+BeanVisitor_streamBenchmark.visitAndFilter   thrpt     61.837 ops/ms
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BeanVisitor_streamBenchmark {
+
+	private final Object bean = new BeanCopy_copyBenchmark.Bean200();
+
+	@Benchmark
+	public List<Object> visitAndFilter() {
+		final List<Object> values = new ArrayList<>();
+		new BeanVisitor(bean).includeFields(true).visit((name, value) -> {
+			if (name.startsWith("s1")) {
+				values.add(value);
+			}
+		});
+		return values;
+	}
+
+	@Benchmark
+	public List<Object> streamFilter() {
+		return new BeanVisitor(bean).includeFields(true)
+			.filter(name -> name.startsWith("s1"))
+			.stream()
+			.map(Map.Entry::getValue)
+			.collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public Object streamFindFirst() {
+		return new BeanVisitor(bean).includeFields(true).stream().findFirst().orElse(null);
+	}
+}
@@ -0,0 +1,108 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.bean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for copying 100k beans one by one and with {@link BulkBeanCopy}.
+ * <pre>
+
+gradlew BulkBeanCopy_copyBenchmark
+
+Single CPU:
+BulkBeanCopy_copyBenchmark.bulk  thrpt  40.419 ops/s
+BulkBeanCopy_copyBenchmark.loop  thrpt  30.180 ops/s
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BulkBeanCopy_copyBenchmark {
+
+	public static class Entity {
+		public long id;
+		public String name;
+		public String email;
+		public int age;
+		public boolean active;
+	}
+
+	public static class Dto {
+		public long id;
+		public String name;
+		public String email;
+		public int age;
+		public boolean active;
+	}
+
+	private final List<Entity> entities = new ArrayList<>();
+
+	@Setup
+	public void prepare() {
+		for (int i = 0; i < 100_000; i++) {
+			final Entity entity = new Entity();
+			entity.id = i;
+			entity.name = "name" + i;
+			entity.email = "mail" + i;
+			entity.age = i % 100;
+			entities.add(entity);
+		}
+	}
+
+	@Benchmark
+	public List<Dto> loop() {
+		final List<Dto> dtos = new ArrayList<>(entities.size());
+		for (final Entity entity : entities) {
+			final Dto dto = new Dto();
+			BeanCopy.from(entity).to(dto).includeFields(true).copy();
+			dtos.add(dto);
+		}
+		return dtos;
+	}
+
+	@Benchmark
+	public List<Dto> bulk() {
+		return BeanCopy.fromAll(entities, Dto::new).includeFields(true).copy();
+	}
+}
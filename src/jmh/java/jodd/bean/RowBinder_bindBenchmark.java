@@ -0,0 +1,126 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.bean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for binding a row of values into a new bean, property by
+ * property and with the compiled {@link RowBinder}.
+ * <pre>
+
+gradlew RowBinder_bindBenchmark
+
+RowBinder_bindBenchmark.bind         thrpt  11526.915 ops/ms
+RowBinder_bindBenchmark.setProperty  thrpt   1565.139 ops/ms
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RowBinder_bindBenchmark {
+
+	public static class Row {
+		private long id;
+		private String name;
+		private int quantity;
+		private BigDecimal price;
+		private Boolean active;
+		private double rate;
+
+		public long getId() {
+			return id;
+		}
+		public void setId(final long id) {
+			this.id = id;
+		}
+		public String getName() {
+			return name;
+		}
+		public void setName(final String name) {
+			this.name = name;
+		}
+		public int getQuantity() {
+			return quantity;
+		}
+		public void setQuantity(final int quantity) {
+			this.quantity = quantity;
+		}
+		public BigDecimal getPrice() {
+			return price;
+		}
+		public void setPrice(final BigDecimal price) {
+			this.price = price;
+		}
+		public Boolean getActive() {
+			return active;
+		}
+		public void setActive(final Boolean active) {
+			this.active = active;
+		}
+		public double getRate() {
+			return rate;
+		}
+		public void setRate(final double rate) {
+			this.rate = rate;
+		}
+	}
+
+	private static final String[] COLUMNS = {"id", "name", "quantity", "price", "active", "rate"};
+
+	private final Object[] values = {173L, "name", "12", "12.50", Boolean.TRUE, 0.25d};
+	private final RowBinder<Row> rowBinder = BeanUtil.pojo.compileRowBinder(Row.class, COLUMNS);
+
+	@Benchmark
+	public Row setProperty() {
+		final Row row = new Row();
+		for (int i = 0; i < COLUMNS.length; i++) {
+			BeanUtil.pojo.setProperty(row, COLUMNS[i], values[i]);
+		}
+		return row;
+	}
+
+	@Benchmark
+	public Row bind() {
+		return rowBinder.bind(values);
+	}
+}
@@ -0,0 +1,129 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.introspector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for reflective vs {@link Accessors generated} getters and setters.
+ * <pre>
+
+gradlew Accessors_invokeBenchmark
+
+Accessors_invokeBenchmark.field_Generated    thrpt   117028.059 ops/ms
+Accessors_invokeBenchmark.field_Reflection   thrpt   112866.779 ops/ms
+Accessors_invokeBenchmark.getter_Generated   thrpt   181051.850 ops/ms
+Accessors_invokeBenchmark.getter_Reflection  thrpt   110064.306 ops/ms
+Accessors_invokeBenchmark.setter_Generated   thrpt   542629.270 ops/ms
+Accessors_invokeBenchmark.setter_Reflection  thrpt   184582.655 ops/ms
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class Accessors_invokeBenchmark {
+
+	public static class Bean {
+		private int value;
+		private String name = "jodd";
+
+		public int getValue() {
+			return value;
+		}
+
+		public void setValue(final int value) {
+			this.value = value;
+		}
+	}
+
+	private final Bean bean = new Bean();
+	private final Integer argument = 173;
+
+	private Getter reflectGetter;
+	private Setter reflectSetter;
+	private Getter reflectFieldGetter;
+	private Getter generatedGetter;
+	private Setter generatedSetter;
+	private Getter generatedFieldGetter;
+
+	@Setup
+	public void prepare() {
+		final ClassDescriptor reflect = new CachingIntrospector().lookup(Bean.class);
+		final ClassDescriptor generated = new CachingIntrospector(true, true, true, null, true).lookup(Bean.class);
+
+		reflectGetter = reflect.getPropertyDescriptor("value", false).getGetter(false);
+		reflectSetter = reflect.getPropertyDescriptor("value", false).getSetter(false);
+		reflectFieldGetter = reflect.getPropertyDescriptor("name", true).getGetter(true);
+		generatedGetter = generated.getPropertyDescriptor("value", false).getGetter(false);
+		generatedSetter = generated.getPropertyDescriptor("value", false).getSetter(false);
+		generatedFieldGetter = generated.getPropertyDescriptor("name", true).getGetter(true);
+	}
+
+	@Benchmark
+	public Object getter_Reflection() throws Exception {
+		return reflectGetter.invokeGetter(bean);
+	}
+
+	@Benchmark
+	public Object getter_Generated() throws Exception {
+		return generatedGetter.invokeGetter(bean);
+	}
+
+	@Benchmark
+	public void setter_Reflection() throws Exception {
+		reflectSetter.invokeSetter(bean, argument);
+	}
+
+	@Benchmark
+	public void setter_Generated() throws Exception {
+		generatedSetter.invokeSetter(bean, argument);
+	}
+
+	@Benchmark
+	public Object field_Reflection() throws Exception {
+		return reflectFieldGetter.invokeGetter(bean);
+	}
+
+	@Benchmark
+	public Object field_Generated() throws Exception {
+		return generatedFieldGetter.invokeGetter(bean);
+	}
+}
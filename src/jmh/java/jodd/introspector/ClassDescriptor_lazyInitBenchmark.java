@@ -0,0 +1,121 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.introspector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmark for concurrent access to lazy {@link ClassDescriptor} tables.
+ * Each iteration starts with a fresh descriptor, so all 32 threads race
+ * on the first access. Number of scans per descriptor is verified on tear down
+ * and must always be exactly one.
+ * <pre>
+
+gradlew ClassDescriptor_lazyInitBenchmark
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Threads(32)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ClassDescriptor_lazyInitBenchmark {
+
+	public static class Bean {
+		private String name;
+		private int value;
+		private long total;
+
+		public String getName() {
+			return name;
+		}
+		public void setName(final String name) {
+			this.name = name;
+		}
+		public int getValue() {
+			return value;
+		}
+		public void setValue(final int value) {
+			this.value = value;
+		}
+		public long getTotal() {
+			return total;
+		}
+		public void setTotal(final long total) {
+			this.total = total;
+		}
+	}
+
+	private final AtomicInteger scans = new AtomicInteger();
+	private ClassDescriptor classDescriptor;
+
+	@Setup(Level.Iteration)
+	public void prepare() {
+		scans.set(0);
+		classDescriptor = new ClassDescriptor(Bean.class, true, true, true, null) {
+			@Override
+			protected Properties createProperties() {
+				scans.incrementAndGet();
+				return super.createProperties();
+			}
+		};
+	}
+
+	@TearDown(Level.Iteration)
+	public void verify() {
+		if (scans.get() != 1) {
+			throw new IllegalStateException("Properties scanned " + scans.get() + " times");
+		}
+	}
+
+	@Benchmark
+	public Object propertyLookup() {
+		return classDescriptor.getPropertyDescriptor("value", false).getGetter(false);
+	}
+
+	@Benchmark
+	public Object allProperties() {
+		return classDescriptor.getAllPropertyDescriptors();
+	}
+}
@@ -0,0 +1,113 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.introspector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for reading all bean properties by name and by pre-resolved slots.
+ * <pre>
+
+gradlew ClassDescriptor_propertySlotBenchmark
+
+ClassDescriptor_propertySlotBenchmark.byName  thrpt   9580.120 ops/ms
+ClassDescriptor_propertySlotBenchmark.bySlot  thrpt  13957.807 ops/ms
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ClassDescriptor_propertySlotBenchmark {
+
+	public static class Bean {
+		private String name = "jodd";
+		private int value = 173;
+		private long total = 1L;
+		private boolean active = true;
+
+		public String getName() {
+			return name;
+		}
+		public int getValue() {
+			return value;
+		}
+		public long getTotal() {
+			return total;
+		}
+		public boolean isActive() {
+			return active;
+		}
+	}
+
+	private final String[] names = {"name", "value", "total", "active"};
+	private final Bean bean = new Bean();
+
+	private ClassDescriptor classDescriptor;
+	private int[] slots;
+
+	@Setup
+	public void prepare() {
+		classDescriptor = ClassIntrospector.get().lookup(Bean.class);
+		slots = new int[names.length];
+		for (int i = 0; i < names.length; i++) {
+			slots[i] = classDescriptor.getPropertySlot(names[i]);
+		}
+	}
+
+	@Benchmark
+	public int byName() throws InvocationTargetException, IllegalAccessException {
+		int result = 0;
+		for (final String name : names) {
+			result += classDescriptor.getPropertyDescriptor(name, true).getGetter(true).invokeGetter(bean).hashCode();
+		}
+		return result;
+	}
+
+	@Benchmark
+	public int bySlot() throws InvocationTargetException, IllegalAccessException {
+		int result = 0;
+		for (final int slot : slots) {
+			result += classDescriptor.getPropertyGetter(slot, true).invokeGetter(bean).hashCode();
+		}
+		return result;
+	}
+}
@@ -0,0 +1,85 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.typeconverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for conversions to arrays and collections without registered converter.
+ * <pre>
+
+gradlew CollectionConverter_convertBenchmark -prof gc
+
+Benchmark                                                          Mode  Cnt     Score   Units
+CollectionConverter_convertBenchmark.toArray                      thrpt   10  3286.530  ops/ms
+CollectionConverter_convertBenchmark.toArray:gc.alloc.rate.norm   thrpt   10    88.000    B/op
+CollectionConverter_convertBenchmark.toArrayList                  thrpt   10  6224.546  ops/ms
+CollectionConverter_convertBenchmark.toArrayList:gc.alloc.rate.norm thrpt 10    56.000    B/op
+CollectionConverter_convertBenchmark.toList                       thrpt   10  4051.596  ops/ms
+CollectionConverter_convertBenchmark.toList:gc.alloc.rate.norm    thrpt   10    56.000    B/op
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class CollectionConverter_convertBenchmark {
+
+	private final TypeConverterManager typeConverterManager = TypeConverterManager.get();
+	private final String[] numbers = {"1", "2", "3"};
+	private final String[] uuids = {UUID.randomUUID().toString(), UUID.randomUUID().toString()};
+
+	@Benchmark
+	public List<Integer> toList() {
+		return typeConverterManager.convertToCollection(numbers, List.class, Integer.class);
+	}
+
+	@Benchmark
+	public Object toArrayList() {
+		return typeConverterManager.convertType(numbers, ArrayList.class);
+	}
+
+	@Benchmark
+	public UUID[] toArray() {
+		return typeConverterManager.convertType(uuids, UUID[].class);
+	}
+}
@@ -0,0 +1,98 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.typeconverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for converting strings into constants of an enum with 100 constants,
+ * using the linear scan of enum constants and using {@link TypeConverterManager}.
+ * <pre>
+
+gradlew EnumConverter_convertBenchmark
+
+EnumConverter_convertBenchmark.convertType  thrpt  11662.252 ops/ms
+EnumConverter_convertBenchmark.scan         thrpt    970.646 ops/ms
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class EnumConverter_convertBenchmark {
+
+	public enum Code {
+		C00, C01, C02, C03, C04, C05, C06, C07, C08, C09,
+		C10, C11, C12, C13, C14, C15, C16, C17, C18, C19,
+		C20, C21, C22, C23, C24, C25, C26, C27, C28, C29,
+		C30, C31, C32, C33, C34, C35, C36, C37, C38, C39,
+		C40, C41, C42, C43, C44, C45, C46, C47, C48, C49,
+		C50, C51, C52, C53, C54, C55, C56, C57, C58, C59,
+		C60, C61, C62, C63, C64, C65, C66, C67, C68, C69,
+		C70, C71, C72, C73, C74, C75, C76, C77, C78, C79,
+		C80, C81, C82, C83, C84, C85, C86, C87, C88, C89,
+		C90, C91, C92, C93, C94, C95, C96, C97, C98, C99
+	}
+
+	private final String[] values = {"C07", "C42", "C77", "C99"};
+
+	@Benchmark
+	public int scan() {
+		int sum = 0;
+		for (final String value : values) {
+			for (final Object e : Code.class.getEnumConstants()) {
+				if (e.toString().equals(value)) {
+					sum += ((Code) e).ordinal();
+					break;
+				}
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int convertType() {
+		int sum = 0;
+		for (final String value : values) {
+			sum += TypeConverterManager.get().convertType(value, Code.class).ordinal();
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,93 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.typeconverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for conversions of strings to locales, time zones and classes.
+ * <pre>
+
+gradlew LookupConverter_convertBenchmark -prof gc
+
+Benchmark                                                         Mode  Cnt      Score   Units
+LookupConverter_convertBenchmark.toClass                         thrpt   10  55533.300  ops/ms
+LookupConverter_convertBenchmark.toClass:gc.alloc.rate.norm      thrpt   10      0.000    B/op
+LookupConverter_convertBenchmark.toLocale                        thrpt   10  58875.268  ops/ms
+LookupConverter_convertBenchmark.toLocale:gc.alloc.rate.norm     thrpt   10      0.000    B/op
+LookupConverter_convertBenchmark.toMissingClass                  thrpt   10    525.944  ops/ms
+LookupConverter_convertBenchmark.toMissingClass:gc.alloc.rate.norm thrpt 10   1608.001    B/op
+LookupConverter_convertBenchmark.toTimeZone                      thrpt   10  44969.607  ops/ms
+LookupConverter_convertBenchmark.toTimeZone:gc.alloc.rate.norm   thrpt   10     56.000    B/op
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LookupConverter_convertBenchmark {
+
+	private final TypeConverterManager typeConverterManager = TypeConverterManager.get();
+
+	@Benchmark
+	public Locale toLocale() {
+		return typeConverterManager.convertType("en-US", Locale.class);
+	}
+
+	@Benchmark
+	public TimeZone toTimeZone() {
+		return typeConverterManager.convertType("Europe/Berlin", TimeZone.class);
+	}
+
+	@Benchmark
+	public Class toClass() {
+		return typeConverterManager.convertType("java.util.ArrayList", Class.class);
+	}
+
+	@Benchmark
+	public Object toMissingClass() {
+		try {
+			return typeConverterManager.convertType("foo.Klass", Class.class);
+		}
+		catch (final TypeConversionException tcex) {
+			return tcex;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.typeconverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for conversions of 100 numbers into primitive arrays.
+ * <pre>
+
+gradlew NumberArrayConverter_convertBenchmark -prof gc
+
+Benchmark                                                          Mode  Cnt      Score   Units
+NumberArrayConverter_convertBenchmark.intsToLongs                 thrpt    5  14744.532  ops/ms
+NumberArrayConverter_convertBenchmark.intsToLongs:gc.alloc.rate.norm thrpt 5    816.000    B/op
+NumberArrayConverter_convertBenchmark.listToLongs                 thrpt    5   9445.316  ops/ms
+NumberArrayConverter_convertBenchmark.listToLongs:gc.alloc.rate.norm thrpt 5    816.000    B/op
+NumberArrayConverter_convertBenchmark.stringToDoubles             thrpt    5    415.548  ops/ms
+NumberArrayConverter_convertBenchmark.stringToDoubles:gc.alloc.rate.norm thrpt 5 2800.001  B/op
+NumberArrayConverter_convertBenchmark.stringToInts                thrpt    5    449.207  ops/ms
+NumberArrayConverter_convertBenchmark.stringToInts:gc.alloc.rate.norm thrpt 5  1440.001    B/op
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class NumberArrayConverter_convertBenchmark {
+
+	private final TypeConverterManager typeConverterManager = TypeConverterManager.get();
+	private final String ints;
+	private final String doubles;
+	private final List<Integer> list = new ArrayList<>();
+	private final int[] array = new int[100];
+
+	public NumberArrayConverter_convertBenchmark() {
+		final StringBuilder intsBuilder = new StringBuilder();
+		final StringBuilder doublesBuilder = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			if (i != 0) {
+				intsBuilder.append(", ");
+				doublesBuilder.append(';');
+			}
+			intsBuilder.append(i * 1000);
+			doublesBuilder.append(i).append(".25");
+			list.add(i * 1000);
+			array[i] = i * 1000;
+		}
+		ints = intsBuilder.toString();
+		doubles = doublesBuilder.toString();
+	}
+
+	@Benchmark
+	public int[] stringToInts() {
+		return typeConverterManager.convertType(ints, int[].class);
+	}
+
+	@Benchmark
+	public double[] stringToDoubles() {
+		return typeConverterManager.convertType(doubles, double[].class);
+	}
+
+	@Benchmark
+	public long[] listToLongs() {
+		return typeConverterManager.convertType(list, long[].class);
+	}
+
+	@Benchmark
+	public long[] intsToLongs() {
+		return typeConverterManager.convertType(array, long[].class);
+	}
+}
@@ -0,0 +1,116 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.typeconverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for conversions of mixed ISO-8601 and epoch milliseconds strings
+ * to date and time types.
+ * <pre>
+
+gradlew TemporalConverter_convertBenchmark -prof gc
+
+Benchmark                                                            Mode  Cnt      Score   Units
+TemporalConverter_convertBenchmark.toDate                           thrpt   10  11212.106  ops/ms
+TemporalConverter_convertBenchmark.toDate:gc.alloc.rate.norm        thrpt   10    125.000    B/op
+TemporalConverter_convertBenchmark.toLocalDate                      thrpt   10  13620.843  ops/ms
+TemporalConverter_convertBenchmark.toLocalDate:gc.alloc.rate.norm   thrpt   10     64.000    B/op
+TemporalConverter_convertBenchmark.toLocalDateTime                  thrpt   10  11096.023  ops/ms
+TemporalConverter_convertBenchmark.toLocalDateTime:gc.alloc.rate.norm thrpt 10     91.000    B/op
+TemporalConverter_convertBenchmark.toLocalTime                      thrpt   10  15926.811  ops/ms
+TemporalConverter_convertBenchmark.toLocalTime:gc.alloc.rate.norm   thrpt   10     53.000    B/op
+TemporalConverter_convertBenchmark.toTimestamp                      thrpt   10   7131.034  ops/ms
+TemporalConverter_convertBenchmark.toTimestamp:gc.alloc.rate.norm   thrpt   10    148.000    B/op
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TemporalConverter_convertBenchmark {
+
+	private final TypeConverterManager typeConverterManager = TypeConverterManager.get();
+
+	private final String[] dateTimes = {
+		"2018-04-11T09:11:23", "1523430683000", "2018-04-11T09:11", "2018-04-11T09:11:23.123",
+		"2020-02-29T23:59:59.999999999", "0", "1999-12-31t00:00:00", " 2018-04-11T09:11:23 ",
+	};
+	private final String[] dates = {
+		"2018-04-11", "1523430683000", "2020-02-29", "1999-12-31", "0", "2000-01-01", " 2018-04-11 ", "1523430683",
+	};
+	private final String[] times = {
+		"09:11:23", "1523430683000", "09:11", "23:59:59.999", "00:00:00.000000001", "0", "12:00", " 09:11:23 ",
+	};
+	private final String[] timestamps = {
+		"2018-04-11 09:11:23", "1523430683000", "2018-04-11 09:11:23.123", "2020-02-29 23:59:59.999999999",
+		"0", "1999-12-31 00:00:00", " 2018-04-11 09:11:23 ", "2000-01-01 12:00:00.5",
+	};
+
+	private int index;
+
+	@Benchmark
+	public LocalDateTime toLocalDateTime() {
+		return typeConverterManager.convertType(dateTimes[index++ & 7], LocalDateTime.class);
+	}
+
+	@Benchmark
+	public Date toDate() {
+		return typeConverterManager.convertType(dateTimes[index++ & 7], Date.class);
+	}
+
+	@Benchmark
+	public LocalDate toLocalDate() {
+		return typeConverterManager.convertType(dates[index++ & 7], LocalDate.class);
+	}
+
+	@Benchmark
+	public LocalTime toLocalTime() {
+		return typeConverterManager.convertType(times[index++ & 7], LocalTime.class);
+	}
+
+	@Benchmark
+	public Timestamp toTimestamp() {
+		return typeConverterManager.convertType(timestamps[index++ & 7], Timestamp.class);
+	}
+}
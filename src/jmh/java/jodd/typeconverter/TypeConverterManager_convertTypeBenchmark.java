@@ -0,0 +1,97 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.typeconverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for conversions of {@link TypeConverterManager}, and for
+ * converter looked up once for <code>String</code> to <code>int</code> conversion.
+ * <pre>
+
+gradlew TypeConverterManager_convertTypeBenchmark
+
+TypeConverterManager_convertTypeBenchmark.dateToGregorianCalendar  thrpt   3920.326 ops/ms
+TypeConverterManager_convertTypeBenchmark.stringToInt              thrpt   8024.350 ops/ms
+TypeConverterManager_convertTypeBenchmark.stringToIntLookup        thrpt  11582.084 ops/ms
+TypeConverterManager_convertTypeBenchmark.stringsToList            thrpt   6913.838 ops/ms
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TypeConverterManager_convertTypeBenchmark {
+
+	private final TypeConverterManager typeConverterManager = TypeConverterManager.get();
+	private final String[] strings = {"173", " 42 ", "+7", "-1024"};
+	private final TypeConverter<Integer> intConverter = typeConverterManager.lookup(String.class, int.class);
+	private final Date date = new Date();
+
+	@Benchmark
+	public int stringToInt() {
+		int sum = 0;
+		for (final String value : strings) {
+			sum += typeConverterManager.convertType(value, int.class).intValue();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int stringToIntLookup() {
+		int sum = 0;
+		for (final String value : strings) {
+			sum += intConverter.convert(value).intValue();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public Object stringsToList() {
+		return typeConverterManager.convertType(strings, ArrayList.class);
+	}
+
+	@Benchmark
+	public Object dateToGregorianCalendar() {
+		return typeConverterManager.convertType(date, GregorianCalendar.class);
+	}
+}
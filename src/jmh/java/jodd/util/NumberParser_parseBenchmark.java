@@ -0,0 +1,124 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.util;
+
+import jodd.typeconverter.Converter;
+import jodd.typeconverter.TypeConverterManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for parsing numbers with type converters, from ranges of a line
+ * and with <code>substring</code>, <code>trim</code> and the JDK parsing.
+ * <pre>
+
+gradlew NumberParser_parseBenchmark -prof gc
+
+Benchmark                                                  Mode  Cnt      Score   Units
+NumberParser_parseBenchmark.convertDouble                 thrpt    6  15119.059  ops/ms
+NumberParser_parseBenchmark.convertDouble:gc.alloc.rate.norm thrpt 6     ~ 0      B/op
+NumberParser_parseBenchmark.convertInt                    thrpt    6  13452.612  ops/ms
+NumberParser_parseBenchmark.convertInt:gc.alloc.rate.norm thrpt    6     48.000   B/op
+NumberParser_parseBenchmark.parseRanges                   thrpt    6   7963.406  ops/ms
+NumberParser_parseBenchmark.parseRanges:gc.alloc.rate.norm thrpt   6     ~ 0      B/op
+NumberParser_parseBenchmark.parseSubstrings               thrpt    6   3024.150  ops/ms
+NumberParser_parseBenchmark.parseSubstrings:gc.alloc.rate.norm thrpt 6  912.000   B/op
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class NumberParser_parseBenchmark {
+
+	private final TypeConverterManager typeConverterManager = TypeConverterManager.get();
+	private final String[] ints = {" 173", "+42 ", "-1024", "65536"};
+	private final String[] doubles = {" 17.3", "+4.25 ", "-1024.5", "0.001"};
+	private final String line = " 173;+42 ;-1024;65536; 17.3;+4.25 ;-1024.5;0.001";
+	private final int[] bounds = {0, 4, 5, 9, 10, 15, 16, 21, 22, 27, 28, 34, 35, 42, 43, 48};
+
+	@Benchmark
+	public int convertInt() {
+		int sum = 0;
+		for (final String value : ints) {
+			sum += typeConverterManager.convertType(value, int.class).intValue();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double convertDouble() {
+		double sum = 0;
+		for (final String value : doubles) {
+			sum += typeConverterManager.convertType(value, double.class).doubleValue();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double parseRanges() {
+		double sum = 0;
+		for (int i = 0; i < 8; i += 2) {
+			sum += Converter.get().toIntValue(line, bounds[i], bounds[i + 1]);
+		}
+		for (int i = 8; i < 16; i += 2) {
+			sum += Converter.get().toDoubleValue(line, bounds[i], bounds[i + 1]);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double parseSubstrings() {
+		double sum = 0;
+		for (int i = 0; i < 8; i += 2) {
+			String value = line.substring(bounds[i], bounds[i + 1]).trim();
+			if (value.startsWith("+")) {
+				value = value.substring(1);
+			}
+			sum += Integer.parseInt(value);
+		}
+		for (int i = 8; i < 16; i += 2) {
+			String value = line.substring(bounds[i], bounds[i + 1]).trim();
+			if (value.startsWith("+")) {
+				value = value.substring(1);
+			}
+			sum += Double.parseDouble(value);
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,101 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link TypeCache#get(Class)} of various cache implementations,
+ * read by 4 threads.
+ * <pre>
+
+gradlew TypeCache_getBenchmark
+
+TypeCache_getBenchmark.get        classValue  thrpt   10011.480 ops/ms
+TypeCache_getBenchmark.get        concurrent  thrpt   10518.861 ops/ms
+TypeCache_getBenchmark.get  weakSynchronized  thrpt    2669.126 ops/ms
+TypeCache_getBenchmark.get          identity  thrpt   10304.969 ops/ms
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Threads(4)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TypeCache_getBenchmark {
+
+	@Param({"classValue", "concurrent", "weakSynchronized", "identity"})
+	public String type;
+
+	private final Class[] types = {
+		String.class, Integer.class, Long.class, Double.class,
+		Float.class, Short.class, Byte.class, Character.class,
+		Boolean.class, Object.class, StringBuilder.class, Math.class,
+		Thread.class, Runnable.class, Number.class, Class.class,
+	};
+
+	private TypeCache<Object> cache;
+
+	@Setup
+	public void prepare() {
+		final TypeCache.Builder<Object> builder = TypeCache.create();
+		switch (type) {
+			case "classValue": builder.classValue(true); break;
+			case "concurrent": builder.threadsafe(true); break;
+			case "weakSynchronized": builder.weak(true).threadsafe(true); break;
+			default: break;
+		}
+		cache = builder.get();
+		for (final Class c : types) {
+			cache.put(c, c.getName());
+		}
+	}
+
+	@Benchmark
+	public int get() {
+		int result = 0;
+		for (final Class c : types) {
+			result += cache.get(c).hashCode();
+		}
+		return result;
+	}
+}
@@ -0,0 +1,113 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention benchmark for {@link TypeCache#get(Class, java.util.function.Function)}:
+ * 7 threads read already loaded types while one thread keeps reloading a type
+ * with an expensive mapping function.
+ * <pre>
+
+gradlew TypeCache_loadBenchmark
+
+TypeCache_loadBenchmark.contended:read  weakSynchronized  thrpt    3621.376 ops/ms
+TypeCache_loadBenchmark.contended:read        concurrent  thrpt   12413.076 ops/ms
+TypeCache_loadBenchmark.contended:read           bounded  thrpt    2680.513 ops/ms
+
+ </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Group)
+public class TypeCache_loadBenchmark {
+
+	@Param({"weakSynchronized", "concurrent", "bounded"})
+	public String type;
+
+	private final Class[] types = {
+		String.class, Integer.class, Long.class, Double.class,
+		Float.class, Short.class, Byte.class, Character.class,
+	};
+
+	private TypeCache<Object> cache;
+
+	@Setup
+	public void prepare() {
+		final TypeCache.Builder<Object> builder = TypeCache.create();
+		switch (type) {
+			case "weakSynchronized": builder.weak(true).threadsafe(true); break;
+			case "concurrent": builder.threadsafe(true); break;
+			case "bounded": builder.maxSize(64); break;
+			default: break;
+		}
+		cache = builder.get();
+		for (final Class c : types) {
+			cache.put(c, c.getName());
+		}
+	}
+
+	@Benchmark
+	@Group("contended")
+	@GroupThreads(7)
+	public int read() {
+		int result = 0;
+		for (final Class c : types) {
+			result += cache.get(c, Class::getName).hashCode();
+		}
+		return result;
+	}
+
+	@Benchmark
+	@Group("contended")
+	@GroupThreads(1)
+	public Object load() {
+		cache.remove(Thread.class);
+		return cache.get(Thread.class, c -> {
+			Blackhole.consumeCPU(100_000);
+			return c.getName();
+		});
+	}
+}
@@ -0,0 +1,529 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.bean;
+
+import jodd.introspector.ClassDescriptor;
+import jodd.introspector.ClassIntrospector;
+import jodd.introspector.CtorDescriptor;
+import jodd.introspector.FieldDescriptor;
+import jodd.util.TypeCache;
+
+import java.io.File;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Deep clone of an object graph. Beans are cloned field by field, using plans that
+ * are resolved once per type from the {@link ClassDescriptor}: default constructor
+ * and all instance fields of the class and its superclasses. Every object is cloned
+ * only once, so cycles and shared references are preserved in the clone.
+ * <p>
+ * Arrays, collections and maps are cloned element by element. Collections and maps
+ * are created using the public default constructor of their type; when there is
+ * none (e.g. for unmodifiable collections), a <code>List</code>, <code>Set</code>
+ * or a <code>Map</code> with the same iteration order is created instead.
+ * Strings, boxed primitives, big numbers, <code>java.time</code> values, enums
+ * and other known immutable JDK types are not cloned. <code>Date</code>,
+ * <code>Calendar</code> and other JDK types with public <code>clone()</code>
+ * method are cloned with it, while atomics and string builders are copied.
+ * Cloning of any other JDK type fails, unless a strategy is set for it.
+ * <p>
+ * Cloning of specific types can be changed with {@link #shallow(Class)},
+ * {@link #skip(Class)} and {@link #custom(Class, UnaryOperator)}. Strategy is
+ * applied to values of the given type and its subtypes. Once configured,
+ * instance is thread-safe.
+ */
+public class BeanClone {
+
+	/**
+	 * Creates new bean clone.
+	 */
+	public static BeanClone create() {
+		return new BeanClone();
+	}
+
+	private static final UnaryOperator<Object> NO_STRATEGY = value -> value;
+
+	private final Map<Class, UnaryOperator<Object>> strategies = new LinkedHashMap<>();
+	private final TypeCache<UnaryOperator<Object>> resolvedStrategies = TypeCache.<UnaryOperator<Object>>create().threadsafe(true).get();
+
+	// ---------------------------------------------------------------- strategies
+
+	/**
+	 * Values of given type are not cloned, the clone references the same instance.
+	 */
+	public BeanClone shallow(final Class type) {
+		return strategy(type, value -> value);
+	}
+
+	/**
+	 * Values of given type are not cloned, the clone references <code>null</code> instead.
+	 */
+	public BeanClone skip(final Class type) {
+		return strategy(type, value -> null);
+	}
+
+	/**
+	 * Values of given type are cloned by the given function.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> BeanClone custom(final Class<T> type, final UnaryOperator<T> cloner) {
+		return strategy(type, (UnaryOperator<Object>) cloner);
+	}
+
+	private BeanClone strategy(final Class type, final UnaryOperator<Object> strategy) {
+		strategies.put(type, strategy);
+		resolvedStrategies.clear();
+		return this;
+	}
+
+	/**
+	 * Returns strategy for given type, or {@link #NO_STRATEGY}. The exact type
+	 * is matched first, then the first registered supertype.
+	 */
+	private UnaryOperator<Object> resolveStrategy(final Class type) {
+		if (strategies.isEmpty()) {
+			return NO_STRATEGY;
+		}
+		return resolvedStrategies.get(type, t -> {
+			final UnaryOperator<Object> strategy = strategies.get(t);
+			if (strategy != null) {
+				return strategy;
+			}
+			for (final Map.Entry<Class, UnaryOperator<Object>> entry : strategies.entrySet()) {
+				if (entry.getKey().isAssignableFrom(t)) {
+					return entry.getValue();
+				}
+			}
+			return NO_STRATEGY;
+		});
+	}
+
+	// ---------------------------------------------------------------- clone
+
+	/**
+	 * Returns deep clone of the given object.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T clone(final T source) {
+		return (T) new Cloning().clone(source);
+	}
+
+	/**
+	 * Single cloning with its own identity map of already cloned objects.
+	 */
+	private class Cloning {
+		private final Map<Object, Object> clones = new IdentityHashMap<>();
+
+		private Object clone(final Object source) {
+			if (source == null) {
+				return null;
+			}
+			final Class type = source.getClass();
+
+			final UnaryOperator<Object> strategy = resolveStrategy(type);
+			final ClonePlan plan = strategy == NO_STRATEGY ? ClonePlan.of(type) : null;
+
+			if (plan != null && plan.kind == Kind.IMMUTABLE) {
+				return source;
+			}
+
+			Object clone = clones.get(source);
+			if (clone != null) {
+				return clone;
+			}
+
+			if (plan == null) {
+				clone = strategy.apply(source);
+				if (clone != null) {
+					clones.put(source, clone);
+				}
+				return clone;
+			}
+
+			switch (plan.kind) {
+				case ARRAY:
+					return cloneArray(source, type);
+				case COLLECTION:
+					return cloneCollection((Collection<?>) source, plan);
+				case MAP:
+					return cloneMap((Map<?, ?>) source, plan);
+				case CLONEABLE:
+					clone = plan.cloneObject(source);
+					clones.put(source, clone);
+					return clone;
+				case COPY:
+					clone = plan.copier.apply(source);
+					clones.put(source, clone);
+					return clone;
+				case UNSUPPORTED:
+					throw new BeanException("Cloning not supported: " + type.getName());
+				default:
+					return cloneBean(source, plan);
+			}
+		}
+
+		private Object cloneArray(final Object source, final Class type) {
+			final int length = Array.getLength(source);
+
+			if (type.getComponentType().isPrimitive()) {
+				final Object clone = Array.newInstance(type.getComponentType(), length);
+				System.arraycopy(source, 0, clone, 0, length);
+				clones.put(source, clone);
+				return clone;
+			}
+
+			final Object[] array = (Object[]) source;
+			final Object[] clone = (Object[]) Array.newInstance(type.getComponentType(), length);
+			clones.put(source, clone);
+
+			for (int i = 0; i < length; i++) {
+				clone[i] = clone(array[i]);
+			}
+			return clone;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Object cloneCollection(final Collection<?> source, final ClonePlan plan) {
+			if (source instanceof EnumSet) {
+				final Object clone = EnumSet.copyOf((EnumSet) source);
+				clones.put(source, clone);
+				return clone;
+			}
+
+			final Collection<Object> clone;
+			if (source instanceof SortedSet) {
+				clone = new TreeSet<>(((SortedSet) source).comparator());
+			}
+			else if (plan.constructor != null) {
+				clone = (Collection<Object>) plan.newInstance();
+			}
+			else if (source instanceof List) {
+				clone = new ArrayList<>(source.size());
+			}
+			else if (source instanceof Set) {
+				clone = new LinkedHashSet<>();
+			}
+			else if (source instanceof Queue) {
+				clone = new ArrayDeque<>(source.size());
+			}
+			else {
+				clone = new ArrayList<>(source.size());
+			}
+			clones.put(source, clone);
+
+			for (final Object element : source) {
+				clone.add(clone(element));
+			}
+			return clone;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Object cloneMap(final Map<?, ?> source, final ClonePlan plan) {
+			final Map<Object, Object> clone;
+			if (source instanceof EnumMap) {
+				clone = new EnumMap((EnumMap) source);
+			}
+			else if (source instanceof SortedMap) {
+				clone = new TreeMap<>(((SortedMap) source).comparator());
+			}
+			else if (plan.constructor != null) {
+				clone = (Map<Object, Object>) plan.newInstance();
+			}
+			else {
+				clone = new LinkedHashMap<>();
+			}
+			clones.put(source, clone);
+
+			for (final Map.Entry<?, ?> entry : source.entrySet()) {
+				clone.put(clone(entry.getKey()), clone(entry.getValue()));
+			}
+			return clone;
+		}
+
+		private Object cloneBean(final Object source, final ClonePlan plan) {
+			final Object clone = plan.newInstance();
+			clones.put(source, clone);
+
+			try {
+				for (final Field field : plan.primitiveFields) {
+					field.set(clone, field.get(source));
+				}
+				for (final Field field : plan.fields) {
+					field.set(clone, clone(field.get(source)));
+				}
+			}
+			catch (final IllegalAccessException ex) {
+				throw new BeanException("Cloning failed: " + plan.type.getName(), ex);
+			}
+			return clone;
+		}
+	}
+
+	// ---------------------------------------------------------------- plan
+
+	private enum Kind {
+		IMMUTABLE, ARRAY, COLLECTION, MAP, CLONEABLE, COPY, BEAN, UNSUPPORTED
+	}
+
+	/**
+	 * JDK types that are immutable and are shared between the source and the clone.
+	 */
+	private static final Set<Class> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+		Object.class, String.class, Boolean.class, Character.class,
+		Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+		BigInteger.class, BigDecimal.class, Class.class, UUID.class,
+		Locale.class, Currency.class, Pattern.class, URI.class, URL.class, File.class,
+		Instant.class, Duration.class, Period.class,
+		LocalDate.class, LocalTime.class, LocalDateTime.class,
+		OffsetTime.class, OffsetDateTime.class, ZonedDateTime.class,
+		Year.class, YearMonth.class, MonthDay.class
+	));
+
+	/**
+	 * Immutable JDK supertypes, whose implementations are not public.
+	 */
+	private static final Class[] IMMUTABLE_SUPERTYPES = new Class[] {
+		ZoneId.class, Charset.class, Path.class
+	};
+
+	/**
+	 * Copy functions of mutable JDK types that are not cloneable.
+	 */
+	private static final Map<Class, UnaryOperator<Object>> COPIERS = new HashMap<>();
+
+	static {
+		COPIERS.put(AtomicBoolean.class, value -> new AtomicBoolean(((AtomicBoolean) value).get()));
+		COPIERS.put(AtomicInteger.class, value -> new AtomicInteger(((AtomicInteger) value).get()));
+		COPIERS.put(AtomicLong.class, value -> new AtomicLong(((AtomicLong) value).get()));
+		COPIERS.put(StringBuilder.class, value -> new StringBuilder((StringBuilder) value));
+		COPIERS.put(StringBuffer.class, value -> new StringBuffer((StringBuffer) value));
+	}
+
+	private static boolean isImmutable(final Class type) {
+		if (type.isEnum() || Enum.class.isAssignableFrom(type) || IMMUTABLE_TYPES.contains(type)) {
+			return true;
+		}
+		for (final Class supertype : IMMUTABLE_SUPERTYPES) {
+			if (supertype.isAssignableFrom(type)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Resolved cloning of a single type.
+	 */
+	private static class ClonePlan {
+
+		private static final TypeCache<ClonePlan> PLANS = TypeCache.<ClonePlan>create().classValue(true).get();
+
+		/**
+		 * Returns clone plan for given type.
+		 */
+		private static ClonePlan of(final Class type) {
+			return PLANS.get(type, ClonePlan::new);
+		}
+
+		private final Class type;
+		private final Kind kind;
+		private final Constructor constructor;
+		private final Method cloneMethod;
+		private final UnaryOperator<Object> copier;
+		private final Field[] primitiveFields;
+		private final Field[] fields;
+
+		private ClonePlan(final Class type) {
+			this.type = type;
+
+			final ClassIntrospector introspector = ClassIntrospector.get();
+			final ClassDescriptor cd = introspector.lookup(type);
+
+			Kind kind;
+			Constructor constructor = null;
+			Method cloneMethod = null;
+			final UnaryOperator<Object> copier = COPIERS.get(type);
+			final List<Field> primitiveFields = new ArrayList<>();
+			final List<Field> fields = new ArrayList<>();
+
+			if (type.isArray()) {
+				kind = Kind.ARRAY;
+			}
+			else if (cd.isCollection() || cd.isMap()) {
+				kind = cd.isMap() ? Kind.MAP : Kind.COLLECTION;
+				final CtorDescriptor ctor = cd.getDefaultCtorDescriptor(false);
+				if (ctor != null && Modifier.isPublic(type.getModifiers())) {
+					constructor = ctor.getConstructor();
+				}
+			}
+			else if (Date.class.isAssignableFrom(type) || Calendar.class.isAssignableFrom(type)) {
+				kind = Kind.CLONEABLE;
+				try {
+					cloneMethod = type.getMethod("clone");
+				}
+				catch (final NoSuchMethodException ex) {
+					throw new BeanException("Clone method not found: " + type.getName(), ex);
+				}
+			}
+			else if (isImmutable(type)) {
+				kind = Kind.IMMUTABLE;
+			}
+			else if (copier != null) {
+				kind = Kind.COPY;
+			}
+			else if (cd.isSystemClass()) {
+				cloneMethod = Cloneable.class.isAssignableFrom(type) ? publicCloneMethod(type) : null;
+				kind = cloneMethod != null ? Kind.CLONEABLE : Kind.UNSUPPORTED;
+			}
+			else {
+				kind = Kind.BEAN;
+				final CtorDescriptor ctor = cd.getDefaultCtorDescriptor(true);
+				if (ctor != null) {
+					constructor = ctor.getConstructor();
+				}
+
+				for (Class c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+					final ClassDescriptor classDescriptor = introspector.lookup(c);
+
+					for (final FieldDescriptor fieldDescriptor : classDescriptor.getAllFieldDescriptors()) {
+						final Field field = fieldDescriptor.getField();
+						if (field.getDeclaringClass() != c || Modifier.isStatic(field.getModifiers())) {
+							continue;
+						}
+						if (field.getType().isPrimitive()) {
+							primitiveFields.add(field);
+						}
+						else {
+							fields.add(field);
+						}
+					}
+				}
+			}
+
+			this.kind = kind;
+			this.constructor = constructor;
+			this.cloneMethod = cloneMethod;
+			this.copier = copier;
+			this.primitiveFields = primitiveFields.toArray(new Field[0]);
+			this.fields = fields.toArray(new Field[0]);
+		}
+
+		/**
+		 * Returns public <code>clone()</code> method of the type, or <code>null</code>.
+		 */
+		private static Method publicCloneMethod(final Class type) {
+			if (!Modifier.isPublic(type.getModifiers())) {
+				return null;
+			}
+			try {
+				return type.getMethod("clone");
+			}
+			catch (final NoSuchMethodException ex) {
+				return null;
+			}
+		}
+
+		/**
+		 * Creates new instance using the default constructor.
+		 */
+		private Object newInstance() {
+			if (constructor == null) {
+				throw new BeanException("Default constructor not found: " + type.getName());
+			}
+			try {
+				return constructor.newInstance();
+			}
+			catch (final Exception ex) {
+				throw new BeanException("Bean instantiation failed: " + type.getName(), ex);
+			}
+		}
+
+		/**
+		 * Clones the object using its <code>clone()</code> method.
+		 */
+		private Object cloneObject(final Object source) {
+			try {
+				return cloneMethod.invoke(source);
+			}
+			catch (final Exception ex) {
+				throw new BeanException("Cloning failed: " + type.getName(), ex);
+			}
+		}
+	}
+}
@@ -25,9 +25,13 @@
 
 package jodd.bean;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static jodd.util.StringPool.LEFT_SQ_BRACKET;
 import static jodd.util.StringPool.RIGHT_SQ_BRACKET;
@@ -72,6 +76,22 @@ public class BeanCopy {
 		return new BeanCopy(source);
 	}
 
+	/**
+	 * Creates <code>BulkBeanCopy</code> that copies each of the source beans
+	 * into a new destination bean, created by the supplier.
+	 */
+	public static <D> BulkBeanCopy<D> fromAll(final Collection<?> sources, final Supplier<D> destinationSupplier) {
+		return new BulkBeanCopy<>(sources, destinationSupplier);
+	}
+
+	/**
+	 * Creates <code>BulkBeanCopy</code> from the stream of source beans.
+	 * @see #fromAll(Collection, Supplier)
+	 */
+	public static <D> BulkBeanCopy<D> fromAll(final Stream<?> sources, final Supplier<D> destinationSupplier) {
+		return new BulkBeanCopy<>(sources.collect(Collectors.toList()), destinationSupplier);
+	}
+
 	/**
 	 * Defines destination, detects a map.
 	 */
@@ -116,9 +136,18 @@ public class BeanCopy {
 	// ---------------------------------------------------------------- visitor
 
 	/**
-	 * Performs the copying.
+	 * Performs the copying. Copying between two POJO beans uses
+	 * a copy plan, that is created once per types and flags.
 	 */
 	public void copy() {
+		if (!isTargetMap && source != null && destination != null) {
+			final BeanCopyPlan plan = BeanCopyPlan.of(source.getClass(), destination.getClass(), declared, includeFields);
+			if (plan != null) {
+				plan.copy(source, destination, filter, filter2);
+				return;
+			}
+		}
+
 		final BeanUtil beanUtil = new BeanUtilBean()
 						.declared(declared)
 						.forced(forced)
@@ -0,0 +1,198 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.bean;
+
+import jodd.bean.exception.InvokePropertyBeanException;
+import jodd.introspector.ClassDescriptor;
+import jodd.introspector.Getter;
+import jodd.introspector.PropertyDescriptor;
+import jodd.introspector.Setter;
+import jodd.util.TypeCache;
+
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Precomputed {@link BeanCopy} between two POJO types. The plan is a flat list of
+ * copy steps: source getter, conversion and destination setter. Plans are created
+ * once per source type, destination type and flags combination and run without
+ * parsing property names.
+ */
+class BeanCopyPlan {
+
+	private static final TypeCache<TypeCache<BeanCopyPlan[]>> PLANS =
+		TypeCache.<TypeCache<BeanCopyPlan[]>>create().classValue(true).get();
+	private static final TypeCache<TypeCache<BeanCopyPlan[]>> PLANS_BY_DESTINATION =
+		TypeCache.<TypeCache<BeanCopyPlan[]>>create().classValue(true).get();
+
+	/**
+	 * Returns copy plan for given types. Returns <code>null</code>
+	 * if types can not be copied by a plan.
+	 * <p>
+	 * Plans are cached with the type that sees the other type's class loader,
+	 * so the cache never keeps a class of a child class loader alive. Types of
+	 * unrelated class loaders are not cached.
+	 */
+	static BeanCopyPlan of(final Class sourceType, final Class destinationType, final boolean declared, final boolean includeFields) {
+		final BeanCopyPlan[] plans;
+		if (isVisible(sourceType, destinationType)) {
+			plans = plans(PLANS, sourceType, destinationType);
+		}
+		else if (isVisible(destinationType, sourceType)) {
+			plans = plans(PLANS_BY_DESTINATION, destinationType, sourceType);
+		}
+		else {
+			plans = new BeanCopyPlan[4];
+		}
+
+		final int ndx = (declared ? 1 : 0) + (includeFields ? 2 : 0);
+
+		BeanCopyPlan plan = plans[ndx];
+		if (plan == null) {
+			plan = new BeanCopyPlan(sourceType, destinationType, declared, includeFields);
+			plans[ndx] = plan;
+		}
+		return plan.names != null ? plan : null;
+	}
+
+	private static BeanCopyPlan[] plans(final TypeCache<TypeCache<BeanCopyPlan[]>> cache, final Class owner, final Class other) {
+		final TypeCache<BeanCopyPlan[]> otherPlans =
+			cache.get(owner, type -> TypeCache.<BeanCopyPlan[]>create().threadsafe(true).get());
+		return otherPlans.get(other, type -> new BeanCopyPlan[4]);
+	}
+
+	/**
+	 * Returns <code>true</code> if class loader of the type is the class loader
+	 * of the owner or one of its parents.
+	 */
+	private static boolean isVisible(final Class owner, final Class type) {
+		final ClassLoader typeClassLoader = type.getClassLoader();
+		if (typeClassLoader == null) {
+			return true;
+		}
+		ClassLoader classLoader = owner.getClassLoader();
+		while (classLoader != null) {
+			if (classLoader == typeClassLoader) {
+				return true;
+			}
+			classLoader = classLoader.getParent();
+		}
+		return false;
+	}
+
+	/**
+	 * Bean util used for exception messages and value conversion.
+	 */
+	private final BeanUtilBean beanUtilBean;
+
+	private final String[] names;		// null when plan is not possible
+	private final Getter[] getters;
+	private final Setter[] setters;
+
+	private BeanCopyPlan(final Class sourceType, final Class destinationType, final boolean declared, final boolean includeFields) {
+		this.beanUtilBean = new BeanUtilBean().declared(declared);
+
+		final ClassDescriptor sourceDescriptor = beanUtilBean.introspector.lookup(sourceType);
+		final ClassDescriptor destinationDescriptor = beanUtilBean.introspector.lookup(destinationType);
+
+		if (isNotPlain(sourceDescriptor) || isNotPlain(destinationDescriptor)) {
+			this.names = null;
+			this.getters = null;
+			this.setters = null;
+			return;
+		}
+
+		final String[] names = new BeanVisitor(null)
+			.includeFields(includeFields)
+			.getAllBeanPropertyNames(sourceType, declared);
+
+		final Getter[] getters = new Getter[names.length];
+		final Setter[] setters = new Setter[names.length];
+
+		for (int i = 0; i < names.length; i++) {
+			final PropertyDescriptor getterDescriptor = sourceDescriptor.getPropertyDescriptor(names[i], true);
+			getters[i] = getterDescriptor != null ? getterDescriptor.getGetter(declared) : null;
+
+			if (getters[i] == null) {
+				// property can not be read, let the BeanCopy report it
+				this.names = null;
+				this.getters = null;
+				this.setters = null;
+				return;
+			}
+
+			final PropertyDescriptor setterDescriptor = destinationDescriptor.getPropertyDescriptor(names[i], true);
+			setters[i] = setterDescriptor != null ? setterDescriptor.getSetter(declared) : null;
+		}
+
+		this.names = names;
+		this.getters = getters;
+		this.setters = setters;
+	}
+
+	private static boolean isNotPlain(final ClassDescriptor cd) {
+		return cd.isMap() || cd.isSupplier();
+	}
+
+	/**
+	 * Copies all properties from source to destination.
+	 */
+	void copy(final Object source, final Object destination, final Predicate<String> filter, final BiPredicate<String, Object> filter2) {
+		for (int i = 0; i < names.length; i++) {
+			final String name = names[i];
+
+			final Object value;
+			try {
+				value = getters[i].invokeGetter(source);
+			}
+			catch (final Exception ex) {
+				throw new InvokePropertyBeanException("Invoking getter method failed.", new BeanProperty(beanUtilBean, source, name, false), ex);
+			}
+
+			if (filter != null) {
+				if (!filter.test(name)) {
+					continue;
+				}
+			}
+			if (filter2 != null) {
+				if (!filter2.test(name, value)) {
+					continue;
+				}
+			}
+
+			final Setter setter = setters[i];
+			if (setter == null) {
+				continue;
+			}
+			try {
+				setter.invokeSetter(destination, beanUtilBean.convertSetterValue(setter, value));
+			}
+			catch (final Exception ignore) {
+				// silent, as BeanCopy
+			}
+		}
+	}
+}
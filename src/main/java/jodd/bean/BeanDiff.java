@@ -0,0 +1,374 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.bean;
+
+import jodd.bean.exception.InvokePropertyBeanException;
+import jodd.introspector.ClassDescriptor;
+import jodd.introspector.Getter;
+import jodd.util.TypeCache;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Compares two beans of the same type property by property and reports
+ * changed properties with their old and new values. Properties are the same
+ * as visited by the {@link BeanVisitor}. For each bean type, property getters
+ * are resolved once into a diff plan, so comparing beans does not look up
+ * properties by name. {@link Change} objects are created only for changed
+ * properties.
+ * <p>
+ * By default, property values are compared using <code>equals()</code>.
+ * When {@link #maxDepth(int) maximal depth} is set, nested beans are
+ * compared property by property, and lists, arrays and maps element by
+ * element, up to the given depth.
+ */
+public class BeanDiff {
+
+	/**
+	 * Creates new bean diff.
+	 */
+	public static BeanDiff create() {
+		return new BeanDiff();
+	}
+
+	private boolean declared;
+	private boolean includeFields;
+	private int maxDepth;
+
+	/**
+	 * Defines if all properties should be compared (when set to <code>true</code>)
+	 * or only public (when set to <code>false</code>, default).
+	 */
+	public BeanDiff declared(final boolean declared) {
+		this.declared = declared;
+		return this;
+	}
+
+	/**
+	 * Defines if fields without getters should be compared too.
+	 */
+	public BeanDiff includeFields(final boolean includeFields) {
+		this.includeFields = includeFields;
+		return this;
+	}
+
+	/**
+	 * Defines how deep nested values are compared. Nested beans are compared property
+	 * by property, lists and arrays of the same size element by element and maps entry
+	 * by entry. When set to <code>0</code> (default), properties are compared only
+	 * using <code>equals()</code>.
+	 */
+	public BeanDiff maxDepth(final int maxDepth) {
+		if (maxDepth < 0) {
+			throw new IllegalArgumentException("Invalid max depth: " + maxDepth);
+		}
+		this.maxDepth = maxDepth;
+		return this;
+	}
+
+	// ---------------------------------------------------------------- diff
+
+	/**
+	 * Compares two beans and returns the list of changes. Any bean may be <code>null</code>,
+	 * then all values of the other bean are reported as changed.
+	 */
+	public List<Change> diff(final Object oldBean, final Object newBean) {
+		final List<Change> changes = new ArrayList<>();
+		diff(oldBean, newBean, changes::add);
+		return changes;
+	}
+
+	/**
+	 * Compares two beans and passes each change to the consumer.
+	 * @see #diff(Object, Object)
+	 */
+	public void diff(final Object oldBean, final Object newBean, final Consumer<Change> changeConsumer) {
+		if (oldBean == null && newBean == null) {
+			return;
+		}
+		final Class type = oldBean != null ? oldBean.getClass() : newBean.getClass();
+
+		if (oldBean != null && newBean != null && newBean.getClass() != type) {
+			throw new IllegalArgumentException("Beans are of different types: " + type.getName() + ", " + newBean.getClass().getName());
+		}
+
+		final DiffPlan plan = DiffPlan.of(type, declared, includeFields);
+		if (plan.getters == null) {
+			diffValues(new StringBuilder(), -1, oldBean, newBean, 0, changeConsumer);
+			return;
+		}
+		diffBeans(new StringBuilder(), plan, oldBean, newBean, 0, changeConsumer);
+	}
+
+	/**
+	 * Compares all properties of two beans. Either bean may be <code>null</code>.
+	 */
+	private void diffBeans(final StringBuilder path, final DiffPlan plan, final Object oldBean, final Object newBean, final int depth, final Consumer<Change> changeConsumer) {
+		final int pathLength = path.length();
+
+		for (int i = 0; i < plan.getters.length; i++) {
+			final Object oldValue = oldBean != null ? plan.get(oldBean, i) : null;
+			final Object newValue = newBean != null ? plan.get(newBean, i) : null;
+
+			if (oldValue == newValue) {
+				continue;
+			}
+			if (pathLength != 0) {
+				path.append('.');
+			}
+			path.append(plan.names[i]);
+
+			diffValues(path, plan.slots[i], oldValue, newValue, depth, changeConsumer);
+
+			path.setLength(pathLength);
+		}
+	}
+
+	/**
+	 * Compares two values of a property or an element.
+	 */
+	private void diffValues(final StringBuilder path, final int slot, final Object oldValue, final Object newValue, final int depth, final Consumer<Change> changeConsumer) {
+		if (oldValue == newValue) {
+			return;
+		}
+		if (oldValue == null || newValue == null || depth >= maxDepth || oldValue.getClass() != newValue.getClass()) {
+			if (!Objects.deepEquals(oldValue, newValue)) {
+				changeConsumer.accept(new Change(path.toString(), slot, oldValue, newValue));
+			}
+			return;
+		}
+
+		final Class type = oldValue.getClass();
+
+		if (type.isArray()) {
+			final int length = Array.getLength(oldValue);
+			if (type.getComponentType().isPrimitive() || length != Array.getLength(newValue)) {
+				if (!Objects.deepEquals(oldValue, newValue)) {
+					changeConsumer.accept(new Change(path.toString(), slot, oldValue, newValue));
+				}
+				return;
+			}
+			for (int i = 0; i < length; i++) {
+				diffElement(path, slot, i, Array.get(oldValue, i), Array.get(newValue, i), depth, changeConsumer);
+			}
+			return;
+		}
+		if (oldValue instanceof List) {
+			final List oldList = (List) oldValue;
+			final List newList = (List) newValue;
+			if (oldList.size() != newList.size()) {
+				changeConsumer.accept(new Change(path.toString(), slot, oldValue, newValue));
+				return;
+			}
+			final Iterator oldIterator = oldList.iterator();
+			final Iterator newIterator = newList.iterator();
+			int i = 0;
+			while (oldIterator.hasNext()) {
+				diffElement(path, slot, i++, oldIterator.next(), newIterator.next(), depth, changeConsumer);
+			}
+			return;
+		}
+		if (oldValue instanceof Map) {
+			final Map<?, ?> oldMap = (Map) oldValue;
+			final Map<?, ?> newMap = (Map) newValue;
+			for (final Map.Entry<?, ?> entry : oldMap.entrySet()) {
+				diffElement(path, slot, entry.getKey(), entry.getValue(), newMap.get(entry.getKey()), depth, changeConsumer);
+			}
+			for (final Map.Entry<?, ?> entry : newMap.entrySet()) {
+				if (!oldMap.containsKey(entry.getKey())) {
+					diffElement(path, slot, entry.getKey(), null, entry.getValue(), depth, changeConsumer);
+				}
+			}
+			return;
+		}
+
+		final DiffPlan plan = DiffPlan.of(type, declared, includeFields);
+		if (plan.getters == null) {
+			if (!oldValue.equals(newValue)) {
+				changeConsumer.accept(new Change(path.toString(), slot, oldValue, newValue));
+			}
+			return;
+		}
+		diffBeans(path, plan, oldValue, newValue, depth + 1, changeConsumer);
+	}
+
+	/**
+	 * Compares elements of arrays, lists or maps.
+	 */
+	private void diffElement(final StringBuilder path, final int slot, final Object key, final Object oldValue, final Object newValue, final int depth, final Consumer<Change> changeConsumer) {
+		if (oldValue == newValue) {
+			return;
+		}
+		final int pathLength = path.length();
+		path.append('[').append(key).append(']');
+
+		diffValues(path, slot, oldValue, newValue, depth + 1, changeConsumer);
+
+		path.setLength(pathLength);
+	}
+
+	// ---------------------------------------------------------------- change
+
+	/**
+	 * Single changed value.
+	 */
+	public static class Change {
+		private final String path;
+		private final int slot;
+		private final Object oldValue;
+		private final Object newValue;
+
+		public Change(final String path, final int slot, final Object oldValue, final Object newValue) {
+			this.path = path;
+			this.slot = slot;
+			this.oldValue = oldValue;
+			this.newValue = newValue;
+		}
+
+		/**
+		 * Returns the property path of the changed value, e.g. <code>address.city</code>
+		 * or <code>items[2].price</code>. Path is empty when compared beans are maps.
+		 */
+		public String getPath() {
+			return path;
+		}
+
+		/**
+		 * Returns the slot of the changed property in its class descriptor
+		 * (see {@link ClassDescriptor#getPropertySlot(String)}). For changed elements,
+		 * returns the slot of the property that holds them. Returns <code>-1</code>
+		 * for elements of the compared maps.
+		 */
+		public int getSlot() {
+			return slot;
+		}
+
+		/**
+		 * Returns the old value.
+		 */
+		public Object getOldValue() {
+			return oldValue;
+		}
+
+		/**
+		 * Returns the new value.
+		 */
+		public Object getNewValue() {
+			return newValue;
+		}
+
+		@Override
+		public String toString() {
+			return path + ": " + oldValue + " -> " + newValue;
+		}
+	}
+
+	// ---------------------------------------------------------------- plan
+
+	/**
+	 * Resolved properties of a single bean type.
+	 */
+	private static class DiffPlan {
+
+		private static final TypeCache<DiffPlan[]> PLANS = TypeCache.<DiffPlan[]>create().classValue(true).get();
+
+		/**
+		 * Returns diff plan for given type.
+		 */
+		private static DiffPlan of(final Class type, final boolean declared, final boolean includeFields) {
+			final DiffPlan[] plans = PLANS.get(type, t -> new DiffPlan[4]);
+			final int ndx = (declared ? 1 : 0) + (includeFields ? 2 : 0);
+
+			DiffPlan plan = plans[ndx];
+			if (plan == null) {
+				plan = new DiffPlan(type, declared, includeFields);
+				plans[ndx] = plan;
+			}
+			return plan;
+		}
+
+		/**
+		 * Bean util used for exception messages.
+		 */
+		private final BeanUtilBean beanUtilBean;
+
+		private final int[] slots;
+		private final String[] names;
+		private final Getter[] getters;		// null when values are compared with equals
+
+		private DiffPlan(final Class type, final boolean declared, final boolean includeFields) {
+			this.beanUtilBean = new BeanUtilBean().declared(declared);
+
+			final ClassDescriptor cd = beanUtilBean.introspector.lookup(type);
+
+			if (cd.isSystemClass() || cd.isMap() || cd.isCollection() || cd.isSupplier() || type.isEnum()) {
+				this.slots = null;
+				this.names = null;
+				this.getters = null;
+				return;
+			}
+
+			final int count = cd.getAllPropertyDescriptors().length;
+			final List<Integer> slots = new ArrayList<>(count);
+			for (int slot = 0; slot < count; slot++) {
+				if (BeanVisitor.isVisited(cd.getPropertyDescriptor(slot), declared, includeFields)
+					&& cd.getPropertyGetter(slot, declared) != null) {
+					slots.add(slot);
+				}
+			}
+
+			this.slots = new int[slots.size()];
+			this.names = new String[slots.size()];
+			this.getters = new Getter[slots.size()];
+
+			for (int i = 0; i < this.slots.length; i++) {
+				final int slot = slots.get(i);
+				this.slots[i] = slot;
+				this.names[i] = cd.getPropertyDescriptor(slot).getName();
+				this.getters[i] = cd.getPropertyGetter(slot, declared);
+			}
+		}
+
+		/**
+		 * Reads the property value.
+		 */
+		private Object get(final Object bean, final int ndx) {
+			try {
+				return getters[ndx].invokeGetter(bean);
+			}
+			catch (final Exception ex) {
+				throw new InvokePropertyBeanException("Invoking getter method failed.", new BeanProperty(beanUtilBean, bean, names[ndx], false), ex);
+			}
+		}
+	}
+}
@@ -0,0 +1,276 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.bean;
+
+import jodd.introspector.ClassDescriptor;
+import jodd.introspector.ClassIntrospector;
+import jodd.introspector.Getter;
+import jodd.introspector.PropertyDescriptor;
+import jodd.introspector.Setter;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Live <code>Map</code> view over a bean. Values are not copied: every
+ * {@link #get(Object)} invokes the property getter and every {@link #put(String, Object)}
+ * converts the value and invokes the property setter. Keys are names of readable
+ * properties, in the same way as {@link BeanVisitor} finds them. Properties can not
+ * be removed.
+ *
+ * @see MapBeanView
+ */
+public class BeanMapView extends AbstractMap<String, Object> {
+
+	/**
+	 * Creates map view over public bean properties.
+	 */
+	public static BeanMapView of(final Object bean) {
+		return new BeanMapView(bean, false, false);
+	}
+
+	/**
+	 * Creates map view over bean properties.
+	 * @see BeanVisitor#declared(boolean)
+	 * @see BeanVisitor#includeFields(boolean)
+	 */
+	public static BeanMapView of(final Object bean, final boolean declared, final boolean includeFields) {
+		return new BeanMapView(bean, declared, includeFields);
+	}
+
+	protected final Object bean;
+	protected final ClassDescriptor classDescriptor;
+	protected final boolean declared;
+	protected final boolean includeFields;
+
+	private Set<Entry<String, Object>> entrySet;
+
+	protected BeanMapView(final Object bean, final boolean declared, final boolean includeFields) {
+		this.bean = bean;
+		this.classDescriptor = ClassIntrospector.get().lookup(bean.getClass());
+		this.declared = declared;
+		this.includeFields = includeFields;
+	}
+
+	/**
+	 * Returns the bean.
+	 */
+	public Object getBean() {
+		return bean;
+	}
+
+	/**
+	 * Returns <code>true</code> if property is readable, i.e. if it is a map key.
+	 */
+	protected boolean isReadable(final PropertyDescriptor propertyDescriptor) {
+		return BeanVisitor.isVisited(propertyDescriptor, declared, includeFields);
+	}
+
+	/**
+	 * Returns readable property descriptor or <code>null</code>.
+	 */
+	private PropertyDescriptor lookupReadable(final Object key) {
+		if (!(key instanceof String)) {
+			return null;
+		}
+		final PropertyDescriptor propertyDescriptor = classDescriptor.getPropertyDescriptor((String) key, true);
+		if (propertyDescriptor == null || !isReadable(propertyDescriptor)) {
+			return null;
+		}
+		return propertyDescriptor;
+	}
+
+	private Object invokeGetter(final PropertyDescriptor propertyDescriptor) {
+		final Getter getter = propertyDescriptor.getGetter(declared);
+		try {
+			return getter.invokeGetter(bean);
+		}
+		catch (final Exception ex) {
+			throw new BeanException("Invoking getter failed: " + propertyDescriptor.getName(), ex);
+		}
+	}
+
+	// ---------------------------------------------------------------- map
+
+	@Override
+	public Object get(final Object key) {
+		final PropertyDescriptor propertyDescriptor = lookupReadable(key);
+		if (propertyDescriptor == null) {
+			return null;
+		}
+		return invokeGetter(propertyDescriptor);
+	}
+
+	@Override
+	public boolean containsKey(final Object key) {
+		return lookupReadable(key) != null;
+	}
+
+	/**
+	 * Sets the bean property. Value is converted to the property type.
+	 * Returns previous value, if property is readable.
+	 */
+	@Override
+	public Object put(final String key, final Object value) {
+		final PropertyDescriptor propertyDescriptor = classDescriptor.getPropertyDescriptor(key, true);
+		final Setter setter = propertyDescriptor != null ? propertyDescriptor.getSetter(declared) : null;
+
+		if (setter == null) {
+			throw new BeanException("Property not writable: " + key);
+		}
+
+		final Object oldValue = isReadable(propertyDescriptor) ? invokeGetter(propertyDescriptor) : null;
+
+		try {
+			setter.invokeSetter(bean, ((BeanUtilBean) BeanUtil.pojo).convertSetterValue(setter, value));
+		}
+		catch (final Exception ex) {
+			throw new BeanException("Invoking setter failed: " + key, ex);
+		}
+		return oldValue;
+	}
+
+	@Override
+	public Object remove(final Object key) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		if (entrySet == null) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	/**
+	 * Entries of readable properties. Values are read on access.
+	 */
+	private class EntrySet extends AbstractSet<Entry<String, Object>> {
+		private int size = -1;
+
+		@Override
+		public int size() {
+			if (size == -1) {
+				int count = 0;
+				for (final PropertyDescriptor propertyDescriptor : classDescriptor.getAllPropertyDescriptors()) {
+					if (isReadable(propertyDescriptor)) {
+						count++;
+					}
+				}
+				size = count;
+			}
+			return size;
+		}
+
+		@Override
+		public Iterator<Entry<String, Object>> iterator() {
+			final PropertyDescriptor[] propertyDescriptors = classDescriptor.getAllPropertyDescriptors();
+
+			return new Iterator<Entry<String, Object>>() {
+				private int next = advance(0);
+
+				private int advance(int ndx) {
+					while (ndx < propertyDescriptors.length && !isReadable(propertyDescriptors[ndx])) {
+						ndx++;
+					}
+					return ndx;
+				}
+
+				@Override
+				public boolean hasNext() {
+					return next < propertyDescriptors.length;
+				}
+
+				@Override
+				public Entry<String, Object> next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					final PropertyDescriptor propertyDescriptor = propertyDescriptors[next];
+					next = advance(next + 1);
+					return new PropertyEntry(propertyDescriptor);
+				}
+			};
+		}
+	}
+
+	/**
+	 * Live map entry of a single property.
+	 */
+	private class PropertyEntry implements Map.Entry<String, Object> {
+		private final PropertyDescriptor propertyDescriptor;
+
+		private PropertyEntry(final PropertyDescriptor propertyDescriptor) {
+			this.propertyDescriptor = propertyDescriptor;
+		}
+
+		@Override
+		public String getKey() {
+			return propertyDescriptor.getName();
+		}
+
+		@Override
+		public Object getValue() {
+			return invokeGetter(propertyDescriptor);
+		}
+
+		@Override
+		public Object setValue(final Object value) {
+			return put(propertyDescriptor.getName(), value);
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (!(o instanceof Map.Entry)) {
+				return false;
+			}
+			final Map.Entry e = (Map.Entry) o;
+			return getKey().equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			final Object value = getValue();
+			return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + '=' + getValue();
+		}
+	}
+}
@@ -0,0 +1,553 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.bean;
+
+import jodd.bean.exception.InvokePropertyBeanException;
+import jodd.introspector.ClassDescriptor;
+import jodd.introspector.Getter;
+import jodd.introspector.PropertyDescriptor;
+import jodd.introspector.Setter;
+import jodd.util.ArraysUtil;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled property name, created by {@link BeanUtil#compile(String)}.
+ * Property name is parsed only once. Each path segment caches resolved
+ * getters and setters for the last few bean types it has seen, so repeated
+ * access does not look up property descriptors again.
+ * <p>
+ * Results are the same as with {@link BeanUtil} methods that accept
+ * the property name. Special cases, like creating missing properties
+ * in forced mode, suppliers or reporting a missing property, are
+ * delegated to the {@link BeanUtilBean}. Flags of the {@link BeanUtilBean}
+ * are read when path is compiled. Compiled path is thread-safe.
+ */
+public class BeanPath {
+
+	private static final int MAX_SITES = 4;
+
+	// marks that the operation has to be delegated
+	static final Object DELEGATE = new Object();
+
+	protected final BeanUtilBean beanUtilBean;
+	protected final String name;
+	protected final boolean isDeclared;
+	protected final boolean isForced;
+	protected final boolean isSilent;
+
+	private final Segment[] segments;	// null when name can not be compiled
+
+	BeanPath(final BeanUtilBean beanUtilBean, final String name) {
+		this.beanUtilBean = beanUtilBean;
+		this.name = name;
+		this.isDeclared = beanUtilBean.isDeclared;
+		this.isForced = beanUtilBean.isForced;
+		this.isSilent = beanUtilBean.isSilent;
+		this.segments = parse(name);
+	}
+
+	/**
+	 * Splits the name into segments in the same way as {@link BeanUtilBean} does.
+	 * Returns <code>null</code> if some segment is not supported.
+	 */
+	private Segment[] parse(String name) {
+		Segment[] segments = new Segment[0];
+
+		while (true) {
+			final int dotNdx = beanUtilBean.indexOfDot(name);
+			final String chunk = dotNdx == -1 ? name : name.substring(0, dotNdx);
+
+			String segmentName = chunk;
+			String index = null;
+
+			final int lastNdx = chunk.length() - 1;
+			if (lastNdx >= 0 && chunk.charAt(lastNdx) == ']') {
+				final int leftBracketNdx = chunk.lastIndexOf('[');
+				if (leftBracketNdx != -1) {
+					segmentName = chunk.substring(0, leftBracketNdx);
+					index = chunk.substring(leftBracketNdx + 1, lastNdx);
+				}
+			}
+			if (segmentName.isEmpty() || segmentName.indexOf('[') != -1 || segmentName.indexOf(']') != -1) {
+				return null;
+			}
+
+			segments = ArraysUtil.append(segments, new Segment(segmentName, index));
+
+			if (dotNdx == -1) {
+				return segments;
+			}
+			name = name.substring(dotNdx + 1);
+		}
+	}
+
+	/**
+	 * Returns property name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	// ---------------------------------------------------------------- get
+
+	/**
+	 * Returns value of bean's property.
+	 * @see BeanUtil#getProperty(Object, String)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(final Object bean) {
+		if (segments != null && bean != null) {
+			Object value;
+			if (!isSilent) {
+				value = resolve(bean, segments.length, false);
+			}
+			else {
+				try {
+					value = resolve(bean, segments.length, false);
+				}
+				catch (final Exception ignore) {
+					return null;
+				}
+			}
+			if (value != DELEGATE) {
+				return (T) value;
+			}
+		}
+		return beanUtilBean.getProperty(bean, name);
+	}
+
+	/**
+	 * Resolves the value of first <code>count</code> segments.
+	 */
+	private Object resolve(final Object root, final int count, final boolean isSet) {
+		Object bean = root;
+
+		for (int i = 0; i < count; i++) {
+			if (bean == null) {
+				return missing(isSet);
+			}
+			bean = resolveSegment(root, bean, i, isSet);
+			if (bean == DELEGATE) {
+				return DELEGATE;
+			}
+		}
+		return bean;
+	}
+
+	/**
+	 * Resolves the value of a single segment on a non-null bean.
+	 */
+	private Object resolveSegment(final Object root, final Object bean, final int ndx, final boolean isSet) {
+		final Segment segment = segments[ndx];
+		final Site site = segment.site(bean.getClass());
+
+		final Object value = site.get(root, bean, isSet);
+		if (value == DELEGATE) {
+			return DELEGATE;
+		}
+		if (segment.index == null) {
+			return value;
+		}
+		if (value == null || (isSet && isForced)) {
+			return missing(isSet);
+		}
+		return segment.getIndexValue(site, value, isSet);
+	}
+
+	/**
+	 * Returns <code>true</code> if the name is compiled into segments.
+	 * Otherwise, all operations are delegated to the {@link BeanUtilBean}.
+	 */
+	boolean isCompiled() {
+		return segments != null;
+	}
+
+	/**
+	 * Returns the value of the last segment, read from the given bean that
+	 * is the value of all previous segments. Returns {@link #DELEGATE} when
+	 * the value has to be resolved by the {@link BeanUtilBean}.
+	 */
+	Object getLast(final Object root, final Object bean) {
+		if (bean == null) {
+			return missing(false);
+		}
+		return resolveSegment(root, bean, segments.length - 1, false);
+	}
+
+	/**
+	 * Invoked when value can not be resolved. In silent mode
+	 * it is safe to return <code>null</code>, unless properties
+	 * should be created.
+	 */
+	private Object missing(final boolean isSet) {
+		if (isSilent && !(isSet && isForced)) {
+			return null;
+		}
+		return DELEGATE;
+	}
+
+	// ---------------------------------------------------------------- set
+
+	/**
+	 * Sets bean's property.
+	 * @see BeanUtil#setProperty(Object, String, Object)
+	 */
+	public void set(final Object bean, final Object value) {
+		if (segments != null && bean != null) {
+			if (!isSilent) {
+				if (trySet(bean, value)) {
+					return;
+				}
+			}
+			else {
+				try {
+					if (trySet(bean, value)) {
+						return;
+					}
+				}
+				catch (final Exception ignore) {
+					return;
+				}
+			}
+		}
+		beanUtilBean.setProperty(bean, name, value);
+	}
+
+	/**
+	 * Sets the value of the last segment. Returns <code>false</code>
+	 * if operation has to be delegated.
+	 */
+	private boolean trySet(final Object root, final Object value) {
+		final Object target = resolve(root, segments.length - 1, true);
+		if (target == DELEGATE) {
+			return false;
+		}
+		if (target == null) {
+			return missing(true) != DELEGATE;
+		}
+
+		final Segment segment = segments[segments.length - 1];
+		final Site site = segment.site(target.getClass());
+
+		if (segment.index == null) {
+			return site.set(root, target, value);
+		}
+		if (isForced) {
+			return false;
+		}
+
+		final Object indexedBean = site.get(root, target, true);
+		if (indexedBean == DELEGATE) {
+			return false;
+		}
+		if (indexedBean == null) {
+			return missing(true) != DELEGATE;
+		}
+		return segment.setIndexValue(site, indexedBean, value);
+	}
+
+	// ---------------------------------------------------------------- has
+
+	/**
+	 * Returns <code>true</code> if bean has a property.
+	 * @see BeanUtil#hasProperty(Object, String)
+	 */
+	public boolean has(final Object bean) {
+		if (segments != null && bean != null && tryHas(bean)) {
+			return true;
+		}
+		return beanUtilBean.hasProperty(bean, name);
+	}
+
+	/**
+	 * Checks for existing properties. Returns <code>false</code>
+	 * if the check has to be delegated.
+	 */
+	private boolean tryHas(Object bean) {
+		final int last = segments.length - 1;
+
+		for (int i = 0; i < last; i++) {
+			final Segment segment = segments[i];
+			if (segment.index != null) {
+				return false;
+			}
+			final Site site = segment.site(bean.getClass());
+			if (site.delegate || site.getter == null) {
+				return false;
+			}
+			try {
+				bean = site.getter.invokeGetter(bean);
+			}
+			catch (final Exception ex) {
+				return false;
+			}
+			if (bean == null) {
+				return false;
+			}
+		}
+
+		final Segment segment = segments[last];
+		if (segment.index != null) {
+			return false;
+		}
+		final Site site = segment.site(bean.getClass());
+		if (site.delegate) {
+			return false;
+		}
+		if (site.getter != null) {
+			return true;
+		}
+		return site.map && ((Map) bean).containsKey(segment.name);
+	}
+
+	// ---------------------------------------------------------------- segments
+
+	/**
+	 * Creates the bean property used for exception messages.
+	 */
+	private BeanProperty beanProperty(final Object root, final Object bean, final String name, final boolean isSet) {
+		final BeanProperty bp = new BeanProperty(beanUtilBean, root, this.name, isSet);
+		if (bean != root) {
+			bp.updateBean(bean);
+		}
+		bp.setName(name);
+		return bp;
+	}
+
+	/**
+	 * Single segment of the property name, i.e. simple property name
+	 * with an optional index.
+	 */
+	private class Segment {
+		private final String name;
+		private final String index;
+		private final boolean isNumericIndex;
+		private final int numericIndex;
+
+		// inline cache of the last few bean types
+		private volatile Site[] sites = new Site[0];
+
+		private Segment(final String name, final String index) {
+			this.name = name;
+			this.index = index;
+
+			int numericIndex = 0;
+			boolean isNumericIndex = false;
+			if (index != null) {
+				try {
+					numericIndex = Integer.parseInt(index);
+					isNumericIndex = true;
+				}
+				catch (final NumberFormatException ignore) {
+				}
+			}
+			this.numericIndex = numericIndex;
+			this.isNumericIndex = isNumericIndex;
+		}
+
+		/**
+		 * Returns the site for given bean type.
+		 */
+		private Site site(final Class type) {
+			final Site[] sites = this.sites;
+
+			for (final Site site : sites) {
+				if (site.type == type) {
+					return site;
+				}
+			}
+
+			final Site site = new Site(this, type);
+			if (sites.length < MAX_SITES) {
+				this.sites = ArraysUtil.append(sites, site);
+			}
+			return site;
+		}
+
+		/**
+		 * Returns <code>true</code> if index is out of bounds in silent mode,
+		 * so the element access can be skipped without throwing an exception.
+		 */
+		private boolean isSilentOutOfBounds(final int size) {
+			return isSilent && (numericIndex < 0 || numericIndex >= size);
+		}
+
+		/**
+		 * Returns the element of an array, list or map.
+		 */
+		private Object getIndexValue(final Site site, final Object value, final boolean isSet) {
+			if (value.getClass().isArray()) {
+				if (!isNumericIndex || isSilentOutOfBounds(Array.getLength(value))) {
+					return missing(isSet);
+				}
+				return Array.get(value, numericIndex);
+			}
+			if (value instanceof List) {
+				if (!isNumericIndex || isSilentOutOfBounds(((List) value).size())) {
+					return missing(isSet);
+				}
+				return ((List) value).get(numericIndex);
+			}
+			if (value instanceof Map) {
+				final Object key = beanUtilBean.convertIndexToMapKey(site.getter, index);
+				return ((Map) value).get(key);
+			}
+			return missing(isSet);
+		}
+
+		/**
+		 * Sets the element of an array, list or map. Returns <code>false</code>
+		 * if operation has to be delegated.
+		 */
+		@SuppressWarnings("unchecked")
+		private boolean setIndexValue(final Site site, final Object indexedBean, Object value) {
+			if (indexedBean.getClass().isArray()) {
+				if (!isNumericIndex || isSilentOutOfBounds(Array.getLength(indexedBean))) {
+					return isSilent;
+				}
+				Array.set(indexedBean, numericIndex, value);
+				return true;
+			}
+			if (indexedBean instanceof List) {
+				if (!isNumericIndex || isSilentOutOfBounds(((List) indexedBean).size())) {
+					return isSilent;
+				}
+				final Class listComponentType = beanUtilBean.extractGenericComponentType(site.getter);
+				if (listComponentType != Object.class) {
+					value = beanUtilBean.convertType(value, listComponentType);
+				}
+				((List) indexedBean).set(numericIndex, value);
+				return true;
+			}
+			if (indexedBean instanceof Map) {
+				final Object key = beanUtilBean.convertIndexToMapKey(site.getter, index);
+
+				final Class mapComponentType = beanUtilBean.extractGenericComponentType(site.getter);
+				if (mapComponentType != Object.class) {
+					value = beanUtilBean.convertType(value, mapComponentType);
+				}
+				((Map) indexedBean).put(key, value);
+				return true;
+			}
+			return isSilent;
+		}
+	}
+
+	/**
+	 * Resolved segment for a single bean type.
+	 */
+	private class Site {
+		private final Segment segment;
+		private final Class type;
+		private final boolean delegate;
+		private final boolean map;
+		private final Getter getter;
+		private final Setter setter;
+
+		private Site(final Segment segment, final Class type) {
+			this.segment = segment;
+			this.type = type;
+
+			final ClassDescriptor cd = beanUtilBean.introspector.lookup(type);
+			final PropertyDescriptor pd = cd.getPropertyDescriptor(segment.name, true);
+
+			this.delegate = cd.isSupplier();
+			this.map = cd.isMap();
+			this.getter = pd != null ? pd.getGetter(isDeclared) : null;
+			this.setter = pd != null ? pd.getSetter(isDeclared) : null;
+		}
+
+		/**
+		 * Returns simple property value.
+		 */
+		private Object get(final Object root, final Object bean, final boolean isSet) {
+			if (delegate) {
+				return DELEGATE;
+			}
+			if (getter != null) {
+				final Object value;
+				try {
+					value = getter.invokeGetter(bean);
+				}
+				catch (final Exception ex) {
+					if (isSilent) {
+						return null;
+					}
+					throw new InvokePropertyBeanException("Invoking getter method failed.", beanProperty(root, bean, segment.name, isSet), ex);
+				}
+				if (value == null && isSet && isForced) {
+					return DELEGATE;
+				}
+				return value;
+			}
+			if (map) {
+				final Map map = (Map) bean;
+				if (map.containsKey(segment.name)) {
+					return map.get(segment.name);
+				}
+			}
+			return missing(isSet);
+		}
+
+		/**
+		 * Sets simple property value. Returns <code>false</code>
+		 * if operation has to be delegated.
+		 */
+		@SuppressWarnings("unchecked")
+		private boolean set(final Object root, final Object bean, final Object value) {
+			if (delegate) {
+				return false;
+			}
+			if (setter != null) {
+				try {
+					setter.invokeSetter(bean, beanUtilBean.convertSetterValue(setter, value));
+				}
+				catch (final Exception ex) {
+					if (isSilent) {
+						return true;
+					}
+					throw new InvokePropertyBeanException("Invoking setter method failed.", beanProperty(root, bean, segment.name, true), ex);
+				}
+				return true;
+			}
+			if (map) {
+				((Map) bean).put(segment.name, value);
+				return true;
+			}
+			return isSilent;
+		}
+	}
+
+	// ---------------------------------------------------------------- toString
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
@@ -0,0 +1,227 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.bean;
+
+import jodd.util.ArraysUtil;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Set of compiled property names, created by {@link BeanUtil#compileAll(String...)}.
+ * Names are arranged in a prefix tree, so when values are read from the same
+ * bean, common prefixes (e.g. <code>customer.address</code> for
+ * <code>customer.address.city</code> and <code>customer.address.zip</code>)
+ * are resolved only once. Prefix tree is built once and it can be used with
+ * any number of beans.
+ * <p>
+ * Each value is the same as the one returned by {@link BeanPath#get(Object)}.
+ * Values that can not be resolved by walking the tree are read by
+ * the {@link BeanUtilBean}. Set is thread-safe.
+ */
+public class BeanPathSet {
+
+	protected final BeanUtilBean beanUtilBean;
+	protected final String[] names;
+
+	private final Node[] roots;
+	private final int[] delegated;		// indexes of names that can not be compiled
+
+	BeanPathSet(final BeanUtilBean beanUtilBean, final String... names) {
+		this.beanUtilBean = beanUtilBean;
+		this.names = names.clone();
+
+		final Map<String, Node> nodes = new HashMap<>();
+		Node[] roots = new Node[0];
+		int[] delegated = new int[0];
+
+		for (int i = 0; i < this.names.length; i++) {
+			final String name = this.names[i];
+
+			final BeanPath path = beanUtilBean.compile(name);
+			if (!path.isCompiled()) {
+				delegated = ArraysUtil.append(delegated, i);
+				continue;
+			}
+
+			Node parent = null;
+			int from = 0;
+
+			while (true) {
+				final int dotNdx = beanUtilBean.indexOfDot(name.substring(from));
+				final String prefix = dotNdx == -1 ? name : name.substring(0, from + dotNdx);
+
+				Node node = nodes.get(prefix);
+				if (node == null) {
+					node = new Node(dotNdx == -1 ? path : beanUtilBean.compile(prefix));
+					nodes.put(prefix, node);
+					if (parent == null) {
+						roots = ArraysUtil.append(roots, node);
+					}
+					else {
+						parent.children = ArraysUtil.append(parent.children, node);
+					}
+				}
+				if (dotNdx == -1) {
+					node.indexes = ArraysUtil.append(node.indexes, i);
+					break;
+				}
+				parent = node;
+				from += dotNdx + 1;
+			}
+		}
+
+		this.roots = roots;
+		this.delegated = delegated;
+	}
+
+	/**
+	 * Returns the number of property names.
+	 */
+	public int size() {
+		return names.length;
+	}
+
+	/**
+	 * Returns property name at given index.
+	 */
+	public String getName(final int index) {
+		return names[index];
+	}
+
+	/**
+	 * Returns all property names, in the order they were given.
+	 */
+	public String[] getNames() {
+		return names.clone();
+	}
+
+	// ---------------------------------------------------------------- get
+
+	/**
+	 * Returns values of all properties, in the same order as the names.
+	 * @see BeanPath#get(Object)
+	 */
+	public Object[] get(final Object bean) {
+		final Object[] values = new Object[names.length];
+		get(bean, values);
+		return values;
+	}
+
+	/**
+	 * Reads values of all properties into the given array, in the same order
+	 * as the names. Array has to be at least as long as the number of names.
+	 */
+	public void get(final Object bean, final Object[] values) {
+		read(bean, values, null);
+	}
+
+	/**
+	 * Reads values of all properties and passes them with their names to the
+	 * consumer. Values are passed in the order they are resolved, so values
+	 * with a common prefix are passed together.
+	 */
+	public void forEach(final Object bean, final BiConsumer<String, Object> consumer) {
+		read(bean, null, consumer);
+	}
+
+	/**
+	 * Reads all values into the array or the consumer.
+	 */
+	private void read(final Object bean, final Object[] values, final BiConsumer<String, Object> consumer) {
+		for (final Node root : roots) {
+			root.read(bean, bean, values, consumer);
+		}
+		for (final int index : delegated) {
+			put(index, beanUtilBean.getProperty(bean, names[index]), values, consumer);
+		}
+	}
+
+	/**
+	 * Stores a single value.
+	 */
+	private void put(final int index, final Object value, final Object[] values, final BiConsumer<String, Object> consumer) {
+		if (values != null) {
+			values[index] = value;
+		}
+		else {
+			consumer.accept(names[index], value);
+		}
+	}
+
+	/**
+	 * Prefix tree node. Each node resolves the last segment of
+	 * its path and passes the value to the child nodes.
+	 */
+	private class Node {
+		private final BeanPath path;
+		private Node[] children = new Node[0];
+		private int[] indexes = new int[0];		// names that end with this node
+
+		private Node(final BeanPath path) {
+			this.path = path;
+		}
+
+		private void read(final Object root, final Object bean, final Object[] values, final BiConsumer<String, Object> consumer) {
+			Object value;
+			if (root == null || bean == BeanPath.DELEGATE) {
+				value = BeanPath.DELEGATE;
+			}
+			else if (!path.isSilent) {
+				value = path.getLast(root, bean);
+			}
+			else {
+				try {
+					value = path.getLast(root, bean);
+				}
+				catch (final Exception ignore) {
+					value = null;
+				}
+			}
+
+			for (final int index : indexes) {
+				if (value == BeanPath.DELEGATE) {
+					put(index, beanUtilBean.getProperty(root, names[index]), values, consumer);
+				}
+				else {
+					put(index, value, values, consumer);
+				}
+			}
+			for (final Node child : children) {
+				child.read(root, value, values, consumer);
+			}
+		}
+	}
+
+	// ---------------------------------------------------------------- toString
+
+	@Override
+	public String toString() {
+		return String.join(",", names);
+	}
+}
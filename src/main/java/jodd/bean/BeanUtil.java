@@ -144,6 +144,43 @@ public interface BeanUtil {
 	Class<?> getPropertyType(Object bean, String name);
 
 
+	// ---------------------------------------------------------------- compile
+
+	/**
+	 * Compiles property name into reusable and thread-safe {@link BeanPath}.
+	 * Compiled path gives the same results as the methods that accept
+	 * the property name, but parses the name only once.
+	 * Default implementation compiles the name with {@link BeanUtilBean} of default
+	 * flags and ignores flags of this instance. Implementations with non-default
+	 * flags must override it.
+	 */
+	default BeanPath compile(final String name) {
+		return new BeanUtilBean().compile(name);
+	}
+
+	/**
+	 * Compiles several property names into reusable and thread-safe {@link BeanPathSet}.
+	 * Common name prefixes are resolved only once when values are read.
+	 * Default implementation compiles the names with {@link BeanUtilBean} of default
+	 * flags and ignores flags of this instance. Implementations with non-default
+	 * flags must override it.
+	 */
+	default BeanPathSet compileAll(final String... names) {
+		return new BeanUtilBean().compileAll(names);
+	}
+
+	/**
+	 * Compiles column names into reusable and thread-safe {@link RowBinder}
+	 * that sets row values into the beans of given type.
+	 * Default implementation compiles the columns with {@link BeanUtilBean} of default
+	 * flags and ignores flags of this instance. Implementations with non-default
+	 * flags must override it.
+	 */
+	default <T> RowBinder<T> compileRowBinder(final Class<T> type, final String... columns) {
+		return new BeanUtilBean().compileRowBinder(type, columns);
+	}
+
+
 	// ---------------------------------------------------------------- misc
 
 	/**
@@ -161,6 +161,9 @@ public class BeanUtilBean extends BeanUtilUtil implements BeanUtil {
 				// index string exist, but property name is missing
 				return bp.bean;
 			}
+			if (isSilent) {
+				return null;
+			}
 			throw new InvalidPropertyBeanException("Empty property name.", bp);
 		}
 
@@ -329,7 +332,10 @@ public class BeanUtilBean extends BeanUtilUtil implements BeanUtil {
 
 		// try: property[index]
 		if (resultBean.getClass().isArray()) {
-			final int index = parseInt(bp.indexString, bp);
+			final int index = resolveIndex(bp, Array.getLength(resultBean), !bp.isForced || bp.last);
+			if (index == -1) {
+				return null;
+			}
 			if (bp.isForced) {
 				return arrayForcedGet(bp, resultBean, index);
 			} else {
@@ -339,8 +345,11 @@ public class BeanUtilBean extends BeanUtilUtil implements BeanUtil {
 
 		// try: list.get(index)
 		if (resultBean instanceof List) {
-			final int index = parseInt(bp.indexString, bp);
 			final List list = (List) resultBean;
+			final int index = resolveIndex(bp, list.size(), !bp.isForced || bp.last);
+			if (index == -1) {
+				return null;
+			}
 			if (!bp.isForced) {
 				return list.get(index);
 			}
@@ -406,6 +415,22 @@ public class BeanUtilBean extends BeanUtilUtil implements BeanUtil {
 		throw new InvalidPropertyBeanException("Index property '" + bp.name + "' is not an array, list or map.", bp);
 	}
 
+	/**
+	 * Resolves index of an array or a list element. In silent mode, returns <code>-1</code>
+	 * instead of throwing an exception when index is invalid, or when it is out of bounds
+	 * and the element is not going to be created.
+	 */
+	private int resolveIndex(final BeanProperty bp, final int size, final boolean checkBounds) {
+		if (!isSilent) {
+			return parseInt(bp.indexString, bp);
+		}
+		final int index = parseIndex(bp.indexString);
+		if (checkBounds && index >= size) {
+			return -1;
+		}
+		return index;
+	}
+
 	@Override
 	public void setIndexProperty(final Object bean, final String property, final int index, final Object value) {
 		final BeanProperty bp = new BeanProperty(this, bean, property, true);
@@ -448,7 +473,10 @@ public class BeanUtilBean extends BeanUtilUtil implements BeanUtil {
 
 		// inner bean found
 		if (nextBean.getClass().isArray()) {
-			final int index = parseInt(bp.indexString, bp);
+			final int index = resolveIndex(bp, Array.getLength(nextBean), !bp.isForced);
+			if (index == -1) {
+				return;
+			}
 			if (bp.isForced) {
 				arrayForcedSet(bp, nextBean, index, value);
 			} else {
@@ -458,12 +486,15 @@ public class BeanUtilBean extends BeanUtilUtil implements BeanUtil {
 		}
 
 		if (nextBean instanceof List) {
-			final int index = parseInt(bp.indexString, bp);
+			final List list = (List) nextBean;
+			final int index = resolveIndex(bp, list.size(), !bp.isForced);
+			if (index == -1) {
+				return;
+			}
 			final Class listComponentType = extractGenericComponentType(getter);
 			if (listComponentType != Object.class) {
 				value = convertType(value, listComponentType);
 			}
-			final List list = (List) nextBean;
 			if (bp.isForced) {
 				ensureListSize(list, index);
 			}
@@ -566,6 +597,23 @@ public class BeanUtilBean extends BeanUtilUtil implements BeanUtil {
 		return extractType(beanProperty);
 	}
 
+	// ---------------------------------------------------------------- compile
+
+	@Override
+	public BeanPath compile(final String name) {
+		return new BeanPath(this, name);
+	}
+
+	@Override
+	public BeanPathSet compileAll(final String... names) {
+		return new BeanPathSet(this, names);
+	}
+
+	@Override
+	public <T> RowBinder<T> compileRowBinder(final Class<T> type, final String... columns) {
+		return new RowBinder<>(this, type, columns);
+	}
+
 	// ---------------------------------------------------------------- utilities
 
 	private static final char[] INDEX_CHARS = new char[] {'.', '['};
@@ -96,23 +96,7 @@ abstract class BeanUtilUtil implements BeanUtil {
 	 */
 	protected Object invokeSetter(final Setter setter, final BeanProperty bp, Object value) {
 		try {
-
-			final MapperFunction setterMapperFunction = setter.getMapperFunction();
-
-			if (setterMapperFunction != null) {
-				value = setterMapperFunction.apply(value);
-			}
-
-			final Class type = setter.getSetterRawType();
-
-			if (ClassUtil.isTypeOf(type, Collection.class)) {
-				final Class componentType = setter.getSetterRawComponentType();
-
-				value = convertToCollection(value, type, componentType);
-			} else {
-				// no collections
-				value = convertType(value, type);
-			}
+			value = convertSetterValue(setter, value);
 
 			setter.invokeSetter(bp.bean, value);
 		} catch (final Exception ex) {
@@ -124,6 +108,27 @@ abstract class BeanUtilUtil implements BeanUtil {
 		return value;
 	}
 
+	/**
+	 * Applies setters mapper function and converts the value to the setter type.
+	 */
+	protected Object convertSetterValue(final Setter setter, Object value) {
+		final MapperFunction setterMapperFunction = setter.getMapperFunction();
+
+		if (setterMapperFunction != null) {
+			value = setterMapperFunction.apply(value);
+		}
+
+		final Class type = setter.getSetterRawType();
+
+		if (ClassUtil.isTypeOf(type, Collection.class)) {
+			final Class componentType = setter.getSetterRawComponentType();
+
+			return convertToCollection(value, type, componentType);
+		}
+		// no collections
+		return convertType(value, type);
+	}
+
 	// ---------------------------------------------------------------- forced
 
 	/**
@@ -257,6 +262,33 @@ abstract class BeanUtilUtil implements BeanUtil {
 		}
 	}
 
+	/**
+	 * Parses index without throwing an exception. Returns <code>-1</code> if
+	 * index string is not a valid index, i.e. a non-negative integer.
+	 */
+	protected int parseIndex(final String indexString) {
+		final int len = indexString.length();
+		int ndx = 0;
+		if (len > 1 && indexString.charAt(0) == '+') {
+			ndx++;
+		}
+		if (ndx == len) {
+			return -1;
+		}
+		long value = 0;
+		for (; ndx < len; ndx++) {
+			final char c = indexString.charAt(ndx);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+			if (value > Integer.MAX_VALUE) {
+				return -1;
+			}
+		}
+		return (int) value;
+	}
+
 	// ---------------------------------------------------------------- create property
 
 	/**
@@ -25,6 +25,7 @@
 
 package jodd.bean;
 
+import jodd.bean.exception.InvokePropertyBeanException;
 import jodd.introspector.ClassDescriptor;
 import jodd.introspector.ClassIntrospector;
 import jodd.introspector.FieldDescriptor;
@@ -32,10 +33,18 @@ import jodd.introspector.MethodDescriptor;
 import jodd.introspector.PropertyDescriptor;
 import jodd.util.StringUtil;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static jodd.util.StringPool.LEFT_SQ_BRACKET;
 import static jodd.util.StringPool.RIGHT_SQ_BRACKET;
@@ -71,6 +80,14 @@ public class BeanVisitor {
 	 * Defines if fields should be included.
 	 */
 	protected boolean includeFields;
+	/**
+	 * Property names filter, applied before the value is read.
+	 */
+	protected Predicate<String> filter;
+	/**
+	 * Annotation that bean properties must have.
+	 */
+	protected Class<? extends Annotation> annotation;
 
 	/**
 	 * Indicates the the source is a Map.
@@ -111,10 +128,29 @@ public class BeanVisitor {
 		return this;
 	}
 
+	/**
+	 * Defines property names filter. Values of filtered out properties are not read.
+	 */
+	public BeanVisitor filter(final Predicate<String> filter) {
+		this.filter = filter;
+		return this;
+	}
+
+	/**
+	 * Visits only bean properties which getter, setter or field is annotated
+	 * with given annotation. Values of other properties are not read.
+	 * Not used when source is a <code>Map</code>.
+	 */
+	public BeanVisitor annotatedWith(final Class<? extends Annotation> annotation) {
+		this.annotation = annotation;
+		return this;
+	}
+
 	// ---------------------------------------------------------------- util
 
 	/**
-	 * Returns all bean property names.
+	 * Returns all bean property names. When {@link #annotatedWith(Class) annotation}
+	 * is set, only names of annotated properties are returned.
 	 */
 	protected String[] getAllBeanPropertyNames(final Class type, final boolean declared) {
 		final ClassDescriptor classDescriptor = ClassIntrospector.get().lookup(type);
@@ -124,25 +160,40 @@ public class BeanVisitor {
 		final ArrayList<String> names = new ArrayList<>(propertyDescriptors.length);
 
 		for (final PropertyDescriptor propertyDescriptor : propertyDescriptors) {
-			final MethodDescriptor getter = propertyDescriptor.getReadMethodDescriptor();
-			if (getter != null) {
-				if (getter.matchDeclared(declared)) {
-					names.add(propertyDescriptor.getName());
-				}
+			if (!isVisited(propertyDescriptor, declared, includeFields)) {
+				continue;
 			}
-			else if (includeFields) {
-				final FieldDescriptor field = propertyDescriptor.getFieldDescriptor();
-				if (field != null) {
-					if (field.matchDeclared(declared)) {
-						names.add(field.getName());
-					}
-				}
+			if (annotation != null && !isAnnotated(propertyDescriptor)) {
+				continue;
+			}
+			if (propertyDescriptor.getReadMethodDescriptor() != null) {
+				names.add(propertyDescriptor.getName());
+			}
+			else {
+				names.add(propertyDescriptor.getFieldDescriptor().getName());
 			}
 		}
 
 		return names.toArray(new String[0]);
 	}
 
+	/**
+	 * Returns <code>true</code> if bean property is visited: if it has a getter
+	 * that matches the declared flag, or, when fields are included, a field
+	 * that matches it.
+	 */
+	static boolean isVisited(final PropertyDescriptor pd, final boolean declared, final boolean includeFields) {
+		final MethodDescriptor getter = pd.getReadMethodDescriptor();
+		if (getter != null) {
+			return getter.matchDeclared(declared);
+		}
+		if (includeFields) {
+			final FieldDescriptor field = pd.getFieldDescriptor();
+			return field != null && field.matchDeclared(declared);
+		}
+		return false;
+	}
+
 	/**
 	 * Returns an array of bean properties. If bean is a <code>Map</code>,
 	 * all its keys will be returned.
@@ -176,6 +227,9 @@ public class BeanVisitor {
 			if (name == null) {
 				continue;
 			}
+			if (!acceptName(name)) {
+				continue;
+			}
 
 			final Object value;
 
@@ -191,15 +245,199 @@ public class BeanVisitor {
 				value = BeanUtil.pojo.getProperty(source, propertyName);
 			}
 
-			if (value == null && ignoreNullValues) {
+			if (!acceptValue(value)) {
 				continue;
 			}
 
-			if (ignoreEmptyString && value instanceof String && StringUtil.isEmpty((String) value)) {
-				continue;
+			propertyConsumer.accept(name, value);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if property passes the name filter. Annotation
+	 * filter is applied when bean properties are resolved.
+	 */
+	protected boolean acceptName(final String name) {
+		return filter == null || filter.test(name);
+	}
+
+	/**
+	 * Returns <code>true</code> if getter, setter or field of the property is annotated.
+	 */
+	protected boolean isAnnotated(final PropertyDescriptor pd) {
+		final MethodDescriptor getter = pd.getReadMethodDescriptor();
+		final MethodDescriptor setter = pd.getWriteMethodDescriptor();
+		final FieldDescriptor field = pd.getFieldDescriptor();
+
+		return (getter != null && isAnnotated(getter.getMethod()))
+			|| (setter != null && isAnnotated(setter.getMethod()))
+			|| (field != null && isAnnotated(field.getField()));
+	}
+
+	private boolean isAnnotated(final AnnotatedElement element) {
+		return element.isAnnotationPresent(annotation);
+	}
+
+	/**
+	 * Returns <code>true</code> if property value should be visited.
+	 */
+	protected boolean acceptValue(final Object value) {
+		if (value == null && ignoreNullValues) {
+			return false;
+		}
+		return !(ignoreEmptyString && value instanceof String && StringUtil.isEmpty((String) value));
+	}
+
+	// ---------------------------------------------------------------- stream
+
+	/**
+	 * Returns lazy stream of visited properties. Property values are read only when
+	 * the stream reaches them, so short-circuiting operations, like <code>findFirst()</code>,
+	 * stop reading. Name and annotation filters are applied before values are read.
+	 * Parallel stream splits bean properties or map entries.
+	 */
+	public Stream<Map.Entry<String, Object>> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * Returns spliterator of visited properties.
+	 * @see #stream()
+	 */
+	@SuppressWarnings("unchecked")
+	public Spliterator<Map.Entry<String, Object>> spliterator() {
+		if (isSourceMap) {
+			return new MapSpliterator(((Map<Object, Object>) source).entrySet().spliterator());
+		}
+		final PropertyDescriptor[] pds = ClassIntrospector.get().lookup(source.getClass()).getAllPropertyDescriptors();
+		return new BeanSpliterator(pds, 0, pds.length);
+	}
+
+	/**
+	 * Spliterator over the range of bean property descriptors.
+	 */
+	private class BeanSpliterator implements Spliterator<Map.Entry<String, Object>> {
+		private final PropertyDescriptor[] pds;
+		private int index;
+		private final int fence;
+
+		private BeanSpliterator(final PropertyDescriptor[] pds, final int index, final int fence) {
+			this.pds = pds;
+			this.index = index;
+			this.fence = fence;
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super Map.Entry<String, Object>> action) {
+			while (index < fence) {
+				final PropertyDescriptor pd = pds[index++];
+
+				if (!isVisited(pd, declared, includeFields)) {
+					continue;
+				}
+				final String name = pd.getName();
+				if (filter != null && !filter.test(name)) {
+					continue;
+				}
+				if (annotation != null && !isAnnotated(pd)) {
+					continue;
+				}
+
+				final Object value;
+				try {
+					value = pd.getGetter(declared).invokeGetter(source);
+				}
+				catch (final Exception ex) {
+					final BeanUtilBean beanUtilBean = (BeanUtilBean) (declared ? BeanUtil.declared : BeanUtil.pojo);
+					throw new InvokePropertyBeanException("Invoking getter method failed.", new BeanProperty(beanUtilBean, source, name, false), ex);
+				}
+				if (!acceptValue(value)) {
+					continue;
+				}
+
+				action.accept(new AbstractMap.SimpleImmutableEntry<>(name, value));
+				return true;
 			}
+			return false;
+		}
 
-			propertyConsumer.accept(name, value);
+		@Override
+		public Spliterator<Map.Entry<String, Object>> trySplit() {
+			final int mid = (index + fence) >>> 1;
+			if (mid <= index) {
+				return null;
+			}
+			final Spliterator<Map.Entry<String, Object>> prefix = new BeanSpliterator(pds, index, mid);
+			index = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | NONNULL;
+		}
+	}
+
+	/**
+	 * Spliterator over map entries.
+	 */
+	private class MapSpliterator implements Spliterator<Map.Entry<String, Object>>, Consumer<Map.Entry<Object, Object>> {
+		private final Spliterator<Map.Entry<Object, Object>> entries;
+		private Map.Entry<String, Object> next;
+
+		private MapSpliterator(final Spliterator<Map.Entry<Object, Object>> entries) {
+			this.entries = entries;
+		}
+
+		@Override
+		public void accept(final Map.Entry<Object, Object> entry) {
+			final Object key = entry.getKey();
+			if (key == null) {
+				return;
+			}
+			final String name = key.toString();
+			if (filter != null && !filter.test(name)) {
+				return;
+			}
+			final Object value = entry.getValue();
+			if (!acceptValue(value)) {
+				return;
+			}
+			next = new AbstractMap.SimpleImmutableEntry<>(name, value);
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super Map.Entry<String, Object>> action) {
+			while (entries.tryAdvance(this)) {
+				if (next != null) {
+					final Map.Entry<String, Object> entry = next;
+					next = null;
+					action.accept(entry);
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Spliterator<Map.Entry<String, Object>> trySplit() {
+			final Spliterator<Map.Entry<Object, Object>> prefix = entries.trySplit();
+			return prefix != null ? new MapSpliterator(prefix) : null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return entries.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			return entries.characteristics() & ORDERED | NONNULL;
 		}
 	}
 }
@@ -0,0 +1,256 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.bean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Copies properties of many source beans into new destination beans.
+ * Sources are split into chunks that are copied in parallel, by default
+ * in the common <code>ForkJoinPool</code>. Copy plans are resolved once
+ * per chunk and source/destination types. Destinations are returned
+ * in the same order as sources.
+ *
+ * @see BeanCopy#fromAll(Collection, Supplier)
+ */
+public class BulkBeanCopy<D> {
+
+	public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+	private final List<?> sources;
+	private final Supplier<D> destinationSupplier;
+	private boolean forced;
+	private boolean declared;
+	private Predicate<String> filter;
+	private BiPredicate<String, Object> filter2;
+	private boolean includeFields;
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+	private Executor executor;
+
+	BulkBeanCopy(final Collection<?> sources, final Supplier<D> destinationSupplier) {
+		if (sources instanceof List && sources instanceof RandomAccess) {
+			this.sources = (List<?>) sources;
+		} else {
+			this.sources = new ArrayList<>(sources);
+		}
+		this.destinationSupplier = destinationSupplier;
+	}
+
+	// ---------------------------------------------------------------- properties
+
+	/**
+	 * @see BeanCopy#declared(boolean)
+	 */
+	public BulkBeanCopy<D> declared(final boolean declared) {
+		this.declared = declared;
+		return this;
+	}
+
+	/**
+	 * @see BeanCopy#forced(boolean)
+	 */
+	public BulkBeanCopy<D> forced(final boolean forced) {
+		this.forced = forced;
+		return this;
+	}
+
+	/**
+	 * @see BeanCopy#filter(Predicate)
+	 */
+	public BulkBeanCopy<D> filter(final Predicate<String> filter) {
+		this.filter = filter;
+		return this;
+	}
+
+	/**
+	 * @see BeanCopy#filter(BiPredicate)
+	 */
+	public BulkBeanCopy<D> filter(final BiPredicate<String, Object> filter) {
+		this.filter2 = filter;
+		return this;
+	}
+
+	/**
+	 * @see BeanCopy#includeFields(boolean)
+	 */
+	public BulkBeanCopy<D> includeFields(final boolean includeFields) {
+		this.includeFields = includeFields;
+		return this;
+	}
+
+	/**
+	 * Defines number of beans copied in a single task.
+	 */
+	public BulkBeanCopy<D> chunkSize(final int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+		}
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	/**
+	 * Defines executor for copy tasks. By default, the common
+	 * <code>ForkJoinPool</code> is used.
+	 */
+	public BulkBeanCopy<D> executor(final Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	// ---------------------------------------------------------------- copy
+
+	/**
+	 * Performs the copying and returns the list of destination beans.
+	 * <code>null</code> sources are copied to <code>null</code> destinations.
+	 * Filters must be thread-safe, as they are invoked concurrently.
+	 * When copying of some bean fails, remaining chunks stop and the
+	 * exception is thrown after all running chunks are done.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<D> copy() {
+		final int size = sources.size();
+		final Object[] destinations = new Object[size];
+
+		if (size <= chunkSize || (executor == null && ForkJoinPool.getCommonPoolParallelism() <= 1)) {
+			copy(destinations, 0, size, new AtomicBoolean());
+		}
+		else {
+			final Executor executor = this.executor != null ? this.executor : ForkJoinPool.commonPool();
+			final List<CompletableFuture<Void>> futures = new ArrayList<>(size / chunkSize + 1);
+			final AtomicBoolean failed = new AtomicBoolean();
+
+			// the last chunk is copied in the current thread
+			final int last = (size - 1) / chunkSize * chunkSize;
+
+			for (int from = 0; from < last; from += chunkSize) {
+				final int chunkFrom = from;
+				final int chunkTo = from + chunkSize;
+
+				futures.add(CompletableFuture.runAsync(() -> copy(destinations, chunkFrom, chunkTo, failed), executor));
+			}
+
+			final CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+
+			try {
+				copy(destinations, last, size, failed);
+			}
+			catch (final RuntimeException | Error ex) {
+				// remaining chunks stop, but destinations must not change after the failure is thrown
+				try {
+					all.join();
+				}
+				catch (final CompletionException ignore) {
+				}
+				throw ex;
+			}
+
+			try {
+				all.join();
+			}
+			catch (final CompletionException cex) {
+				final Throwable cause = cex.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw cex;
+			}
+		}
+
+		return new ArrayList<>((List<D>) Arrays.asList(destinations));
+	}
+
+	/**
+	 * Copies a single chunk of sources. Copying stops when some chunk fails.
+	 */
+	private void copy(final Object[] destinations, final int from, final int to, final AtomicBoolean failed) {
+		try {
+			copyChunk(destinations, from, to, failed);
+		}
+		catch (final RuntimeException | Error ex) {
+			failed.set(true);
+			throw ex;
+		}
+	}
+
+	private void copyChunk(final Object[] destinations, final int from, final int to, final AtomicBoolean failed) {
+		Class sourceType = null;
+		Class destinationType = null;
+		BeanCopyPlan plan = null;
+
+		for (int i = from; i < to; i++) {
+			if (failed.get()) {
+				return;
+			}
+			final Object source = sources.get(i);
+			if (source == null) {
+				continue;
+			}
+
+			final D destination = destinationSupplier.get();
+			destinations[i] = destination;
+
+			if (source.getClass() != sourceType || destination.getClass() != destinationType) {
+				sourceType = source.getClass();
+				destinationType = destination.getClass();
+				plan = destination instanceof Map ? null : BeanCopyPlan.of(sourceType, destinationType, declared, includeFields);
+			}
+
+			if (plan != null) {
+				plan.copy(source, destination, filter, filter2);
+				continue;
+			}
+
+			final BeanCopy beanCopy = new BeanCopy(source, destination)
+				.declared(declared)
+				.forced(forced)
+				.includeFields(includeFields);
+			if (filter != null) {
+				beanCopy.filter(filter);
+			}
+			if (filter2 != null) {
+				beanCopy.filter(filter2);
+			}
+			beanCopy.copy();
+		}
+	}
+}
@@ -0,0 +1,143 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.bean;
+
+import jodd.typeconverter.TypeConverterManager;
+import jodd.util.ClassUtil;
+import jodd.util.TypeCache;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bean view over a <code>Map</code>. Creates a proxy of the bean interface, where
+ * getters read values from the map and convert them to the return type using the
+ * {@link TypeConverterManager}, and setters put values into the map. Nothing
+ * is copied, the view reflects all changes of the map.
+ * <p>
+ * Interfaces with default methods are not supported, as proxies can not
+ * invoke them; they are rejected when the view is created.
+ *
+ * @see BeanMapView
+ */
+public class MapBeanView implements InvocationHandler {
+
+	private static final TypeCache<Map<Method, Accessor>> ACCESSORS = TypeCache.<Map<Method, Accessor>>create().classValue(true).get();
+
+	/**
+	 * Creates bean view of given interface over the map.
+	 * Throws <code>IllegalArgumentException</code> if given type is not an
+	 * interface or if it has default methods.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T of(final Map<String, ?> map, final Class<T> beanInterface) {
+		if (!beanInterface.isInterface()) {
+			throw new IllegalArgumentException("Not an interface: " + beanInterface.getName());
+		}
+		return (T) Proxy.newProxyInstance(
+			beanInterface.getClassLoader(),
+			new Class[] {beanInterface},
+			new MapBeanView(map, ACCESSORS.get(beanInterface, MapBeanView::resolveAccessors)));
+	}
+
+	/**
+	 * Property accessor of the bean interface method.
+	 */
+	private static class Accessor {
+		private final String name;
+		private final boolean isSetter;
+		private final Class type;
+		private final Object defaultValue;
+
+		private Accessor(final String name, final boolean isSetter, final Class type) {
+			this.name = name;
+			this.isSetter = isSetter;
+			this.type = type;
+			this.defaultValue = type.isPrimitive() && type != void.class ? Array.get(Array.newInstance(type, 1), 0) : null;
+		}
+	}
+
+	/**
+	 * Resolves accessors of all interface methods.
+	 */
+	private static Map<Method, Accessor> resolveAccessors(final Class beanInterface) {
+		final Map<Method, Accessor> accessors = new HashMap<>();
+
+		for (final Method method : beanInterface.getMethods()) {
+			if (method.isDefault()) {
+				throw new IllegalArgumentException("Default methods are not supported: " + method);
+			}
+			String name = ClassUtil.getBeanPropertyGetterName(method);
+			if (name != null) {
+				accessors.put(method, new Accessor(name, false, method.getReturnType()));
+				continue;
+			}
+			name = ClassUtil.getBeanPropertySetterName(method);
+			if (name != null) {
+				accessors.put(method, new Accessor(name, true, method.getReturnType()));
+			}
+		}
+		return accessors;
+	}
+
+	private final Map<String, Object> map;
+	private final Map<Method, Accessor> accessors;
+
+	@SuppressWarnings("unchecked")
+	private MapBeanView(final Map<String, ?> map, final Map<Method, Accessor> accessors) {
+		this.map = (Map<String, Object>) map;
+		this.accessors = accessors;
+	}
+
+	@Override
+	public Object invoke(final Object proxy, final Method method, final Object[] args) {
+		final Accessor accessor = accessors.get(method);
+
+		if (accessor == null) {
+			if (method.getDeclaringClass() == Object.class) {
+				switch (method.getName()) {
+					case "equals": return proxy == args[0];
+					case "hashCode": return System.identityHashCode(proxy);
+					case "toString": return map.toString();
+					default: break;
+				}
+			}
+			throw new UnsupportedOperationException("Not a property accessor: " + method);
+		}
+
+		if (accessor.isSetter) {
+			map.put(accessor.name, args[0]);
+			return accessor.type.isInstance(proxy) ? proxy : accessor.defaultValue;
+		}
+
+		final Object value = TypeConverterManager.get().convertType(map.get(accessor.name), accessor.type);
+		return value != null ? value : accessor.defaultValue;
+	}
+}
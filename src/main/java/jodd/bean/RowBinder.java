@@ -0,0 +1,251 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.bean;
+
+import jodd.bean.exception.InvokePropertyBeanException;
+import jodd.introspector.ClassDescriptor;
+import jodd.introspector.CtorDescriptor;
+import jodd.introspector.PropertyDescriptor;
+import jodd.introspector.Setter;
+import jodd.typeconverter.TypeConverter;
+import jodd.util.ArraysUtil;
+import jodd.util.ClassUtil;
+
+import java.lang.reflect.Constructor;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Binds rows of values into beans, created by {@link BeanUtil#compileRowBinder(Class, String...)}.
+ * Each column name is resolved once to the setter of a simple bean property, together
+ * with the {@link TypeConverter} for the setter type. Binding a row then only invokes
+ * converters and setters, without any property name lookup.
+ * <p>
+ * Columns that do not match any writable property are reported by
+ * {@link #getUnmatchedColumns()} and ignored when rows are bound.
+ * Flags of the {@link BeanUtilBean} are read when binder is compiled.
+ * Binder is thread-safe.
+ */
+public class RowBinder<T> {
+
+	protected final BeanUtilBean beanUtilBean;
+	protected final Class<T> type;
+	protected final String[] columns;
+	protected final boolean isSilent;
+
+	private final Column[] bindings;		// null for unmatched columns
+	private final String[] unmatchedColumns;
+	private final Constructor<T> constructor;
+
+	@SuppressWarnings("unchecked")
+	RowBinder(final BeanUtilBean beanUtilBean, final Class<T> type, final String... columns) {
+		this.beanUtilBean = beanUtilBean;
+		this.type = type;
+		this.columns = columns.clone();
+		this.isSilent = beanUtilBean.isSilent;
+
+		final ClassDescriptor cd = beanUtilBean.introspector.lookup(type);
+		final boolean declared = beanUtilBean.isDeclared;
+
+		this.bindings = new Column[this.columns.length];
+		String[] unmatchedColumns = new String[0];
+
+		for (int i = 0; i < this.columns.length; i++) {
+			final String column = this.columns[i];
+			final PropertyDescriptor pd = cd.getPropertyDescriptor(column, declared);
+			final Setter setter = pd != null ? pd.getSetter(declared) : null;
+
+			if (setter == null) {
+				unmatchedColumns = ArraysUtil.append(unmatchedColumns, column);
+				continue;
+			}
+			bindings[i] = new Column(beanUtilBean, isSilent, column, setter);
+		}
+		this.unmatchedColumns = unmatchedColumns;
+
+		final CtorDescriptor ctor = cd.getDefaultCtorDescriptor(true);
+		this.constructor = ctor != null ? ctor.getConstructor() : null;
+	}
+
+	/**
+	 * Returns bean type.
+	 */
+	public Class<T> getType() {
+		return type;
+	}
+
+	/**
+	 * Returns all column names.
+	 */
+	public String[] getColumns() {
+		return columns.clone();
+	}
+
+	/**
+	 * Returns names of the columns that do not match any writable property.
+	 * Returns an empty array when all columns are matched.
+	 */
+	public String[] getUnmatchedColumns() {
+		return unmatchedColumns.clone();
+	}
+
+	/**
+	 * Returns <code>true</code> if column at given index matches a writable property.
+	 */
+	public boolean isMatched(final int index) {
+		return bindings[index] != null;
+	}
+
+	// ---------------------------------------------------------------- bind
+
+	/**
+	 * Creates new bean using its default constructor and binds the row to it.
+	 * @see #bind(Object[], Object)
+	 */
+	public T bind(final Object[] row) {
+		return bind(row, newBean());
+	}
+
+	/**
+	 * Binds row values to the existing bean, so bean instances may be reused.
+	 * Value at some index is set to the property of the column with the same index.
+	 * When row is shorter than the columns, remaining properties are not set.
+	 * Returns the bean.
+	 */
+	public T bind(final Object[] row, final T bean) {
+		final int count = Math.min(row.length, bindings.length);
+
+		for (int i = 0; i < count; i++) {
+			final Column column = bindings[i];
+			if (column != null) {
+				column.set(bean, row[i]);
+			}
+		}
+		return bean;
+	}
+
+	/**
+	 * Creates new bean using its default constructor and binds the row to it.
+	 * @see #bind(Map, Object)
+	 */
+	public T bind(final Map<String, ?> row) {
+		return bind(row, newBean());
+	}
+
+	/**
+	 * Binds row values, mapped by column names, to the existing bean.
+	 * Properties of columns that are not in the map are not set.
+	 * Returns the bean.
+	 */
+	public T bind(final Map<String, ?> row, final T bean) {
+		for (final Column column : bindings) {
+			if (column == null) {
+				continue;
+			}
+			final Object value = row.get(column.name);
+			if (value == null && !row.containsKey(column.name)) {
+				continue;
+			}
+			column.set(bean, value);
+		}
+		return bean;
+	}
+
+	/**
+	 * Creates new bean instance.
+	 */
+	protected T newBean() {
+		if (constructor == null) {
+			throw new BeanException("Default constructor not found: " + type.getName());
+		}
+		try {
+			return constructor.newInstance();
+		}
+		catch (final Exception ex) {
+			throw new BeanException("Bean instantiation failed: " + type.getName(), ex);
+		}
+	}
+
+	/**
+	 * Resolved column with the setter and the converter of the setter type.
+	 */
+	private static class Column {
+		private final BeanUtilBean beanUtilBean;
+		private final boolean isSilent;
+		private final String name;
+		private final Setter setter;
+		private final boolean convert;
+		private final TypeConverter converter;	// null when converted by bean util
+
+		private Column(final BeanUtilBean beanUtilBean, final boolean isSilent, final String name, final Setter setter) {
+			this.beanUtilBean = beanUtilBean;
+			this.isSilent = isSilent;
+			this.name = name;
+			this.setter = setter;
+
+			final Class setterType = setter.getSetterRawType();
+
+			if (setter.getMapperFunction() != null || ClassUtil.isTypeOf(setterType, Collection.class)) {
+				this.convert = true;
+				this.converter = null;
+			}
+			else if (setterType == Object.class) {
+				this.convert = false;
+				this.converter = null;
+			}
+			else {
+				this.converter = beanUtilBean.typeConverterManager.lookup(setterType);
+				this.convert = true;
+			}
+		}
+
+		private void set(final Object bean, Object value) {
+			try {
+				if (converter != null) {
+					value = converter.convert(value);
+				}
+				else if (convert) {
+					value = beanUtilBean.convertSetterValue(setter, value);
+				}
+				setter.invokeSetter(bean, value);
+			}
+			catch (final Exception ex) {
+				if (isSilent) {
+					return;
+				}
+				throw new InvokePropertyBeanException("Invoking setter method failed.", new BeanProperty(beanUtilBean, bean, name, true), ex);
+			}
+		}
+	}
+
+	// ---------------------------------------------------------------- toString
+
+	@Override
+	public String toString() {
+		return type.getName() + '<' + String.join(",", columns) + '>';
+	}
+}
@@ -0,0 +1,384 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.introspector;
+
+import jodd.util.ClassUtil;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Factory of generated {@link Getter getters} and {@link Setter setters}.
+ * Accessors of public methods declared in public classes are created
+ * with the <code>LambdaMetafactory</code>, so the JIT can inline them as any
+ * other lambda. All other methods and fields are accessed through the
+ * <code>MethodHandle</code>. When neither is possible (e.g. the member
+ * could not be made accessible), reflective accessors are returned.
+ * <p>
+ * Generated accessors wrap exceptions thrown by the invoked method into
+ * <code>InvocationTargetException</code>, as the reflection does. Target and
+ * argument types are checked before the call; when they do not match, the
+ * reflective accessor is invoked, so errors are reported the same way.
+ */
+public class Accessors {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	// ---------------------------------------------------------------- getters
+
+	/**
+	 * Creates generated {@link Getter} for given method descriptor.
+	 */
+	public static Getter getterOf(final MethodDescriptor methodDescriptor) {
+		final Method method = methodDescriptor.method;
+		final Getter getter = Getter.of(methodDescriptor);
+
+		if (isLambdaAccessible(methodDescriptor.getClassDescriptor(), method)) {
+			try {
+				return new LambdaGetter(getter, method.getDeclaringClass(), lambdaGetter(method));
+			}
+			catch (final Throwable ignore) {
+				// fallback to method handle
+			}
+		}
+
+		try {
+			return new MethodHandleGetter(getter, method.getDeclaringClass(), LOOKUP.unreflect(method).asType(GETTER_TYPE));
+		}
+		catch (final Throwable ignore) {
+			return getter;
+		}
+	}
+
+	/**
+	 * Creates generated {@link Getter} for given field descriptor.
+	 */
+	public static Getter getterOf(final FieldDescriptor fieldDescriptor) {
+		final Field field = fieldDescriptor.field;
+		final Getter getter = Getter.of(fieldDescriptor);
+
+		try {
+			return new MethodHandleGetter(getter, field.getDeclaringClass(), LOOKUP.unreflectGetter(field).asType(GETTER_TYPE));
+		}
+		catch (final Throwable ignore) {
+			return getter;
+		}
+	}
+
+	// ---------------------------------------------------------------- setters
+
+	/**
+	 * Creates generated {@link Setter} for given method descriptor.
+	 */
+	public static Setter setterOf(final MethodDescriptor methodDescriptor) {
+		final Method method = methodDescriptor.method;
+		final Setter setter = Setter.of(methodDescriptor);
+		final Class argumentType = method.getParameterTypes()[0];
+
+		if (isLambdaAccessible(methodDescriptor.getClassDescriptor(), method)) {
+			try {
+				return new LambdaSetter(setter, method.getDeclaringClass(), argumentType, lambdaSetter(method));
+			}
+			catch (final Throwable ignore) {
+				// fallback to method handle
+			}
+		}
+
+		try {
+			return new MethodHandleSetter(setter, method.getDeclaringClass(), argumentType, LOOKUP.unreflect(method).asType(SETTER_TYPE));
+		}
+		catch (final Throwable ignore) {
+			return setter;
+		}
+	}
+
+	/**
+	 * Creates generated {@link Setter} for given field descriptor.
+	 */
+	public static Setter setterOf(final FieldDescriptor fieldDescriptor) {
+		final Field field = fieldDescriptor.field;
+		final Setter setter = Setter.of(fieldDescriptor);
+
+		try {
+			return new MethodHandleSetter(setter, field.getDeclaringClass(), field.getType(), LOOKUP.unreflectSetter(field).asType(SETTER_TYPE));
+		}
+		catch (final Throwable ignore) {
+			return setter;
+		}
+	}
+
+	// ---------------------------------------------------------------- lambda
+
+	/**
+	 * Returns <code>true</code> if lambda can be generated for given method.
+	 * Method and its class must be public, and the class must be visible
+	 * from the class loader of this class, since the generated lambda class
+	 * is defined there. System classes are always accessed using the
+	 * method handles.
+	 */
+	protected static boolean isLambdaAccessible(final ClassDescriptor classDescriptor, final Method method) {
+		if (classDescriptor.isSystemClass()) {
+			return false;
+		}
+		if (!ClassUtil.isPublicPublic(method)) {
+			return false;
+		}
+		final ClassLoader targetClassLoader = method.getDeclaringClass().getClassLoader();
+		if (targetClassLoader == null) {
+			return true;
+		}
+		ClassLoader classLoader = Accessors.class.getClassLoader();
+		while (classLoader != null) {
+			if (classLoader == targetClassLoader) {
+				return true;
+			}
+			classLoader = classLoader.getParent();
+		}
+		return false;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> lambdaGetter(final Method method) throws Throwable {
+		final MethodHandle implMethod = LOOKUP.unreflect(method);
+		final CallSite callSite = LambdaMetafactory.metafactory(
+			LOOKUP,
+			"apply",
+			MethodType.methodType(Function.class),
+			GETTER_TYPE,
+			implMethod,
+			implMethod.type().wrap());
+
+		return (Function<Object, Object>) callSite.getTarget().invokeExact();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, Object> lambdaSetter(final Method method) throws Throwable {
+		final MethodHandle implMethod = LOOKUP.unreflect(method);
+		final CallSite callSite = LambdaMetafactory.metafactory(
+			LOOKUP,
+			"accept",
+			MethodType.methodType(BiConsumer.class),
+			SETTER_TYPE,
+			implMethod,
+			implMethod.type().wrap().changeReturnType(void.class));
+
+		return (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+	}
+
+	// ---------------------------------------------------------------- base
+
+	/**
+	 * Base for generated getters; delegates type information and
+	 * invocations on targets of other types to the reflective getter.
+	 */
+	private abstract static class GeneratedGetter implements Getter {
+		protected final Getter getter;
+		private final Class targetType;
+
+		private GeneratedGetter(final Getter getter, final Class targetType) {
+			this.getter = getter;
+			this.targetType = targetType;
+		}
+
+		/**
+		 * Returns <code>true</code> if the target can be passed to the generated getter.
+		 */
+		protected boolean accepts(final Object target) {
+			return targetType.isInstance(target);
+		}
+
+		@Override
+		public Class getGetterRawType() {
+			return getter.getGetterRawType();
+		}
+
+		@Override
+		public Class getGetterRawComponentType() {
+			return getter.getGetterRawComponentType();
+		}
+
+		@Override
+		public Class getGetterRawKeyComponentType() {
+			return getter.getGetterRawKeyComponentType();
+		}
+	}
+
+	/**
+	 * Getter generated by the <code>LambdaMetafactory</code>.
+	 */
+	static class LambdaGetter extends GeneratedGetter {
+		private final Function<Object, Object> function;
+
+		private LambdaGetter(final Getter getter, final Class targetType, final Function<Object, Object> function) {
+			super(getter, targetType);
+			this.function = function;
+		}
+
+		@Override
+		public Object invokeGetter(final Object target) throws InvocationTargetException, IllegalAccessException {
+			if (!accepts(target)) {
+				return getter.invokeGetter(target);
+			}
+			try {
+				return function.apply(target);
+			} catch (final Throwable throwable) {
+				throw new InvocationTargetException(throwable);
+			}
+		}
+	}
+
+	/**
+	 * Getter that invokes the <code>MethodHandle</code>.
+	 */
+	static class MethodHandleGetter extends GeneratedGetter {
+		private final MethodHandle methodHandle;
+
+		private MethodHandleGetter(final Getter getter, final Class targetType, final MethodHandle methodHandle) {
+			super(getter, targetType);
+			this.methodHandle = methodHandle;
+		}
+
+		@Override
+		public Object invokeGetter(final Object target) throws InvocationTargetException, IllegalAccessException {
+			if (!accepts(target)) {
+				return getter.invokeGetter(target);
+			}
+			try {
+				return (Object) methodHandle.invokeExact(target);
+			} catch (final Throwable throwable) {
+				throw new InvocationTargetException(throwable);
+			}
+		}
+	}
+
+	/**
+	 * Base for generated setters; delegates type information and invocations
+	 * with targets or arguments of other types to the reflective setter.
+	 */
+	private abstract static class GeneratedSetter implements Setter {
+		protected final Setter setter;
+		private final Class targetType;
+		private final Class argumentType;
+		private final boolean primitive;
+
+		private GeneratedSetter(final Setter setter, final Class targetType, final Class argumentType) {
+			this.setter = setter;
+			this.targetType = targetType;
+			this.argumentType = MethodType.methodType(argumentType).wrap().returnType();
+			this.primitive = argumentType.isPrimitive();
+		}
+
+		/**
+		 * Returns <code>true</code> if the target and the argument can be passed
+		 * to the generated setter. Primitive arguments must be of the exact
+		 * wrapper type, as widening is left to the reflection.
+		 */
+		protected boolean accepts(final Object target, final Object argument) {
+			if (!targetType.isInstance(target)) {
+				return false;
+			}
+			if (argument == null) {
+				return !primitive;
+			}
+			return primitive ? argument.getClass() == argumentType : argumentType.isInstance(argument);
+		}
+
+		@Override
+		public Class getSetterRawType() {
+			return setter.getSetterRawType();
+		}
+
+		@Override
+		public Class getSetterRawComponentType() {
+			return setter.getSetterRawComponentType();
+		}
+
+		@Override
+		public MapperFunction getMapperFunction() {
+			return setter.getMapperFunction();
+		}
+	}
+
+	/**
+	 * Setter generated by the <code>LambdaMetafactory</code>.
+	 */
+	static class LambdaSetter extends GeneratedSetter {
+		private final BiConsumer<Object, Object> consumer;
+
+		private LambdaSetter(final Setter setter, final Class targetType, final Class argumentType, final BiConsumer<Object, Object> consumer) {
+			super(setter, targetType, argumentType);
+			this.consumer = consumer;
+		}
+
+		@Override
+		public void invokeSetter(final Object target, final Object argument) throws InvocationTargetException, IllegalAccessException {
+			if (!accepts(target, argument)) {
+				setter.invokeSetter(target, argument);
+				return;
+			}
+			try {
+				consumer.accept(target, argument);
+			} catch (final Throwable throwable) {
+				throw new InvocationTargetException(throwable);
+			}
+		}
+	}
+
+	/**
+	 * Setter that invokes the <code>MethodHandle</code>.
+	 */
+	static class MethodHandleSetter extends GeneratedSetter {
+		private final MethodHandle methodHandle;
+
+		private MethodHandleSetter(final Setter setter, final Class targetType, final Class argumentType, final MethodHandle methodHandle) {
+			super(setter, targetType, argumentType);
+			this.methodHandle = methodHandle;
+		}
+
+		@Override
+		public void invokeSetter(final Object target, final Object argument) throws InvocationTargetException, IllegalAccessException {
+			if (!accepts(target, argument)) {
+				setter.invokeSetter(target, argument);
+				return;
+			}
+			try {
+				methodHandle.invokeExact(target, argument);
+			} catch (final Throwable throwable) {
+				throw new InvocationTargetException(throwable);
+			}
+		}
+	}
+}
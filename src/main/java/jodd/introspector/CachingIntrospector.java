@@ -25,13 +25,34 @@
 
 package jodd.introspector;
 
+import jodd.util.ClassLoaderUtil;
 import jodd.util.TypeCache;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Default {@link jodd.introspector.ClassIntrospector introspector} that caches all class descriptors.
  * It can examine either <b>accessible</b> or <b>supported</b> fields/methods/constructors.
  * <p>
- * It simply caches <b>all</b> class descriptors.
+ * It simply caches <b>all</b> class descriptors. By default, descriptors are
+ * stored in the {@link TypeCache.Builder#classValue(boolean) class value cache}.
  */
 public class CachingIntrospector implements ClassIntrospector {
 
@@ -40,6 +61,7 @@ public class CachingIntrospector implements ClassIntrospector {
 	protected final boolean enhancedProperties;
 	protected final boolean includeFieldsAsProperties;
 	protected final String[] propertyFieldPrefix;
+	protected final boolean generatedAccessors;
 
 	/**
 	 * Default constructor.
@@ -54,11 +76,29 @@ public class CachingIntrospector implements ClassIntrospector {
 	 * constructors.
 	 */
 	public CachingIntrospector(final boolean scanAccessible, final boolean enhancedProperties, final boolean includeFieldsAsProperties, final String[] propertyFieldPrefix) {
-		this.cache = TypeCache.createDefault();
+		this(scanAccessible, enhancedProperties, includeFieldsAsProperties, propertyFieldPrefix, false);
+	}
+
+	/**
+	 * Creates new caching {@link ClassIntrospector}. When <code>generatedAccessors</code>
+	 * is set, property getters and setters are {@link Accessors generated}
+	 * using method handles and lambdas instead of reflection.
+	 */
+	public CachingIntrospector(final boolean scanAccessible, final boolean enhancedProperties, final boolean includeFieldsAsProperties, final String[] propertyFieldPrefix, final boolean generatedAccessors) {
+		this(TypeCache.<ClassDescriptor>create().classValue(true).get(), scanAccessible, enhancedProperties, includeFieldsAsProperties, propertyFieldPrefix, generatedAccessors);
+	}
+
+	/**
+	 * Creates new caching {@link ClassIntrospector} that stores class descriptors
+	 * in provided {@link TypeCache type cache}, e.g. in a bounded one.
+	 */
+	public CachingIntrospector(final TypeCache<ClassDescriptor> cache, final boolean scanAccessible, final boolean enhancedProperties, final boolean includeFieldsAsProperties, final String[] propertyFieldPrefix, final boolean generatedAccessors) {
+		this.cache = cache;
 		this.scanAccessible = scanAccessible;
 		this.enhancedProperties = enhancedProperties;
 		this.includeFieldsAsProperties = includeFieldsAsProperties;
 		this.propertyFieldPrefix = propertyFieldPrefix;
+		this.generatedAccessors = generatedAccessors;
 	}
 
 	/**
@@ -66,13 +106,180 @@ public class CachingIntrospector implements ClassIntrospector {
 	 */
 	@Override
 	public ClassDescriptor lookup(final Class type) {
-		return cache.get(type, (t) ->
-			new ClassDescriptor(
-				t,
-				scanAccessible,
-				enhancedProperties,
-				includeFieldsAsProperties,
-				propertyFieldPrefix));
+		return cache.get(type, this::createClassDescriptor);
+	}
+
+	/**
+	 * Creates new {@link ClassDescriptor}. Properties are restored from
+	 * the {@link #loadSnapshot(InputStream) snapshot}, if available.
+	 */
+	protected ClassDescriptor createClassDescriptor(final Class type) {
+		final ClassDescriptor classDescriptor = new ClassDescriptor(
+			type,
+			scanAccessible,
+			enhancedProperties,
+			includeFieldsAsProperties,
+			propertyFieldPrefix,
+			generatedAccessors);
+
+		final IntrospectorSnapshot snapshot = this.snapshot;
+		if (snapshot != null) {
+			snapshot.restore(classDescriptor);
+		}
+		return classDescriptor;
+	}
+
+	// ---------------------------------------------------------------- snapshot
+
+	protected volatile IntrospectorSnapshot snapshot;
+
+	/**
+	 * Returns introspector configuration, used to match the snapshot.
+	 */
+	protected String snapshotConfig() {
+		return scanAccessible + ","
+			+ enhancedProperties + ","
+			+ includeFieldsAsProperties + ","
+			+ (propertyFieldPrefix == null ? "" : String.join("|", propertyFieldPrefix)) + ","
+			+ System.getProperty("java.version");
+	}
+
+	/**
+	 * Saves properties of all cached class descriptors into the
+	 * {@link IntrospectorSnapshot snapshot}. Returns number of saved classes.
+	 */
+	public int saveSnapshot(final OutputStream outputStream) throws IOException {
+		final List<ClassDescriptor> classDescriptors = new ArrayList<>();
+		cache.forEachValue(classDescriptors::add);
+
+		return IntrospectorSnapshot.write(snapshotConfig(), classDescriptors, outputStream);
+	}
+
+	/**
+	 * Saves snapshot into a file.
+	 * @see #saveSnapshot(OutputStream)
+	 */
+	public int saveSnapshot(final File file) throws IOException {
+		try (final OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+			return saveSnapshot(outputStream);
+		}
+	}
+
+	/**
+	 * Loads the {@link IntrospectorSnapshot snapshot}. Class descriptors created
+	 * afterwards restore their properties from the snapshot, instead of scanning
+	 * the class. Stale class entries are ignored. Returns <code>false</code>
+	 * if snapshot was created with a different introspector configuration
+	 * or Java version; such snapshot is not used.
+	 */
+	public boolean loadSnapshot(final InputStream inputStream) throws IOException {
+		final IntrospectorSnapshot snapshot = IntrospectorSnapshot.read(inputStream);
+
+		if (!snapshot.getConfig().equals(snapshotConfig())) {
+			return false;
+		}
+		this.snapshot = snapshot;
+		return true;
+	}
+
+	/**
+	 * Loads snapshot from a file.
+	 * @see #loadSnapshot(InputStream)
+	 */
+	public boolean loadSnapshot(final File file) throws IOException {
+		try (final InputStream inputStream = new BufferedInputStream(new FileInputStream(file))) {
+			return loadSnapshot(inputStream);
+		}
+	}
+
+	// ---------------------------------------------------------------- warm up
+
+	/**
+	 * Pre-builds descriptors of given classes in the common fork-join pool.
+	 * @see #warmUp(Collection, Executor)
+	 */
+	public Map<Class, Long> warmUp(final Class... types) {
+		return warmUp(Arrays.asList(types), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Pre-builds descriptors of given classes using provided executor, so the cost
+	 * of the introspection is not paid on first usage. All fields, methods,
+	 * properties, constructors, getters and setters are created. Returns
+	 * the time (in nanoseconds) spent on each class, in the order of given types.
+	 * Blocks until all classes are processed.
+	 */
+	public Map<Class, Long> warmUp(final Collection<Class> types, final Executor executor) {
+		final Map<Class, CompletableFuture<Long>> futures = new LinkedHashMap<>();
+
+		for (final Class type : types) {
+			futures.computeIfAbsent(type, t -> CompletableFuture.supplyAsync(() -> prebuild(t), executor));
+		}
+
+		final Map<Class, Long> timings = new LinkedHashMap<>(futures.size());
+
+		futures.forEach((type, future) -> timings.put(type, future.join()));
+
+		return timings;
+	}
+
+	/**
+	 * Pre-builds descriptors of all classes found in given packages and their
+	 * sub-packages, using the default class loader and the common fork-join pool.
+	 * Classes are loaded, but not initialized. Classes that can not be loaded,
+	 * as well as anonymous and local classes, are skipped.
+	 * @see #warmUp(Collection, Executor)
+	 */
+	public Map<Class, Long> warmUpPackages(final String... packageNames) {
+		final ClassLoader classLoader = ClassLoaderUtil.getDefaultClassLoader();
+		final List<Class> types = new ArrayList<>();
+
+		for (final String packageName : packageNames) {
+			final List<String> classNames;
+			try {
+				classNames = ClassLoaderUtil.findClassNames(packageName, classLoader);
+			}
+			catch (final IOException ioex) {
+				throw new UncheckedIOException(ioex);
+			}
+
+			for (final String className : classNames) {
+				final Class type;
+				try {
+					type = Class.forName(className, false, classLoader);
+				}
+				catch (final ClassNotFoundException | LinkageError ignore) {
+					continue;
+				}
+				if (type.isAnonymousClass() || type.isLocalClass()) {
+					continue;
+				}
+				types.add(type);
+			}
+		}
+
+		return warmUp(types, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Builds complete class descriptor and returns the elapsed time in nanoseconds.
+	 */
+	protected long prebuild(final Class type) {
+		final long start = System.nanoTime();
+
+		final ClassDescriptor cd = lookup(type);
+
+		cd.getAllFieldDescriptors();
+		cd.getAllMethodDescriptors();
+		cd.getAllCtorDescriptors();
+
+		for (final PropertyDescriptor pd : cd.getAllPropertyDescriptors()) {
+			pd.getGetter(true);
+			pd.getSetter(true);
+			pd.getType();
+		}
+
+		return System.nanoTime() - start;
 	}
 
 	/**
@@ -38,6 +38,8 @@ import java.util.function.Supplier;
  * Static methods/fields are ignored.
  * <p>
  * Descriptors are 'lazy': various internal caches are created on first request.
+ * Each cache is created exactly once, even when the descriptor is accessed
+ * concurrently; once created, caches are read without locking.
  * <p>
  * Throughout this class, public members are defined as members
  * defined with "public" keyword and declared in a public type.
@@ -57,15 +59,21 @@ public class ClassDescriptor {
 	protected final boolean extendedProperties;
 	protected final boolean includeFieldsAsProperties;
 	protected final String[] propertyFieldPrefix;
+	protected final boolean generatedAccessors;
 	protected final Class[] interfaces;
 	protected final Class[] superclasses;
 
 	public ClassDescriptor(final Class type, final boolean scanAccessible, final boolean extendedProperties, final boolean includeFieldsAsProperties, final String[] propertyFieldPrefix) {
+		this(type, scanAccessible, extendedProperties, includeFieldsAsProperties, propertyFieldPrefix, false);
+	}
+
+	public ClassDescriptor(final Class type, final boolean scanAccessible, final boolean extendedProperties, final boolean includeFieldsAsProperties, final String[] propertyFieldPrefix, final boolean generatedAccessors) {
 		this.type = type;
 		this.scanAccessible = scanAccessible;
 		this.extendedProperties = extendedProperties;
 		this.includeFieldsAsProperties = includeFieldsAsProperties;
 		this.propertyFieldPrefix = propertyFieldPrefix;
+		this.generatedAccessors = generatedAccessors;
 
 		isArray = type.isArray();
 		isMap = ClassUtil.isTypeOf(type, Map.class);
@@ -121,6 +129,14 @@ public class ClassDescriptor {
 		return propertyFieldPrefix;
 	}
 
+	/**
+	 * Returns <code>true</code> if property getters and setters are
+	 * {@link Accessors generated} instead of being reflective.
+	 */
+	public boolean isGeneratedAccessors() {
+		return generatedAccessors;
+	}
+
 	// ---------------------------------------------------------------- special
 
 	private final boolean isArray;
@@ -184,19 +200,33 @@ public class ClassDescriptor {
 
 	// ---------------------------------------------------------------- fields
 
-	private Fields fields;
+	private volatile Fields fields;
 
 	/**
 	 * Returns {@link Fields fields collection}.
 	 * Creates new fields collection on first usage.
 	 */
 	protected Fields getFields() {
+		Fields fields = this.fields;
 		if (fields == null) {
-			fields = new Fields(this);
+			synchronized (this) {
+				fields = this.fields;
+				if (fields == null) {
+					fields = createFields();
+					this.fields = fields;
+				}
+			}
 		}
 		return fields;
 	}
 
+	/**
+	 * Creates new {@link Fields fields collection}. Invoked only once per class descriptor.
+	 */
+	protected Fields createFields() {
+		return new Fields(this);
+	}
+
 	/**
 	 * Returns field descriptor.
 	 */
@@ -221,19 +251,33 @@ public class ClassDescriptor {
 
 	// ---------------------------------------------------------------- methods
 
-	private Methods methods;
+	private volatile Methods methods;
 
 	/**
 	 * Returns methods collection.
 	 * Creates new collection on first access.
 	 */
 	protected Methods getMethods() {
+		Methods methods = this.methods;
 		if (methods == null) {
-			methods = new Methods(this);
+			synchronized (this) {
+				methods = this.methods;
+				if (methods == null) {
+					methods = createMethods();
+					this.methods = methods;
+				}
+			}
 		}
 		return methods;
 	}
 
+	/**
+	 * Creates new methods collection. Invoked only once per class descriptor.
+	 */
+	protected Methods createMethods() {
+		return new Methods(this);
+	}
+
 	/**
 	 * Returns {@link MethodDescriptor method descriptor} identified by name and parameters.
 	 */
@@ -277,19 +321,41 @@ public class ClassDescriptor {
 
 	// ---------------------------------------------------------------- properties
 
-	private Properties properties;
+	private volatile Properties properties;
 
 	/**
 	 * Returns properties collection.
 	 * Creates new collection on first access.
 	 */
 	protected Properties getProperties() {
+		Properties properties = this.properties;
 		if (properties == null) {
-			properties = new Properties(this);
+			synchronized (this) {
+				properties = this.properties;
+				if (properties == null) {
+					properties = createProperties();
+					this.properties = properties;
+				}
+			}
 		}
 		return properties;
 	}
 
+	/**
+	 * Creates new properties collection. Invoked only once per class descriptor.
+	 */
+	protected Properties createProperties() {
+		return new Properties(this);
+	}
+
+	/**
+	 * Sets already inspected properties collection. Must be invoked
+	 * before the descriptor is published to other threads.
+	 */
+	void initProperties(final Properties properties) {
+		this.properties = properties;
+	}
+
 	/**
 	 * Returns property descriptor. Declared flag is matched on both read and write
 	 * methods.
@@ -311,21 +377,70 @@ public class ClassDescriptor {
 		return getProperties().getAllPropertyDescriptors();
 	}
 
+	/**
+	 * Resolves property name to a stable slot. Returns <code>-1</code>
+	 * if property does not exist. Resolve the slot once and then use
+	 * it for repeated access, avoiding lookups by property name.
+	 */
+	public int getPropertySlot(final String name) {
+		return getProperties().getPropertySlot(name);
+	}
+
+	/**
+	 * Returns property descriptor for given slot.
+	 * @see #getPropertySlot(String)
+	 */
+	public PropertyDescriptor getPropertyDescriptor(final int slot) {
+		return getProperties().getPropertyDescriptor(slot);
+	}
+
+	/**
+	 * Returns property {@link Getter} for given slot, or <code>null</code>
+	 * if property is not readable.
+	 * @see #getPropertySlot(String)
+	 */
+	public Getter getPropertyGetter(final int slot, final boolean declared) {
+		return getProperties().getPropertyDescriptor(slot).getGetter(declared);
+	}
+
+	/**
+	 * Returns property {@link Setter} for given slot, or <code>null</code>
+	 * if property is not writable.
+	 * @see #getPropertySlot(String)
+	 */
+	public Setter getPropertySetter(final int slot, final boolean declared) {
+		return getProperties().getPropertyDescriptor(slot).getSetter(declared);
+	}
+
 	// ---------------------------------------------------------------- ctors
 
-	private Ctors ctors;
+	private volatile Ctors ctors;
 
 	/**
 	 * Returns constructors collection.
 	 * Creates new collection of first access.
 	 */
 	protected Ctors getCtors() {
+		Ctors ctors = this.ctors;
 		if (ctors == null) {
-			ctors = new Ctors(this);
+			synchronized (this) {
+				ctors = this.ctors;
+				if (ctors == null) {
+					ctors = createCtors();
+					this.ctors = ctors;
+				}
+			}
 		}
 		return ctors;
 	}
 
+	/**
+	 * Creates new constructors collection. Invoked only once per class descriptor.
+	 */
+	protected Ctors createCtors() {
+		return new Ctors(this);
+	}
+
 	/**
 	 * Returns the default ctor or <code>null</code> if not found.
 	 */
@@ -79,6 +79,28 @@ public class FieldDescriptor extends Descriptor {
 		}
 	}
 
+	/**
+	 * Creates new field descriptor from already resolved field data,
+	 * e.g. from the {@link IntrospectorSnapshot snapshot}. Forces access to a field.
+	 */
+	public FieldDescriptor(
+			final ClassDescriptor classDescriptor,
+			final Field field,
+			final Class rawType,
+			final Class rawComponentType,
+			final Class rawKeyComponentType,
+			final MapperFunction mapperFunction) {
+		super(classDescriptor, ClassUtil.isPublic(field));
+		this.field = field;
+		this.type = field.getGenericType();
+		this.rawType = rawType;
+		this.rawComponentType = rawComponentType;
+		this.rawKeyComponentType = rawKeyComponentType;
+		this.mapperFunction = mapperFunction;
+
+		ClassUtil.forceAccess(field);
+	}
+
 	/**
 	 * Returns field name.
 	 */
@@ -43,7 +43,7 @@ public class Fields {
 	protected final Map<String, FieldDescriptor> fieldsMap;
 
 	// cache
-	private FieldDescriptor[] allFields;
+	private volatile FieldDescriptor[] allFields;
 
 	/**
 	 * Creates new fields collection.
@@ -111,18 +111,24 @@ public class Fields {
 	 * if no fields exist. Initialized lazy.
 	 */
 	public FieldDescriptor[] getAllFieldDescriptors() {
+		FieldDescriptor[] allFields = this.allFields;
 		if (allFields == null) {
-			FieldDescriptor[] allFields = new FieldDescriptor[fieldsMap.size()];
+			synchronized (this) {
+				allFields = this.allFields;
+				if (allFields == null) {
+					allFields = new FieldDescriptor[fieldsMap.size()];
 
-			int index = 0;
-			for (FieldDescriptor fieldDescriptor : fieldsMap.values()) {
-				allFields[index] = fieldDescriptor;
-				index++;
-			}
+					int index = 0;
+					for (FieldDescriptor fieldDescriptor : fieldsMap.values()) {
+						allFields[index] = fieldDescriptor;
+						index++;
+					}
 
-			Arrays.sort(allFields, Comparator.comparing(fd -> fd.getField().getName()));
+					Arrays.sort(allFields, Comparator.comparing(fd -> fd.getField().getName()));
 
-			this.allFields = allFields;
+					this.allFields = allFields;
+				}
+			}
 		}
 		return allFields;
 	}
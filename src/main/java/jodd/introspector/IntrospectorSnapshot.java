@@ -0,0 +1,632 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.introspector;
+
+import jodd.util.ClassLoaderUtil;
+import jodd.util.ClassUtil;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent snapshot of introspected properties. Snapshot stores the result
+ * of {@link Properties properties inspection}: property names, pairing of
+ * getters, setters and fields, resolved raw (component) types and
+ * {@link Mapper mappers}. Restoring a class descriptor from the snapshot
+ * skips scanning of class methods and fields and resolving of generic types.
+ * <p>
+ * Every class entry holds a checksum of the class files of the class and all its
+ * superclasses and interfaces. When checksum does not match anymore, the entry
+ * is stale and class is introspected as usual. Classes loaded by the
+ * bootstrap class loader are not part of the checksum; instead, the whole snapshot
+ * is bound to the Java version. Classes without a class file (e.g. generated on
+ * runtime) are not stored.
+ * <p>
+ * Snapshot is a compact binary file: all strings are stored once in a table,
+ * and referenced by variable-length indexes.
+ */
+public class IntrospectorSnapshot {
+
+	private static final int MAGIC = 0x4A4F4444;
+	private static final int VERSION = 1;
+
+	private static final int FLAG_READ = 1;
+	private static final int FLAG_WRITE = 2;
+	private static final int FLAG_FIELD = 4;
+
+	private final String config;
+	private final Map<String, ClassEntry> entries;
+
+	private IntrospectorSnapshot(final String config, final Map<String, ClassEntry> entries) {
+		this.config = config;
+		this.entries = entries;
+	}
+
+	/**
+	 * Returns configuration of the introspector that created the snapshot.
+	 */
+	public String getConfig() {
+		return config;
+	}
+
+	/**
+	 * Returns number of class entries that are not yet restored.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	// ---------------------------------------------------------------- restore
+
+	/**
+	 * Restores properties of given, newly created, class descriptor from the snapshot.
+	 * Each entry is used only once. Returns <code>false</code> if there is
+	 * no matching entry or if entry is stale.
+	 */
+	public boolean restore(final ClassDescriptor classDescriptor) {
+		final Class type = classDescriptor.getType();
+		final ClassEntry classEntry = entries.remove(type.getName());
+
+		if (classEntry == null) {
+			return false;
+		}
+
+		try {
+			if (checksum(type) != classEntry.checksum) {
+				return false;
+			}
+
+			final ClassLoader classLoader = type.getClassLoader();
+			final HashMap<String, PropertyDescriptor> map = new HashMap<>(classEntry.properties.length);
+
+			for (final PropertyEntry propertyEntry : classEntry.properties) {
+				final FieldDescriptor fieldDescriptor = restoreField(classDescriptor, propertyEntry.field, classLoader);
+				final PropertyDescriptor propertyDescriptor;
+
+				if (propertyEntry.read == null && propertyEntry.write == null) {
+					propertyDescriptor = new PropertyDescriptor(classDescriptor, propertyEntry.name, fieldDescriptor);
+				}
+				else {
+					propertyDescriptor = new PropertyDescriptor(
+						classDescriptor, propertyEntry.name,
+						restoreMethod(classDescriptor, propertyEntry.read, classLoader),
+						restoreMethod(classDescriptor, propertyEntry.write, classLoader),
+						fieldDescriptor);
+				}
+				map.put(propertyEntry.name, propertyDescriptor);
+			}
+
+			classDescriptor.initProperties(new Properties(classDescriptor, map));
+			return true;
+		}
+		catch (final Exception | LinkageError ignore) {
+			// class changed in the way that checksum does not detect
+			return false;
+		}
+	}
+
+	private MethodDescriptor restoreMethod(final ClassDescriptor classDescriptor, final MemberEntry entry, final ClassLoader classLoader) throws Exception {
+		if (entry == null) {
+			return null;
+		}
+		final int paramCount = entry.parameterTypes.length;
+		final Class[] parameterTypes = new Class[paramCount];
+		final MethodParamDescriptor[] parameters = new MethodParamDescriptor[paramCount];
+
+		for (int i = 0; i < paramCount; i++) {
+			parameterTypes[i] = loadType(entry.parameterTypes[i], classLoader);
+			parameters[i] = new MethodParamDescriptor(
+				parameterTypes[i],
+				loadType(entry.rawParameterTypes[i], classLoader),
+				loadType(entry.rawParameterComponentTypes[i], classLoader));
+		}
+
+		final Method method = loadType(entry.declaringClass, classLoader).getDeclaredMethod(entry.name, parameterTypes);
+
+		return new MethodDescriptor(
+			classDescriptor, method,
+			loadType(entry.rawType, classLoader),
+			loadType(entry.rawComponentType, classLoader),
+			loadType(entry.rawKeyComponentType, classLoader),
+			parameters,
+			loadMapper(entry.mapper, classLoader));
+	}
+
+	private FieldDescriptor restoreField(final ClassDescriptor classDescriptor, final MemberEntry entry, final ClassLoader classLoader) throws Exception {
+		if (entry == null) {
+			return null;
+		}
+		final Field field = loadType(entry.declaringClass, classLoader).getDeclaredField(entry.name);
+
+		return new FieldDescriptor(
+			classDescriptor, field,
+			loadType(entry.rawType, classLoader),
+			loadType(entry.rawComponentType, classLoader),
+			loadType(entry.rawKeyComponentType, classLoader),
+			loadMapper(entry.mapper, classLoader));
+	}
+
+	@SuppressWarnings("unchecked")
+	private MapperFunction loadMapper(final String className, final ClassLoader classLoader) throws ClassNotFoundException {
+		if (className == null) {
+			return null;
+		}
+		return MapperFunctionInstances.get().lookup(loadType(className, classLoader));
+	}
+
+	private static final Map<String, Class> PRIMITIVES = new HashMap<>();
+	static {
+		for (final Class type : new Class[] {
+				boolean.class, byte.class, char.class, short.class,
+				int.class, long.class, float.class, double.class, void.class}) {
+			PRIMITIVES.put(type.getName(), type);
+		}
+	}
+
+	private Class loadType(final String className, final ClassLoader classLoader) throws ClassNotFoundException {
+		if (className == null) {
+			return null;
+		}
+		final Class primitive = PRIMITIVES.get(className);
+		if (primitive != null) {
+			return primitive;
+		}
+		return Class.forName(className, false, classLoader);
+	}
+
+	// ---------------------------------------------------------------- checksum
+
+	/**
+	 * Checksums of single class files, calculated once per class. Class files
+	 * of loaded classes do not change, so there is no need to read them again
+	 * for each class that shares the superclass or interface.
+	 */
+	private static final ClassValue<Long> CLASS_FILE_CHECKSUMS = new ClassValue<Long>() {
+		@Override
+		protected Long computeValue(final Class<?> type) {
+			try (final InputStream inputStream = ClassLoaderUtil.getClassAsStream(type)) {
+				if (inputStream == null) {
+					return -1L;
+				}
+				final CRC32 crc = new CRC32();
+				final byte[] buffer = new byte[8192];
+				int read;
+				while ((read = inputStream.read(buffer)) != -1) {
+					crc.update(buffer, 0, read);
+				}
+				return crc.getValue();
+			}
+			catch (final IOException ioex) {
+				throw new UncheckedIOException(ioex);
+			}
+		}
+	};
+
+	/**
+	 * Calculates checksum of class files of given type and all its
+	 * superclasses and interfaces. Classes of the bootstrap class loader
+	 * are skipped. Returns <code>-1</code> if some class file is not available.
+	 * Checksum of each class file is calculated only once.
+	 */
+	public static long checksum(final Class type) throws IOException {
+		final List<Class> types = new ArrayList<>();
+		types.add(type);
+		for (final Class superclass : ClassUtil.resolveAllSuperclasses(type)) {
+			types.add(superclass);
+		}
+		for (final Class anInterface : ClassUtil.resolveAllInterfaces(type)) {
+			types.add(anInterface);
+		}
+
+		final CRC32 crc = new CRC32();
+		final byte[] bytes = new byte[8];
+
+		for (final Class t : types) {
+			if (t.getClassLoader() == null) {
+				continue;
+			}
+			final long classFileChecksum;
+			try {
+				classFileChecksum = CLASS_FILE_CHECKSUMS.get(t);
+			}
+			catch (final UncheckedIOException uioex) {
+				throw uioex.getCause();
+			}
+			if (classFileChecksum == -1) {
+				return -1;
+			}
+			for (int i = 0; i < 8; i++) {
+				bytes[i] = (byte) (classFileChecksum >>> (56 - (i << 3)));
+			}
+			crc.update(bytes, 0, 8);
+		}
+		return crc.getValue();
+	}
+
+	// ---------------------------------------------------------------- write
+
+	/**
+	 * Writes properties of given class descriptors to the output.
+	 * Returns number of written classes.
+	 */
+	public static int write(final String config, final Collection<ClassDescriptor> classDescriptors, final OutputStream outputStream) throws IOException {
+		final List<ClassEntry> classEntries = new ArrayList<>(classDescriptors.size());
+
+		for (final ClassDescriptor classDescriptor : classDescriptors) {
+			final long checksum = checksum(classDescriptor.getType());
+			if (checksum == -1) {
+				continue;
+			}
+			final PropertyDescriptor[] propertyDescriptors = classDescriptor.getAllPropertyDescriptors();
+			final PropertyEntry[] propertyEntries = new PropertyEntry[propertyDescriptors.length];
+
+			for (int i = 0; i < propertyDescriptors.length; i++) {
+				final PropertyDescriptor pd = propertyDescriptors[i];
+				propertyEntries[i] = new PropertyEntry(
+					pd.getName(),
+					methodEntry(pd.getReadMethodDescriptor()),
+					methodEntry(pd.getWriteMethodDescriptor()),
+					fieldEntry(pd.getFieldDescriptor()));
+			}
+
+			classEntries.add(new ClassEntry(classDescriptor.getType().getName(), checksum, propertyEntries));
+		}
+
+		final StringTable strings = new StringTable();
+		for (final ClassEntry classEntry : classEntries) {
+			classEntry.collectStrings(strings);
+		}
+
+		final DataOutputStream out = new DataOutputStream(outputStream);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeUTF(config);
+
+		writeVarInt(out, strings.size());
+		for (final String string : strings.keys()) {
+			out.writeUTF(string);
+		}
+
+		writeVarInt(out, classEntries.size());
+		for (final ClassEntry classEntry : classEntries) {
+			classEntry.write(out, strings);
+		}
+		out.flush();
+
+		return classEntries.size();
+	}
+
+	private static MemberEntry methodEntry(final MethodDescriptor md) {
+		if (md == null) {
+			return null;
+		}
+		final Method method = md.getMethod();
+		final Class[] types = method.getParameterTypes();
+		final MethodParamDescriptor[] parameters = md.getParameters();
+
+		final String[] parameterTypes = new String[types.length];
+		final String[] rawParameterTypes = new String[types.length];
+		final String[] rawParameterComponentTypes = new String[types.length];
+
+		for (int i = 0; i < types.length; i++) {
+			parameterTypes[i] = name(types[i]);
+			rawParameterTypes[i] = name(parameters[i].getRawType());
+			rawParameterComponentTypes[i] = name(parameters[i].getRawComponentType());
+		}
+
+		return new MemberEntry(
+			name(method.getDeclaringClass()), method.getName(),
+			parameterTypes, rawParameterTypes, rawParameterComponentTypes,
+			name(md.getRawReturnType()), name(md.getRawReturnComponentType()), name(md.getRawReturnKeyComponentType()),
+			md.mapperFunction == null ? null : name(md.mapperFunction.getClass()));
+	}
+
+	private static MemberEntry fieldEntry(final FieldDescriptor fd) {
+		if (fd == null) {
+			return null;
+		}
+		final Field field = fd.getField();
+		final String[] none = new String[0];
+
+		return new MemberEntry(
+			name(field.getDeclaringClass()), field.getName(),
+			none, none, none,
+			name(fd.getRawType()), name(fd.getRawComponentType()), name(fd.getRawKeyComponentType()),
+			fd.mapperFunction == null ? null : name(fd.mapperFunction.getClass()));
+	}
+
+	private static String name(final Class type) {
+		return type == null ? null : type.getName();
+	}
+
+	// ---------------------------------------------------------------- read
+
+	/**
+	 * Reads the snapshot.
+	 */
+	public static IntrospectorSnapshot read(final InputStream inputStream) throws IOException {
+		final DataInputStream in = new DataInputStream(inputStream);
+
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not an introspector snapshot");
+		}
+		final int version = in.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported introspector snapshot version: " + version);
+		}
+		final String config = in.readUTF();
+
+		final String[] strings = new String[readVarInt(in)];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = in.readUTF();
+		}
+
+		final int classCount = readVarInt(in);
+		final Map<String, ClassEntry> entries = new ConcurrentHashMap<>(classCount);
+
+		for (int i = 0; i < classCount; i++) {
+			final ClassEntry classEntry = ClassEntry.read(in, strings);
+			entries.put(classEntry.name, classEntry);
+		}
+
+		return new IntrospectorSnapshot(config, entries);
+	}
+
+	// ---------------------------------------------------------------- encoding
+
+	private static void writeVarInt(final DataOutputStream out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	private static int readVarInt(final DataInputStream in) throws IOException {
+		int value = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = in.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		return value;
+	}
+
+	private static void writeString(final DataOutputStream out, final StringTable strings, final String string) throws IOException {
+		writeVarInt(out, string == null ? 0 : strings.indexOf(string) + 1);
+	}
+
+	private static String readString(final DataInputStream in, final String[] strings) throws IOException {
+		final int index = readVarInt(in);
+		return index == 0 ? null : strings[index - 1];
+	}
+
+	/**
+	 * Table of unique strings.
+	 */
+	private static class StringTable {
+		private final Map<String, Integer> map = new LinkedHashMap<>();
+
+		void add(final String string) {
+			if (string != null) {
+				map.putIfAbsent(string, map.size());
+			}
+		}
+
+		int indexOf(final String string) {
+			return map.get(string);
+		}
+
+		int size() {
+			return map.size();
+		}
+
+		Collection<String> keys() {
+			return map.keySet();
+		}
+	}
+
+	// ---------------------------------------------------------------- entries
+
+	private static class ClassEntry {
+		final String name;
+		final long checksum;
+		final PropertyEntry[] properties;
+
+		ClassEntry(final String name, final long checksum, final PropertyEntry[] properties) {
+			this.name = name;
+			this.checksum = checksum;
+			this.properties = properties;
+		}
+
+		void collectStrings(final StringTable strings) {
+			strings.add(name);
+			for (final PropertyEntry property : properties) {
+				strings.add(property.name);
+				for (final MemberEntry member : new MemberEntry[] {property.read, property.write, property.field}) {
+					if (member != null) {
+						member.collectStrings(strings);
+					}
+				}
+			}
+		}
+
+		void write(final DataOutputStream out, final StringTable strings) throws IOException {
+			writeString(out, strings, name);
+			out.writeLong(checksum);
+			writeVarInt(out, properties.length);
+
+			for (final PropertyEntry property : properties) {
+				writeString(out, strings, property.name);
+
+				int flags = 0;
+				if (property.read != null) {
+					flags |= FLAG_READ;
+				}
+				if (property.write != null) {
+					flags |= FLAG_WRITE;
+				}
+				if (property.field != null) {
+					flags |= FLAG_FIELD;
+				}
+				out.writeByte(flags);
+
+				for (final MemberEntry member : new MemberEntry[] {property.read, property.write, property.field}) {
+					if (member != null) {
+						member.write(out, strings);
+					}
+				}
+			}
+		}
+
+		static ClassEntry read(final DataInputStream in, final String[] strings) throws IOException {
+			final String name = readString(in, strings);
+			final long checksum = in.readLong();
+			final PropertyEntry[] properties = new PropertyEntry[readVarInt(in)];
+
+			for (int i = 0; i < properties.length; i++) {
+				final String propertyName = readString(in, strings);
+				final int flags = in.readUnsignedByte();
+
+				properties[i] = new PropertyEntry(
+					propertyName,
+					(flags & FLAG_READ) != 0 ? MemberEntry.read(in, strings) : null,
+					(flags & FLAG_WRITE) != 0 ? MemberEntry.read(in, strings) : null,
+					(flags & FLAG_FIELD) != 0 ? MemberEntry.read(in, strings) : null);
+			}
+			return new ClassEntry(name, checksum, properties);
+		}
+	}
+
+	private static class PropertyEntry {
+		final String name;
+		final MemberEntry read;
+		final MemberEntry write;
+		final MemberEntry field;
+
+		PropertyEntry(final String name, final MemberEntry read, final MemberEntry write, final MemberEntry field) {
+			this.name = name;
+			this.read = read;
+			this.write = write;
+			this.field = field;
+		}
+	}
+
+	/**
+	 * Method or field entry. Fields do not have parameters.
+	 */
+	private static class MemberEntry {
+		final String declaringClass;
+		final String name;
+		final String[] parameterTypes;
+		final String[] rawParameterTypes;
+		final String[] rawParameterComponentTypes;
+		final String rawType;
+		final String rawComponentType;
+		final String rawKeyComponentType;
+		final String mapper;
+
+		MemberEntry(
+				final String declaringClass, final String name,
+				final String[] parameterTypes, final String[] rawParameterTypes, final String[] rawParameterComponentTypes,
+				final String rawType, final String rawComponentType, final String rawKeyComponentType,
+				final String mapper) {
+			this.declaringClass = declaringClass;
+			this.name = name;
+			this.parameterTypes = parameterTypes;
+			this.rawParameterTypes = rawParameterTypes;
+			this.rawParameterComponentTypes = rawParameterComponentTypes;
+			this.rawType = rawType;
+			this.rawComponentType = rawComponentType;
+			this.rawKeyComponentType = rawKeyComponentType;
+			this.mapper = mapper;
+		}
+
+		void collectStrings(final StringTable strings) {
+			strings.add(declaringClass);
+			strings.add(name);
+			for (int i = 0; i < parameterTypes.length; i++) {
+				strings.add(parameterTypes[i]);
+				strings.add(rawParameterTypes[i]);
+				strings.add(rawParameterComponentTypes[i]);
+			}
+			strings.add(rawType);
+			strings.add(rawComponentType);
+			strings.add(rawKeyComponentType);
+			strings.add(mapper);
+		}
+
+		void write(final DataOutputStream out, final StringTable strings) throws IOException {
+			writeString(out, strings, declaringClass);
+			writeString(out, strings, name);
+			writeVarInt(out, parameterTypes.length);
+			for (int i = 0; i < parameterTypes.length; i++) {
+				writeString(out, strings, parameterTypes[i]);
+				writeString(out, strings, rawParameterTypes[i]);
+				writeString(out, strings, rawParameterComponentTypes[i]);
+			}
+			writeString(out, strings, rawType);
+			writeString(out, strings, rawComponentType);
+			writeString(out, strings, rawKeyComponentType);
+			writeString(out, strings, mapper);
+		}
+
+		static MemberEntry read(final DataInputStream in, final String[] strings) throws IOException {
+			final String declaringClass = readString(in, strings);
+			final String name = readString(in, strings);
+			final int paramCount = readVarInt(in);
+			final String[] parameterTypes = new String[paramCount];
+			final String[] rawParameterTypes = new String[paramCount];
+			final String[] rawParameterComponentTypes = new String[paramCount];
+			for (int i = 0; i < paramCount; i++) {
+				parameterTypes[i] = readString(in, strings);
+				rawParameterTypes[i] = readString(in, strings);
+				rawParameterComponentTypes[i] = readString(in, strings);
+			}
+			return new MemberEntry(
+				declaringClass, name,
+				parameterTypes, rawParameterTypes, rawParameterComponentTypes,
+				readString(in, strings), readString(in, strings), readString(in, strings),
+				readString(in, strings));
+		}
+	}
+}
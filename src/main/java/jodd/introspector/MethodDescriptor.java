@@ -121,6 +121,30 @@ public class MethodDescriptor extends Descriptor {
 //		}
 	}
 
+	/**
+	 * Creates method descriptor from already resolved method data,
+	 * e.g. from the {@link IntrospectorSnapshot snapshot}. Forces access to a method.
+	 */
+	public MethodDescriptor(
+			final ClassDescriptor classDescriptor,
+			final Method method,
+			final Class rawReturnType,
+			final Class rawReturnComponentType,
+			final Class rawReturnKeyComponentType,
+			final MethodParamDescriptor[] parameters,
+			final MapperFunction mapperFunction) {
+		super(classDescriptor, ClassUtil.isPublic(method));
+		this.method = method;
+		this.returnType = method.getGenericReturnType();
+		this.rawReturnType = rawReturnType;
+		this.rawReturnComponentType = rawReturnComponentType;
+		this.rawReturnKeyComponentType = rawReturnKeyComponentType;
+		this.parameters = parameters.length == 0 ? NO_PARAMS : parameters;
+		this.mapperFunction = mapperFunction;
+
+		ClassUtil.forceAccess(method);
+	}
+
 	/**
 	 * Returns method name.
 	 */
@@ -25,7 +25,6 @@
 
 package jodd.introspector;
 
-import jodd.util.ArraysUtil;
 import jodd.util.ClassUtil;
 
 import java.lang.reflect.Method;
@@ -35,6 +34,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Methods collection.
@@ -45,7 +45,7 @@ public class Methods {
 	protected final HashMap<String, MethodDescriptor[]> methodsMap;
 
 	// cache
-	private MethodDescriptor[] allMethods;
+	private volatile MethodDescriptor[] allMethods;
 
 	public Methods(final ClassDescriptor classDescriptor) {
 		this.classDescriptor = classDescriptor;
@@ -66,22 +66,16 @@ public class Methods {
 
 		final Method[] methods = scanAccessible ? ClassUtil.getAccessibleMethods(type) : ClassUtil.getSupportedMethods(type);
 
-		final HashMap<String, MethodDescriptor[]> map = new HashMap<>(methods.length);
+		final HashMap<String, List<MethodDescriptor>> overloads = new HashMap<>(methods.length);
 
 		for (final Method method : methods) {
-			final String methodName = method.getName();
-
-			MethodDescriptor[] mds = map.get(methodName);
-
-			if (mds == null) {
-				mds = new MethodDescriptor[1];
-			} else {
-				mds = ArraysUtil.resize(mds, mds.length + 1);
-			}
+			overloads.computeIfAbsent(method.getName(), name -> new ArrayList<>(1)).add(createMethodDescriptor(method));
+		}
 
-			map.put(methodName, mds);
+		final HashMap<String, MethodDescriptor[]> map = new HashMap<>(overloads.size());
 
-			mds[mds.length - 1] = createMethodDescriptor(method);
+		for (final Map.Entry<String, List<MethodDescriptor>> entry : overloads.entrySet()) {
+			map.put(entry.getKey(), entry.getValue().toArray(new MethodDescriptor[0]));
 		}
 
 		return map;
@@ -143,18 +137,24 @@ public class Methods {
 	 * Returns all methods. Cached. Lazy.
 	 */
 	public MethodDescriptor[] getAllMethodDescriptors() {
+		MethodDescriptor[] allMethods = this.allMethods;
 		if (allMethods == null) {
-			final List<MethodDescriptor> allMethodsList = new ArrayList<>();
+			synchronized (this) {
+				allMethods = this.allMethods;
+				if (allMethods == null) {
+					final List<MethodDescriptor> allMethodsList = new ArrayList<>();
 
-			for (MethodDescriptor[] methodDescriptors : methodsMap.values()) {
-				Collections.addAll(allMethodsList, methodDescriptors);
-			}
+					for (MethodDescriptor[] methodDescriptors : methodsMap.values()) {
+						Collections.addAll(allMethodsList, methodDescriptors);
+					}
 
-			final MethodDescriptor[] allMethods = allMethodsList.toArray(new MethodDescriptor[0]);
+					allMethods = allMethodsList.toArray(new MethodDescriptor[0]);
 
-			Arrays.sort(allMethods, Comparator.comparing(md -> md.getMethod().getName()));
+					Arrays.sort(allMethods, Comparator.comparing(md -> md.getMethod().getName()));
 
-			this.allMethods = allMethods;
+					this.allMethods = allMethods;
+				}
+			}
 		}
 		return allMethods;
 	}
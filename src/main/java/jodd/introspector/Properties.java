@@ -48,12 +48,29 @@ public class Properties {
 	protected final ClassDescriptor classDescriptor;
 	protected final HashMap<String, PropertyDescriptor> propertyDescriptors;
 
-	// cache
-	private PropertyDescriptor[] allProperties;
+	// slots index
+	private final String[] slotNames;
+	private final PropertyDescriptor[] slots;
 
 	public Properties(final ClassDescriptor classDescriptor) {
+		this(classDescriptor, null);
+	}
+
+	/**
+	 * Creates properties collection from already inspected property descriptors.
+	 * When descriptors are not given, properties are inspected.
+	 */
+	protected Properties(final ClassDescriptor classDescriptor, final HashMap<String, PropertyDescriptor> propertyDescriptors) {
 		this.classDescriptor = classDescriptor;
-		this.propertyDescriptors = inspectProperties();
+		this.propertyDescriptors = propertyDescriptors != null ? propertyDescriptors : inspectProperties();
+
+		this.slots = this.propertyDescriptors.values().toArray(new PropertyDescriptor[0]);
+		Arrays.sort(slots, Comparator.comparing(PropertyDescriptor::getName));
+
+		this.slotNames = new String[slots.length];
+		for (int i = 0; i < slots.length; i++) {
+			slotNames[i] = slots[i].getName();
+		}
 	}
 
 	/**
@@ -231,25 +248,49 @@ public class Properties {
 	 * Properties are sorted by name.
 	 */
 	public PropertyDescriptor[] getAllPropertyDescriptors() {
-		if (allProperties == null) {
-			PropertyDescriptor[] allProperties = new PropertyDescriptor[propertyDescriptors.size()];
+		return slots;
+	}
 
-			int index = 0;
-			for (PropertyDescriptor propertyDescriptor : propertyDescriptors.values()) {
-				allProperties[index] = propertyDescriptor;
-				index++;
-			}
+	// ---------------------------------------------------------------- slots
 
-			Arrays.sort(allProperties, new Comparator<PropertyDescriptor>() {
-				@Override
-				public int compare(final PropertyDescriptor pd1, final PropertyDescriptor pd2) {
-					return pd1.getName().compareTo(pd2.getName());
-				}
-			});
+	/**
+	 * Returns number of properties, i.e. number of slots.
+	 */
+	public int getPropertyCount() {
+		return slots.length;
+	}
 
-			this.allProperties = allProperties;
+	/**
+	 * Resolves property name to its slot, an index into sorted
+	 * {@link #getAllPropertyDescriptors() property descriptors}. Slots are stable
+	 * for the lifetime of this collection. Returns <code>-1</code> if property
+	 * is not found.
+	 */
+	public int getPropertySlot(final String name) {
+		int low = 0;
+		int high = slotNames.length - 1;
+
+		while (low <= high) {
+			final int mid = (low + high) >>> 1;
+			final int delta = slotNames[mid].compareTo(name);
+
+			if (delta < 0) {
+				low = mid + 1;
+			} else if (delta > 0) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
 		}
-		return allProperties;
+		return -1;
+	}
+
+	/**
+	 * Returns {@link PropertyDescriptor property descriptor} for given slot.
+	 * @see #getPropertySlot(String)
+	 */
+	public PropertyDescriptor getPropertyDescriptor(final int slot) {
+		return slots[slot];
 	}
 
 }
\ No newline at end of file
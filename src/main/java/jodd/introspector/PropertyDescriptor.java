@@ -82,6 +82,19 @@ public class PropertyDescriptor extends Descriptor {
 		}
 	}
 
+	/**
+	 * Creates property descriptor with already resolved property field.
+	 */
+	public PropertyDescriptor(final ClassDescriptor classDescriptor, final String propertyName, final MethodDescriptor readMethod, final MethodDescriptor writeMethod, final FieldDescriptor fieldDescriptor) {
+		super(classDescriptor,
+				((readMethod == null) || readMethod.isPublic()) & (writeMethod == null || writeMethod.isPublic())
+		);
+		this.name = propertyName;
+		this.readMethodDescriptor = readMethod;
+		this.writeMethodDescriptor = writeMethod;
+		this.fieldDescriptor = fieldDescriptor;
+	}
+
 	/**
 	 * Locates property field. Field is being searched also in all
 	 * superclasses of current class.
@@ -169,7 +182,7 @@ public class PropertyDescriptor extends Descriptor {
 
 	// ---------------------------------------------------------------- type
 
-	protected Class type;
+	protected volatile Class type;
 
 	/**
 	 * Returns property type. Raw types are detected.
@@ -194,19 +207,27 @@ public class PropertyDescriptor extends Descriptor {
 
 	// ---------------------------------------------------------------- getters & setters
 
-	protected Getter[] getters;
-	protected Setter[] setters;
+	protected volatile Getter[] getters;
+	protected volatile Setter[] setters;
 
 	/**
 	 * Returns {@link Getter}. May return <code>null</code>
-	 * if no matched getter is found.
+	 * if no matched getter is found. Getters are created
+	 * only once, on the first access.
 	 */
 	public Getter getGetter(final boolean declared) {
+		Getter[] getters = this.getters;
 		if (getters == null) {
-			getters = new Getter[] {
-					createGetter(false),
-					createGetter(true),
-			};
+			synchronized (this) {
+				getters = this.getters;
+				if (getters == null) {
+					getters = new Getter[] {
+							createGetter(false),
+							createGetter(true),
+					};
+					this.getters = getters;
+				}
+			}
 		}
 
 		return getters[declared ? 1 : 0];
@@ -218,12 +239,12 @@ public class PropertyDescriptor extends Descriptor {
 	protected Getter createGetter(final boolean declared) {
 		if (readMethodDescriptor != null) {
 			if (readMethodDescriptor.matchDeclared(declared)) {
-				return Getter.of(readMethodDescriptor);
+				return classDescriptor.isGeneratedAccessors() ? Accessors.getterOf(readMethodDescriptor) : Getter.of(readMethodDescriptor);
 			}
 		}
 		if (fieldDescriptor != null) {
 			if (fieldDescriptor.matchDeclared(declared)) {
-				return Getter.of(fieldDescriptor);
+				return classDescriptor.isGeneratedAccessors() ? Accessors.getterOf(fieldDescriptor) : Getter.of(fieldDescriptor);
 			}
 		}
 		return null;
@@ -232,14 +253,22 @@ public class PropertyDescriptor extends Descriptor {
 
 	/**
 	 * Returns {@link Setter}. May return <code>null</code>
-	 * if no matched setter is found.
+	 * if no matched setter is found. Setters are created
+	 * only once, on the first access.
 	 */
 	public Setter getSetter(final boolean declared) {
+		Setter[] setters = this.setters;
 		if (setters == null) {
-			setters = new Setter[] {
-					createSetter(false),
-					createSetter(true),
-			};
+			synchronized (this) {
+				setters = this.setters;
+				if (setters == null) {
+					setters = new Setter[] {
+							createSetter(false),
+							createSetter(true),
+					};
+					this.setters = setters;
+				}
+			}
 		}
 
 		return setters[declared ? 1 : 0];
@@ -251,12 +280,12 @@ public class PropertyDescriptor extends Descriptor {
 	protected Setter createSetter(final boolean declared) {
 		if (writeMethodDescriptor != null) {
 			if (writeMethodDescriptor.matchDeclared(declared)) {
-				return Setter.of(writeMethodDescriptor);
+				return classDescriptor.isGeneratedAccessors() ? Accessors.setterOf(writeMethodDescriptor) : Setter.of(writeMethodDescriptor);
 			}
 		}
 		if (fieldDescriptor != null) {
 			if (fieldDescriptor.matchDeclared(declared)) {
-				return Setter.of(fieldDescriptor);
+				return classDescriptor.isGeneratedAccessors() ? Accessors.setterOf(fieldDescriptor) : Setter.of(fieldDescriptor);
 			}
 		}
 		return null;
@@ -25,6 +25,8 @@
 
 package jodd.typeconverter;
 
+import jodd.util.NumberParser;
+
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
@@ -124,6 +126,18 @@ public class Converter {
 		return toIntValue(value, 0);
 	}
 
+	/**
+	 * Converts the range of the char sequence to <code>int</code>, without creating
+	 * strings. Surrounding white spaces and a leading plus sign are ignored.
+	 */
+	public int toIntValue(final CharSequence value, final int start, final int end) {
+		try {
+			return NumberParser.parseInt(value, start, end);
+		} catch (NumberFormatException nfex) {
+			throw new TypeConversionException(value.subSequence(start, end), nfex);
+		}
+	}
+
 	// ---------------------------------------------------------------- long
 
 	/**
@@ -165,6 +179,18 @@ public class Converter {
 		return toLongValue(value, 0);
 	}
 
+	/**
+	 * Converts the range of the char sequence to <code>long</code>, without creating
+	 * strings. Surrounding white spaces and a leading plus sign are ignored.
+	 */
+	public long toLongValue(final CharSequence value, final int start, final int end) {
+		try {
+			return NumberParser.parseLong(value, start, end);
+		} catch (NumberFormatException nfex) {
+			throw new TypeConversionException(value.subSequence(start, end), nfex);
+		}
+	}
+
 	// ---------------------------------------------------------------- float
 
 	/**
@@ -206,6 +232,18 @@ public class Converter {
 		return toFloatValue(value, 0);
 	}
 
+	/**
+	 * Converts the range of the char sequence to <code>float</code>, without creating
+	 * strings. Surrounding white spaces and a leading plus sign are ignored.
+	 */
+	public float toFloatValue(final CharSequence value, final int start, final int end) {
+		try {
+			return NumberParser.parseFloat(value, start, end);
+		} catch (NumberFormatException nfex) {
+			throw new TypeConversionException(value.subSequence(start, end), nfex);
+		}
+	}
+
 	// ---------------------------------------------------------------- double
 
 	/**
@@ -247,6 +285,18 @@ public class Converter {
 		return toDoubleValue(value, 0);
 	}
 
+	/**
+	 * Converts the range of the char sequence to <code>double</code>, without creating
+	 * strings. Surrounding white spaces and a leading plus sign are ignored.
+	 */
+	public double toDoubleValue(final CharSequence value, final int start, final int end) {
+		try {
+			return NumberParser.parseDouble(value, start, end);
+		} catch (NumberFormatException nfex) {
+			throw new TypeConversionException(value.subSequence(start, end), nfex);
+		}
+	}
+
 	// ---------------------------------------------------------------- short
 
 	/**
@@ -288,6 +338,18 @@ public class Converter {
 		return toShortValue(value, (short) 0);
 	}
 
+	/**
+	 * Converts the range of the char sequence to <code>short</code>, without creating
+	 * strings. Surrounding white spaces and a leading plus sign are ignored.
+	 */
+	public short toShortValue(final CharSequence value, final int start, final int end) {
+		try {
+			return NumberParser.parseShort(value, start, end);
+		} catch (NumberFormatException nfex) {
+			throw new TypeConversionException(value.subSequence(start, end), nfex);
+		}
+	}
+
 	// ---------------------------------------------------------------- character
 
 	/**
@@ -370,6 +432,18 @@ public class Converter {
 		return toByteValue(value, (byte) 0);
 	}
 
+	/**
+	 * Converts the range of the char sequence to <code>byte</code>, without creating
+	 * strings. Surrounding white spaces and a leading plus sign are ignored.
+	 */
+	public byte toByteValue(final CharSequence value, final int start, final int end) {
+		try {
+			return NumberParser.parseByte(value, start, end);
+		} catch (NumberFormatException nfex) {
+			throw new TypeConversionException(value.subSequence(start, end), nfex);
+		}
+	}
+
 	// ---------------------------------------------------------------- array
 
 	/**
@@ -0,0 +1,278 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.typeconverter;
+
+import jodd.typeconverter.impl.BigDecimalConverter;
+import jodd.typeconverter.impl.ByteConverter;
+import jodd.typeconverter.impl.DoubleConverter;
+import jodd.typeconverter.impl.FloatConverter;
+import jodd.typeconverter.impl.IntegerConverter;
+import jodd.typeconverter.impl.LongConverter;
+import jodd.typeconverter.impl.ShortConverter;
+import jodd.typeconverter.impl.StringConverter;
+import jodd.util.NumberParser;
+import jodd.util.TypeCache;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Converters between a single type and other types, resolved per the other
+ * type. The single type is either the destination or the source type. Other
+ * types must be visible from the class loader of the single type, as they are
+ * held strongly, and the dispatch is cached with the single type.
+ * Default converters are specialized for the source type: they go straight
+ * to the conversion that applies to the source type, skipping the type
+ * checks of the converter.
+ */
+final class TypeConverterDispatch {
+
+	private static final TypeConverter IDENTITY = value -> value;
+
+	private static final int MAX_ENTRIES = 8;
+
+	private final TypeCache<TypeConverter> converters = TypeCache.<TypeConverter>create().threadsafe(true).get();
+	private volatile Entry[] entries = new Entry[0];
+
+	/**
+	 * Resolved other type. The first few resolved types are checked
+	 * before the cache, as most types are converted from or to a few types.
+	 */
+	private static class Entry {
+		private final Class type;
+		private final TypeConverter converter;
+
+		private Entry(final Class type, final TypeConverter converter) {
+			this.type = type;
+			this.converter = converter;
+		}
+	}
+
+	/**
+	 * Returns converter for given other type. Converter is resolved
+	 * only once per type.
+	 */
+	TypeConverter get(final Class type, final Function<Class, TypeConverter> resolver) {
+		final Entry[] entries = this.entries;
+		for (final Entry entry : entries) {
+			if (entry.type == type) {
+				return entry.converter;
+			}
+		}
+
+		TypeConverter converter = converters.get(type);
+		if (converter == null) {
+			converter = converters.get(type, resolver::apply);
+		}
+		if (entries.length < MAX_ENTRIES) {
+			addEntry(type, converter);
+		}
+		return converter;
+	}
+
+	private synchronized void addEntry(final Class type, final TypeConverter converter) {
+		final Entry[] entries = this.entries;
+		if (entries.length == MAX_ENTRIES) {
+			return;
+		}
+		for (final Entry entry : entries) {
+			if (entry.type == type) {
+				return;
+			}
+		}
+		final Entry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+		newEntries[entries.length] = new Entry(type, converter);
+		this.entries = newEntries;
+	}
+
+	// ---------------------------------------------------------------- specialize
+
+	/**
+	 * Returns converter specialized for given source type, or the
+	 * converter itself if there is no specialization. Only default
+	 * converters are specialized, custom converters are always used.
+	 */
+	static TypeConverter specialize(final Class sourceType, final TypeConverter converter) {
+		final Class converterType = converter.getClass();
+		final boolean number = Number.class.isAssignableFrom(sourceType);
+
+		if (converterType == IntegerConverter.class) {
+			if (sourceType == Integer.class) {
+				return IDENTITY;
+			}
+			if (number) {
+				return value -> value == null ? null : Integer.valueOf(((Number) value).intValue());
+			}
+			if (sourceType == String.class) {
+				return TypeConverterDispatch::parseInteger;
+			}
+		}
+		else if (converterType == LongConverter.class) {
+			if (sourceType == Long.class) {
+				return IDENTITY;
+			}
+			if (number) {
+				return value -> value == null ? null : Long.valueOf(((Number) value).longValue());
+			}
+			if (sourceType == String.class) {
+				return TypeConverterDispatch::parseLong;
+			}
+		}
+		else if (converterType == ShortConverter.class) {
+			if (sourceType == Short.class) {
+				return IDENTITY;
+			}
+			if (number) {
+				return value -> value == null ? null : Short.valueOf(((Number) value).shortValue());
+			}
+			if (sourceType == String.class) {
+				return TypeConverterDispatch::parseShort;
+			}
+		}
+		else if (converterType == ByteConverter.class) {
+			if (sourceType == Byte.class) {
+				return IDENTITY;
+			}
+			if (number) {
+				return value -> value == null ? null : Byte.valueOf(((Number) value).byteValue());
+			}
+			if (sourceType == String.class) {
+				return TypeConverterDispatch::parseByte;
+			}
+		}
+		else if (converterType == DoubleConverter.class) {
+			if (sourceType == Double.class) {
+				return IDENTITY;
+			}
+			if (number) {
+				return value -> value == null ? null : Double.valueOf(((Number) value).doubleValue());
+			}
+			if (sourceType == String.class) {
+				return TypeConverterDispatch::parseDouble;
+			}
+		}
+		else if (converterType == FloatConverter.class) {
+			if (sourceType == Float.class) {
+				return IDENTITY;
+			}
+			if (number) {
+				return value -> value == null ? null : Float.valueOf(((Number) value).floatValue());
+			}
+			if (sourceType == String.class) {
+				return TypeConverterDispatch::parseFloat;
+			}
+		}
+		else if (converterType == StringConverter.class) {
+			if (sourceType == String.class) {
+				return IDENTITY;
+			}
+		}
+		else if (converterType == BigDecimalConverter.class) {
+			if (BigDecimal.class.isAssignableFrom(sourceType)) {
+				return IDENTITY;
+			}
+		}
+		return converter;
+	}
+
+	/**
+	 * Returns the identity converter.
+	 */
+	static TypeConverter identity() {
+		return IDENTITY;
+	}
+
+	// ---------------------------------------------------------------- parse
+
+	private static Integer parseInteger(final Object value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Integer.valueOf(NumberParser.parseInt((String) value));
+		} catch (NumberFormatException nfex) {
+			throw new TypeConversionException(value, nfex);
+		}
+	}
+
+	private static Long parseLong(final Object value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Long.valueOf(NumberParser.parseLong((String) value));
+		} catch (NumberFormatException nfex) {
+			throw new TypeConversionException(value, nfex);
+		}
+	}
+
+	private static Short parseShort(final Object value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Short.valueOf(NumberParser.parseShort((String) value));
+		} catch (NumberFormatException nfex) {
+			throw new TypeConversionException(value, nfex);
+		}
+	}
+
+	private static Byte parseByte(final Object value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Byte.valueOf(NumberParser.parseByte((String) value));
+		} catch (NumberFormatException nfex) {
+			throw new TypeConversionException(value, nfex);
+		}
+	}
+
+	private static Double parseDouble(final Object value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Double.valueOf(NumberParser.parseDouble((String) value));
+		} catch (NumberFormatException nfex) {
+			throw new TypeConversionException(value, nfex);
+		}
+	}
+
+	private static Float parseFloat(final Object value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Float.valueOf(NumberParser.parseFloat((String) value));
+		} catch (NumberFormatException nfex) {
+			throw new TypeConversionException(value, nfex);
+		}
+	}
+
+}
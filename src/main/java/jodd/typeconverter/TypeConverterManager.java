@@ -42,6 +42,7 @@ import jodd.typeconverter.impl.CollectionConverter;
 import jodd.typeconverter.impl.DateConverter;
 import jodd.typeconverter.impl.DoubleArrayConverter;
 import jodd.typeconverter.impl.DoubleConverter;
+import jodd.typeconverter.impl.EnumConverter;
 import jodd.typeconverter.impl.FileConverter;
 import jodd.typeconverter.impl.FloatArrayConverter;
 import jodd.typeconverter.impl.FloatConverter;
@@ -98,6 +99,14 @@ public class TypeConverterManager {
 	}
 
 	private final TypeCache<TypeConverter> converters = TypeCache.createDefault();
+	private final TypeCache<TypeConverter> enumConverters = TypeCache.<TypeConverter>create().classValue(true).get();
+	private final TypeCache<ArrayConverter> arrayConverters = TypeCache.<ArrayConverter>create().classValue(true).get();
+	private final TypeCache<TypeCache<CollectionConverter>> collectionConverters =
+		TypeCache.<TypeCache<CollectionConverter>>create().classValue(true).get();
+	private final TypeCache<TypeCache<CollectionConverter>> collectionConvertersByComponent =
+		TypeCache.<TypeCache<CollectionConverter>>create().classValue(true).get();
+	private final TypeCache<TypeConverterDispatch> dispatchers = TypeCache.<TypeConverterDispatch>create().classValue(true).get();
+	private final TypeCache<TypeConverterDispatch> dispatchersBySource = TypeCache.<TypeConverterDispatch>create().classValue(true).get();
 
 	// ---------------------------------------------------------------- methods
 
@@ -241,6 +250,8 @@ public class TypeConverterManager {
 	 */
 	public <T> void register(final Class<T> type, final TypeConverter<T> typeConverter) {
 		converters.put(type, typeConverter);
+		dispatchers.clear();
+		dispatchersBySource.clear();
 	}
 
 	/**
@@ -248,18 +259,26 @@ public class TypeConverterManager {
 	 */
 	public void unregister(final Class type) {
 		converters.remove(type);
+		dispatchers.clear();
+		dispatchersBySource.clear();
 	}
 
 	// ---------------------------------------------------------------- lookup
 
 	/**
 	 * Retrieves converter for provided type. Only registered types are matched,
-	 * therefore subclasses must be also registered.
+	 * therefore subclasses must be also registered. Enums that are not
+	 * registered use an {@link EnumConverter}, created once per enum type.
 	 *
 	 * @return founded converter or <code>null</code>
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> TypeConverter<T> lookup(final Class<T> type) {
-		return converters.get(type);
+		final TypeConverter<T> typeConverter = converters.get(type);
+		if (typeConverter == null && type.isEnum()) {
+			return enumConverters.get(type, enumType -> new EnumConverter(enumType));
+		}
+		return typeConverter;
 	}
 
 	// ---------------------------------------------------------------- converter
@@ -267,10 +286,16 @@ public class TypeConverterManager {
 	/**
 	 * Converts an object to destination type. If type is registered, it's
 	 * {@link TypeConverter} will be used. If not, it scans of destination is
-	 * an array or enum, as those two cases are handled in a special way.
+	 * an array or collection, as those two cases are handled in a special way.
+	 * Enums are converted with the {@link EnumConverter}. Unregistered subclasses
+	 * of registered types are converted by the converter of the closest superclass,
+	 * if it returns an instance of the subclass. Conversions to unregistered
+	 * types are resolved once per source and destination type.
 	 * <p>
 	 * If destination type is one of common types, consider using {@link Converter}
 	 * instead for somewhat faster approach (no lookup).
+	 *
+	 * @see #lookup(Class, Class)
 	 */
 	@SuppressWarnings({"unchecked"})
 	public <T> T convertType(final Object value, final Class<T> destinationType) {
@@ -296,37 +321,114 @@ public class TypeConverterManager {
 			return (T) value;
 		}
 
-		// handle destination arrays
-		if (destinationType.isArray()) {
-			final ArrayConverter<T> arrayConverter = new ArrayConverter(this, destinationType.getComponentType());
+		return (T) dispatch(value.getClass(), destinationType).convert(value);
+	}
 
-			return (T) arrayConverter.convert(value);
+	// ---------------------------------------------------------------- dispatch
+
+	/**
+	 * Returns converter of values of given source type into the destination type.
+	 * Converter is resolved once per source and destination type, and it is
+	 * specialized for the source type: e.g. <code>String</code> to <code>int</code>
+	 * converter goes straight to the parser, and <code>Integer</code> to <code>Long</code>
+	 * converter just widens the number. Use it when many values of the same type are
+	 * converted. Returned converter accepts <code>null</code>s, but not values of
+	 * other types. It is not affected by converters registered afterwards.
+	 *
+	 * @see #convertType(Object, Class)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> TypeConverter<T> lookup(final Class<?> sourceType, final Class<T> destinationType) {
+		if (destinationType == Object.class) {
+			return TypeConverterDispatch.identity();
 		}
+		return dispatch(sourceType, destinationType);
+	}
 
-		// handle enums
-		if (destinationType.isEnum()) {
-			final Object[] enums = destinationType.getEnumConstants();
-			final String valStr = value.toString();
-			for (final Object e : enums) {
-				if (e.toString().equals(valStr)) {
-					return (T) e;
-				}
-			}
+	/**
+	 * Returns cached converter for given source and destination type.
+	 * Converters are resolved again after a converter is (un)registered.
+	 * They are cached with the type whose class loader sees the other type,
+	 * so a class of a child class loader is never kept alive by a JDK class or
+	 * a class of a parent class loader. Converters between types of unrelated
+	 * class loaders are not cached.
+	 */
+	private TypeConverter dispatch(final Class sourceType, final Class destinationType) {
+		if (isVisible(destinationType, sourceType)) {
+			return dispatch(dispatchers, destinationType).get(sourceType, type -> resolveDispatch(type, destinationType));
+		}
+		if (isVisible(sourceType, destinationType)) {
+			return dispatch(dispatchersBySource, sourceType).get(destinationType, type -> resolveDispatch(sourceType, type));
+		}
+		return resolveDispatch(sourceType, destinationType);
+	}
+
+	private static TypeConverterDispatch dispatch(final TypeCache<TypeConverterDispatch> dispatchers, final Class owner) {
+		final TypeConverterDispatch dispatch = dispatchers.get(owner);
+		if (dispatch != null) {
+			return dispatch;
+		}
+		return dispatchers.get(owner, type -> new TypeConverterDispatch());
+	}
+
+	/**
+	 * Resolves converter for values of given source type.
+	 */
+	@SuppressWarnings("unchecked")
+	private TypeConverter resolveDispatch(final Class sourceType, final Class destinationType) {
+		final TypeConverter converter = lookup(destinationType);
+
+		if (converter != null) {
+			return TypeConverterDispatch.specialize(sourceType, converter);
+		}
+
+		// no converter
+
+		// check same instances
+		if (ClassUtil.isTypeOf(sourceType, destinationType)) {
+			return TypeConverterDispatch.identity();
+		}
+
+		// handle destination arrays
+		if (destinationType.isArray()) {
+			return arrayConverters.get(destinationType, arrayType -> new ArrayConverter(this, arrayType.getComponentType()));
 		}
 
 		// collection
 		if (ClassUtil.isTypeOf(destinationType, Collection.class)) {
 			// component type is unknown because of Java's type-erasure
-			final CollectionConverter<T> collectionConverter =
-					new CollectionConverter(this, destinationType, Object.class);
+			return lookupCollectionConverter(destinationType, Object.class);
+		}
 
-			return (T) collectionConverter.convert(value);
+		// closest registered superclass
+		for (Class type = destinationType.getSuperclass(); type != null && type != Object.class; type = type.getSuperclass()) {
+			final TypeConverter superConverter = converters.get(type);
+
+			if (superConverter != null) {
+				return value -> {
+					if (value == null) {
+						return null;
+					}
+					final Object result = superConverter.convert(value);
+					if (result == null || destinationType.isInstance(result)) {
+						return result;
+					}
+					throw new TypeConversionException("Conversion failed of input type: " + value.getClass() + " into: " + destinationType.getName());
+				};
+			}
 		}
 
 		// fail
-		throw new TypeConversionException("Conversion failed of input type: " + value.getClass() + " into: " + destinationType.getName());
+		return value -> {
+			if (value == null) {
+				return null;
+			}
+			throw new TypeConversionException("Conversion failed of input type: " + value.getClass() + " into: " + destinationType.getName());
+		};
 	}
 
+	// ---------------------------------------------------------------- collection
+
 	/**
 	 * Special case of {@link #convertType(Object, Class)} when target is collection and
 	 * when component type is known.
@@ -342,16 +444,58 @@ public class TypeConverterManager {
 			return (C) value;
 		}
 
-		final CollectionConverter collectionConverter;
+		final CollectionConverter collectionConverter =
+			lookupCollectionConverter(destinationType, componentType == null ? Object.class : componentType);
+
+		return (C) collectionConverter.convert(value);
+	}
 
-		if (componentType == null) {
-			collectionConverter = new CollectionConverter(destinationType, Object.class);
+	/**
+	 * Returns collection converter for given collection and component type.
+	 * Converters are created once per types. They are cached with the type
+	 * whose class loader sees the other type, so a class of a child class loader
+	 * is never kept alive by a JDK collection or a class of a parent class loader.
+	 * Converters of types of unrelated class loaders are not cached.
+	 */
+	private CollectionConverter lookupCollectionConverter(final Class<? extends Collection> collectionType, final Class componentType) {
+		final TypeCache<CollectionConverter> converters;
+		final Class key;
+		if (isVisible(componentType, collectionType)) {
+			converters = collectionConvertersByComponent.get(componentType, type -> TypeCache.<CollectionConverter>create().threadsafe(true).get());
+			key = collectionType;
+		}
+		else if (isVisible(collectionType, componentType)) {
+			converters = collectionConverters.get(collectionType, type -> TypeCache.<CollectionConverter>create().threadsafe(true).get());
+			key = componentType;
 		}
 		else {
-			collectionConverter = new CollectionConverter(destinationType, componentType);
+			return new CollectionConverter(this, collectionType, componentType);
 		}
 
-		return (C) collectionConverter.convert(value);
+		final CollectionConverter collectionConverter = converters.get(key);
+		if (collectionConverter != null) {
+			return collectionConverter;
+		}
+		return converters.get(key, type -> new CollectionConverter(this, collectionType, componentType));
+	}
+
+	/**
+	 * Returns <code>true</code> if class loader of the type is the class loader
+	 * of the owner or one of its parents.
+	 */
+	private static boolean isVisible(final Class owner, final Class type) {
+		final ClassLoader typeClassLoader = type.getClassLoader();
+		if (typeClassLoader == null) {
+			return true;
+		}
+		ClassLoader classLoader = owner.getClassLoader();
+		while (classLoader != null) {
+			if (classLoader == typeClassLoader) {
+				return true;
+			}
+			classLoader = classLoader.getParent();
+		}
+		return false;
 	}
 
 }
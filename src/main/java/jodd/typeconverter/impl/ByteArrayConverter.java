@@ -29,13 +29,14 @@ import jodd.io.FileUtil;
 import jodd.typeconverter.TypeConversionException;
 import jodd.typeconverter.TypeConverter;
 import jodd.typeconverter.TypeConverterManager;
+import jodd.util.NumberParser;
 import jodd.util.StringUtil;
 
 import java.io.File;
 import java.io.IOException;
 import java.sql.Blob;
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 
 /**
@@ -73,6 +74,34 @@ public class ByteArrayConverter implements TypeConverter<byte[]> {
 		return typeConverterManager.convertType(value, byte.class).byteValue();
 	}
 
+	/**
+	 * Returns <code>true</code> if elements are converted by the default
+	 * converter, so numbers and strings are converted directly, without boxing.
+	 */
+	protected boolean isDirect() {
+		return NumberArrays.isDefaultConverter(typeConverterManager, byte.class, ByteConverter.class);
+	}
+
+	/**
+	 * Converts an element. Numbers and strings are converted directly
+	 * when elements are converted by the default converter.
+	 */
+	protected byte convertElement(final Object element, final boolean direct) {
+		if (direct) {
+			if (element instanceof Number) {
+				return ((Number) element).byteValue();
+			}
+			if (element instanceof CharSequence) {
+				try {
+					return NumberParser.parseByte((CharSequence) element);
+				} catch (NumberFormatException nfex) {
+					throw new TypeConversionException(element, nfex);
+				}
+			}
+		}
+		return convertType(element);
+	}
+
 	/**
 	 * Creates an array with single element.
 	 */
@@ -111,9 +140,11 @@ public class ByteArrayConverter implements TypeConverter<byte[]> {
 			final Collection collection = (Collection) value;
 			final byte[] target = new byte[collection.size()];
 
+			final boolean direct = isDirect();
+
 			int i = 0;
 			for (final Object element : collection) {
-				target[i] = convertType(element);
+				target[i] = convertElement(element, direct);
 				i++;
 			}
 
@@ -122,25 +153,25 @@ public class ByteArrayConverter implements TypeConverter<byte[]> {
 
 		if (value instanceof Iterable) {
 			final Iterable iterable = (Iterable) value;
+			final boolean direct = isDirect();
 
-			final ArrayList<Byte> byteArrayList = new ArrayList<>();
+			byte[] target = new byte[16];
+			int count = 0;
 
 			for (final Object element : iterable) {
-				final byte convertedValue = convertType(element);
-				byteArrayList.add(Byte.valueOf(convertedValue));
-			}
-
-			final byte[] array = new byte[byteArrayList.size()];
-
-			for (int i = 0; i < byteArrayList.size(); i++) {
-				final Byte b = byteArrayList.get(i);
-				array[i] = b.byteValue();
+				if (count == target.length) {
+					target = Arrays.copyOf(target, count << 1);
+				}
+				target[count++] = convertElement(element, direct);
 			}
 
-			return array;
+			return Arrays.copyOf(target, count);
 		}
 
 		if (value instanceof CharSequence) {
+			if (isDirect()) {
+				return convertCharSequenceToArray((CharSequence) value);
+			}
 			final String[] strings = StringUtil.splitc(value.toString(), ArrayConverter.NUMBER_DELIMITERS);
 			return convertArrayToArray(strings);
 		}
@@ -149,6 +180,38 @@ public class ByteArrayConverter implements TypeConverter<byte[]> {
 		return convertToSingleElementArray(value);
 	}
 
+	/**
+	 * Converts delimited numbers to array. Numbers are parsed
+	 * in place, without creating strings.
+	 */
+	protected byte[] convertCharSequenceToArray(final CharSequence value) {
+		final int length = value.length();
+
+		byte[] target = new byte[16];
+		int count = 0;
+		int start = 0;
+
+		while (true) {
+			final int end = NumberArrays.tokenEnd(value, start);
+
+			if (count == target.length) {
+				target = Arrays.copyOf(target, count << 1);
+			}
+			try {
+				target[count++] = NumberParser.parseByte(value, start, end);
+			} catch (NumberFormatException nfex) {
+				throw new TypeConversionException(value.subSequence(start, end), nfex);
+			}
+
+			if (end == length) {
+				break;
+			}
+			start = NumberArrays.tokenStart(value, end);
+		}
+
+		return Arrays.copyOf(target, count);
+	}
+
 	/**
 	 * Converts array value to array.
 	 */
@@ -164,8 +227,11 @@ public class ByteArrayConverter implements TypeConverter<byte[]> {
 			final Object[] array = (Object[]) value;
 			result = new byte[array.length];
 
+			final boolean direct = isDirect();
+
 			for (int i = 0; i < array.length; i++) {
-				result[i] = convertType(array[i]);
+				final Object element = array[i];
+				result[i] = convertElement(element, direct);
 			}
 		}
 
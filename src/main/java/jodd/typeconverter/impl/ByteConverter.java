@@ -27,7 +27,7 @@ package jodd.typeconverter.impl;
 
 import jodd.typeconverter.TypeConversionException;
 import jodd.typeconverter.TypeConverter;
-import jodd.util.StringUtil;
+import jodd.util.NumberParser;
 
 /**
  * Converts given object to <code>Byte</code>.
@@ -57,11 +57,8 @@ public class ByteConverter implements TypeConverter<Byte> {
 		}
 
 		try {
-			String stringValue = value.toString().trim();
-			if (StringUtil.startsWithChar(stringValue, '+')) {
-				stringValue = stringValue.substring(1);
-			}
-			return Byte.valueOf(stringValue);
+			final CharSequence charSequence = value instanceof CharSequence ? (CharSequence) value : value.toString();
+			return Byte.valueOf(NumberParser.parseByte(charSequence));
 		} catch (NumberFormatException nfex) {
 			throw new TypeConversionException(value, nfex);
 		}
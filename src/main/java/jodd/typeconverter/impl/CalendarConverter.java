@@ -86,7 +86,7 @@ public class CalendarConverter implements TypeConverter<Calendar> {
 
 		if (!StringUtil.containsOnlyDigits(stringValue)) {
 			// try to parse default string format
-			return TimeUtil.toCalendar(LocalDateTime.parse(stringValue));
+			return TimeUtil.toCalendar(TemporalParser.parseLocalDateTime(stringValue));
 		}
 
 		try {
@@ -27,9 +27,12 @@ package jodd.typeconverter.impl;
 
 import jodd.typeconverter.TypeConversionException;
 import jodd.typeconverter.TypeConverter;
+import jodd.util.ClassLoaderStrategy;
 import jodd.util.ClassLoaderUtil;
 import jodd.util.StringUtil;
 
+import java.lang.ref.WeakReference;
+
 /**
  * Converts given object to <code>Class</code>.
  * Conversion rules:
@@ -38,9 +41,15 @@ import jodd.util.StringUtil;
  * <li>object of destination type is simply casted</li>
  * <li>string value of the object is trimmed and used for class loading.</li>
  * </ul>
+ * Loaded classes and class loading failures are cached by the string value,
+ * for the current thread context class loader and class loader strategy. Cache
+ * holds them only weakly, so it does not prevent unloading of classes and their
+ * class loaders. Each cached failure throws a new exception.
  */
 public class ClassConverter implements TypeConverter<Class> {
 
+	private final ConverterCache<Loaded> cache = new ConverterCache<>();
+
 	@Override
 	public Class convert(final Object value) {
 		if (value == null) {
@@ -50,17 +59,72 @@ public class ClassConverter implements TypeConverter<Class> {
 		if (value.getClass() == Class.class) {
 			return (Class) value;
 		}
-		try {
-			String className = value.toString().trim();
 
-			if (className.endsWith(".class")) {
-				className = StringUtil.substring(className, 0, -6);
+		final String stringValue = value.toString();
+		final ClassLoaderStrategy classLoaderStrategy = ClassLoaderUtil.classLoaderStrategy;
+		final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+		final Loaded loaded = cache.get(stringValue);
+		if (loaded != null) {
+			final Object type = loaded.get(classLoaderStrategy, classLoader);
+			if (type == Loaded.MISSING) {
+				throw new TypeConversionException(value, new ClassNotFoundException(loaded.failure));
+			}
+			if (type != null) {
+				return (Class) type;
 			}
+		}
+
+		String className = stringValue.trim();
 
-			return ClassLoaderUtil.loadClass(className);
+		if (className.endsWith(".class")) {
+			className = StringUtil.substring(className, 0, -6);
+		}
+
+		final Class type;
+		try {
+			type = ClassLoaderUtil.loadClass(className);
 		} catch (ClassNotFoundException cnfex) {
+			cache.put(stringValue, new Loaded(classLoaderStrategy, classLoader, Loaded.MISSING, cnfex.getMessage()));
 			throw new TypeConversionException(value, cnfex);
 		}
+		cache.put(stringValue, new Loaded(classLoaderStrategy, classLoader, type, null));
+		return type;
+	}
+
+	/**
+	 * Weakly referenced loaded class or the {@link #MISSING} marker,
+	 * with the class loader and strategy it was loaded with.
+	 */
+	private static class Loaded {
+		private static final Object NO_CLASS_LOADER = new Object();
+		private static final Object MISSING = new Object();
+
+		private final WeakReference<ClassLoaderStrategy> classLoaderStrategy;
+		private final WeakReference<Object> classLoader;
+		private final WeakReference<Object> type;
+		private final String failure;
+
+		private Loaded(final ClassLoaderStrategy classLoaderStrategy, final ClassLoader classLoader, final Object type, final String failure) {
+			this.classLoaderStrategy = new WeakReference<>(classLoaderStrategy);
+			this.classLoader = new WeakReference<>(classLoader != null ? classLoader : NO_CLASS_LOADER);
+			this.type = new WeakReference<>(type);
+			this.failure = failure;
+		}
+
+		/**
+		 * Returns loaded class or the {@link #MISSING} marker if it was loaded
+		 * with the same class loader and strategy, or <code>null</code> otherwise.
+		 */
+		private Object get(final ClassLoaderStrategy classLoaderStrategy, final ClassLoader classLoader) {
+			if (this.classLoaderStrategy.get() != classLoaderStrategy) {
+				return null;
+			}
+			if (this.classLoader.get() != (classLoader != null ? classLoader : NO_CLASS_LOADER)) {
+				return null;
+			}
+			return type.get();
+		}
 	}
 
-}
\ No newline at end of file
+}
@@ -34,8 +34,12 @@ import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
 
 /**
  * Collection converter.
@@ -46,6 +50,8 @@ public class CollectionConverter<T> implements TypeConverter<Collection<T>> {
 	protected final Class<? extends Collection> collectionType;
 	protected final Class<T> targetComponentType;
 
+	private final IntFunction<Collection<T>> collectionFactory;
+
 	public CollectionConverter(
 		final Class<? extends Collection> collectionType,
 		final Class<T> targetComponentType) {
@@ -60,6 +66,74 @@ public class CollectionConverter<T> implements TypeConverter<Collection<T>> {
 		this.typeConverterManager = typeConverterManager;
 		this.collectionType = collectionType;
 		this.targetComponentType = targetComponentType;
+		this.collectionFactory = resolveCollectionFactory(collectionType);
+	}
+
+	/**
+	 * Resolves the function that creates new collection of given size.
+	 * Constructors are looked up only once.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> IntFunction<Collection<T>> resolveCollectionFactory(final Class<? extends Collection> collectionType) {
+		if (collectionType == List.class || collectionType == ArrayList.class) {
+			return length -> length > 0 ? new ArrayList<>(length) : new ArrayList<>();
+		}
+		if (collectionType == Set.class || collectionType == HashSet.class) {
+			return length -> length > 0 ? new HashSet<>(length) : new HashSet<>();
+		}
+		if (collectionType == LinkedHashSet.class) {
+			return length -> length > 0 ? new LinkedHashSet<>(length) : new LinkedHashSet<>();
+		}
+		if (collectionType == LinkedList.class) {
+			return length -> new LinkedList<>();
+		}
+		if (collectionType == TreeSet.class) {
+			return length -> new TreeSet<>();
+		}
+		if (collectionType.isInterface()) {
+			return length -> {
+				throw new TypeConversionException("Unknown collection: " + collectionType.getName());
+			};
+		}
+
+		Constructor<Collection<T>> sizeCtor;
+		try {
+			sizeCtor = (Constructor<Collection<T>>) collectionType.getConstructor(int.class);
+		} catch (Exception ex) {
+			sizeCtor = null;
+		}
+
+		Constructor<Collection<T>> defaultCtor;
+		Exception defaultCtorException;
+		try {
+			defaultCtor = (Constructor<Collection<T>>) collectionType.getDeclaredConstructor();
+			defaultCtorException = null;
+		} catch (Exception ex) {
+			defaultCtor = null;
+			defaultCtorException = ex;
+		}
+
+		final Constructor<Collection<T>> sizeConstructor = sizeCtor;
+		final Constructor<Collection<T>> defaultConstructor = defaultCtor;
+		final Exception defaultConstructorException = defaultCtorException;
+
+		return length -> {
+			if (length > 0 && sizeConstructor != null) {
+				try {
+					return sizeConstructor.newInstance(Integer.valueOf(length));
+				} catch (Exception ex) {
+					// ignore exception
+				}
+			}
+			if (defaultConstructor == null) {
+				throw new TypeConversionException(defaultConstructorException);
+			}
+			try {
+				return defaultConstructor.newInstance();
+			} catch (Exception ex) {
+				throw new TypeConversionException(ex);
+			}
+		};
 	}
 
 	@Override
@@ -86,44 +160,11 @@ public class CollectionConverter<T> implements TypeConverter<Collection<T>> {
 
 	/**
 	 * Creates new collection of target component type.
-	 * Default implementation uses reflection to create
-	 * an collection of target type. Override it for better performances.
+	 * Default implementation uses constructors of the target
+	 * type, that are resolved when converter is created.
 	 */
-	@SuppressWarnings("unchecked")
 	protected Collection<T> createCollection(final int length) {
-		if (collectionType.isInterface()) {
-			if (collectionType == List.class) {
-				if (length > 0) {
-					return new ArrayList<>(length);
-				} else {
-					return new ArrayList<>();
-				}
-			}
-
-			if (collectionType == Set.class) {
-				if (length > 0) {
-					return new HashSet<>(length);
-				} else {
-					return new HashSet<>();
-				}
-			}
-
-			throw new TypeConversionException("Unknown collection: " + collectionType.getName());
-		}
-		if (length > 0) {
-			try {
-				Constructor<Collection<T>> ctor = (Constructor<Collection<T>>) collectionType.getConstructor(int.class);
-				return ctor.newInstance(Integer.valueOf(length));
-			} catch (Exception ex) {
-				// ignore exception
-			}
-		}
-
-		try {
-			return collectionType.getDeclaredConstructor().newInstance();
-		} catch (Exception ex) {
-			throw new TypeConversionException(ex);
-		}
+		return collectionFactory.apply(length);
 	}
 
 	/**
@@ -0,0 +1,57 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.typeconverter.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of conversion results, keyed by the string value.
+ * Lookups are lock-free. When the maximum size is reached, the cache
+ * is simply cleared, so arbitrary many distinct inputs can not grow it.
+ */
+final class ConverterCache<V> {
+
+	static final int MAX_SIZE = 1024;
+
+	private final ConcurrentHashMap<String, V> map = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns cached value or <code>null</code> if value is not cached.
+	 */
+	V get(final String key) {
+		return map.get(key);
+	}
+
+	/**
+	 * Caches the value.
+	 */
+	void put(final String key, final V value) {
+		if (map.size() >= MAX_SIZE) {
+			map.clear();
+		}
+		map.put(key, value);
+	}
+}
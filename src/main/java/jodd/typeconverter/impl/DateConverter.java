@@ -81,7 +81,7 @@ public class DateConverter implements TypeConverter<Date> {
 
 		if (!StringUtil.containsOnlyDigits(stringValue)) {
 			// try to parse default string format
-			return TimeUtil.toDate(LocalDateTime.parse(stringValue));
+			return TimeUtil.toDate(TemporalParser.parseLocalDateTime(stringValue));
 		}
 
 		try {
@@ -0,0 +1,112 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.typeconverter.impl;
+
+import jodd.typeconverter.TypeConversionException;
+import jodd.typeconverter.TypeConverter;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Converts given object to an enum constant. Lookup tables are built
+ * once, when converter is created. Conversion rules:
+ * <ul>
+ * <li><code>null</code> returns <code>null</code></li>
+ * <li>enum constant of the type is returned as it is</li>
+ * <li>constant with the same <code>toString()</code> value is returned</li>
+ * <li>constant with the same name is returned</li>
+ * <li>constant with the same name or <code>toString()</code> value, ignoring case, is returned</li>
+ * <li>integral <code>Number</code> returns constant with the same ordinal</li>
+ * </ul>
+ */
+public class EnumConverter<E extends Enum<E>> implements TypeConverter<E> {
+
+	private final Class<E> enumType;
+	private final E[] constants;
+	private final Map<String, E> byString;
+	private final Map<String, E> byName;
+	private final Map<String, E> byUpperCase;
+
+	public EnumConverter(final Class<E> enumType) {
+		this.enumType = enumType;
+		this.constants = enumType.getEnumConstants();
+		this.byString = new HashMap<>(constants.length * 2);
+		this.byName = new HashMap<>(constants.length * 2);
+		this.byUpperCase = new HashMap<>(constants.length * 4);
+
+		for (final E e : constants) {
+			byString.putIfAbsent(e.toString(), e);
+			byName.put(e.name(), e);
+		}
+		for (final E e : constants) {
+			byUpperCase.putIfAbsent(e.toString().toUpperCase(Locale.ROOT), e);
+		}
+		for (final E e : constants) {
+			byUpperCase.putIfAbsent(e.name().toUpperCase(Locale.ROOT), e);
+		}
+	}
+
+	@Override
+	public E convert(final Object value) {
+		if (value == null) {
+			return null;
+		}
+
+		if (enumType.isInstance(value)) {
+			return enumType.cast(value);
+		}
+
+		if (value instanceof Number) {
+			final Number number = (Number) value;
+			final long ordinal = number.longValue();
+
+			if (ordinal >= 0 && ordinal < constants.length && number.doubleValue() == ordinal) {
+				return constants[(int) ordinal];
+			}
+			throw new TypeConversionException(value);
+		}
+
+		final String stringValue = value.toString();
+
+		E e = byString.get(stringValue);
+		if (e != null) {
+			return e;
+		}
+		e = byName.get(stringValue);
+		if (e != null) {
+			return e;
+		}
+		e = byUpperCase.get(stringValue.toUpperCase(Locale.ROOT));
+		if (e != null) {
+			return e;
+		}
+
+		throw new TypeConversionException(value);
+	}
+}
@@ -25,11 +25,13 @@
 
 package jodd.typeconverter.impl;
 
+import jodd.typeconverter.TypeConversionException;
 import jodd.typeconverter.TypeConverter;
 import jodd.typeconverter.TypeConverterManager;
+import jodd.util.NumberParser;
 import jodd.util.StringUtil;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 
 /**
@@ -67,6 +69,34 @@ public class FloatArrayConverter implements TypeConverter<float[]> {
 		return typeConverterManager.convertType(value, float.class).floatValue();
 	}
 
+	/**
+	 * Returns <code>true</code> if elements are converted by the default
+	 * converter, so numbers and strings are converted directly, without boxing.
+	 */
+	protected boolean isDirect() {
+		return NumberArrays.isDefaultConverter(typeConverterManager, float.class, FloatConverter.class);
+	}
+
+	/**
+	 * Converts an element. Numbers and strings are converted directly
+	 * when elements are converted by the default converter.
+	 */
+	protected float convertElement(final Object element, final boolean direct) {
+		if (direct) {
+			if (element instanceof Number) {
+				return ((Number) element).floatValue();
+			}
+			if (element instanceof CharSequence) {
+				try {
+					return NumberParser.parseFloat((CharSequence) element);
+				} catch (NumberFormatException nfex) {
+					throw new TypeConversionException(element, nfex);
+				}
+			}
+		}
+		return convertType(element);
+	}
+
 	/**
 	 * Creates an array with single element.
 	 */
@@ -84,9 +114,11 @@ public class FloatArrayConverter implements TypeConverter<float[]> {
 			final Collection collection = (Collection) value;
 			final float[] target = new float[collection.size()];
 
+			final boolean direct = isDirect();
+
 			int i = 0;
 			for (final Object element : collection) {
-				target[i] = convertType(element);
+				target[i] = convertElement(element, direct);
 				i++;
 			}
 
@@ -95,25 +127,25 @@ public class FloatArrayConverter implements TypeConverter<float[]> {
 
 		if (value instanceof Iterable) {
 			final Iterable iterable = (Iterable) value;
+			final boolean direct = isDirect();
 
-			final ArrayList<Float> floatArrayList = new ArrayList<>();
+			float[] target = new float[16];
+			int count = 0;
 
 			for (final Object element : iterable) {
-				final float convertedValue = convertType(element);
-				floatArrayList.add(Float.valueOf(convertedValue));
-			}
-
-			final float[] array = new float[floatArrayList.size()];
-
-			for (int i = 0; i < floatArrayList.size(); i++) {
-				final Float f = floatArrayList.get(i);
-				array[i] = f.floatValue();
+				if (count == target.length) {
+					target = Arrays.copyOf(target, count << 1);
+				}
+				target[count++] = convertElement(element, direct);
 			}
 
-			return array;
+			return Arrays.copyOf(target, count);
 		}
 
 		if (value instanceof CharSequence) {
+			if (isDirect()) {
+				return convertCharSequenceToArray((CharSequence) value);
+			}
 			final String[] strings = StringUtil.splitc(value.toString(), ArrayConverter.NUMBER_DELIMITERS);
 			return convertArrayToArray(strings);
 		}
@@ -122,6 +154,38 @@ public class FloatArrayConverter implements TypeConverter<float[]> {
 		return convertToSingleElementArray(value);
 	}
 
+	/**
+	 * Converts delimited numbers to array. Numbers are parsed
+	 * in place, without creating strings.
+	 */
+	protected float[] convertCharSequenceToArray(final CharSequence value) {
+		final int length = value.length();
+
+		float[] target = new float[16];
+		int count = 0;
+		int start = 0;
+
+		while (true) {
+			final int end = NumberArrays.tokenEnd(value, start);
+
+			if (count == target.length) {
+				target = Arrays.copyOf(target, count << 1);
+			}
+			try {
+				target[count++] = NumberParser.parseFloat(value, start, end);
+			} catch (NumberFormatException nfex) {
+				throw new TypeConversionException(value.subSequence(start, end), nfex);
+			}
+
+			if (end == length) {
+				break;
+			}
+			start = NumberArrays.tokenStart(value, end);
+		}
+
+		return Arrays.copyOf(target, count);
+	}
+
 	/**
 	 * Converts array value to array.
 	 */
@@ -137,8 +201,11 @@ public class FloatArrayConverter implements TypeConverter<float[]> {
 			final Object[] array = (Object[]) value;
 			result = new float[array.length];
 
+			final boolean direct = isDirect();
+
 			for (int i = 0; i < array.length; i++) {
-				result[i] = convertType(array[i]);
+				final Object element = array[i];
+				result[i] = convertElement(element, direct);
 			}
 		}
 
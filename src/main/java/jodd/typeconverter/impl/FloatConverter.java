@@ -27,7 +27,7 @@ package jodd.typeconverter.impl;
 
 import jodd.typeconverter.TypeConversionException;
 import jodd.typeconverter.TypeConverter;
-import jodd.util.StringUtil;
+import jodd.util.NumberParser;
 
 /**
  * Converts given object to <code>Float</code>.
@@ -57,11 +57,8 @@ public class FloatConverter implements TypeConverter<Float> {
 		}
 
 		try {
-			String stringValue = value.toString().trim();
-			if (StringUtil.startsWithChar(stringValue, '+')) {
-				stringValue = stringValue.substring(1);
-			}
-			return Float.valueOf(stringValue);
+			final CharSequence charSequence = value instanceof CharSequence ? (CharSequence) value : value.toString();
+			return Float.valueOf(NumberParser.parseFloat(charSequence));
 		} catch (NumberFormatException nfex) {
 			throw new TypeConversionException(value, nfex);
 		}
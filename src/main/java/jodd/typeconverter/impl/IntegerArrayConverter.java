@@ -25,11 +25,13 @@
 
 package jodd.typeconverter.impl;
 
+import jodd.typeconverter.TypeConversionException;
 import jodd.typeconverter.TypeConverter;
 import jodd.typeconverter.TypeConverterManager;
+import jodd.util.NumberParser;
 import jodd.util.StringUtil;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 
 /**
@@ -67,6 +69,34 @@ public class IntegerArrayConverter implements TypeConverter<int[]> {
 		return typeConverterManager.convertType(value, int.class).intValue();
 	}
 
+	/**
+	 * Returns <code>true</code> if elements are converted by the default
+	 * converter, so numbers and strings are converted directly, without boxing.
+	 */
+	protected boolean isDirect() {
+		return NumberArrays.isDefaultConverter(typeConverterManager, int.class, IntegerConverter.class);
+	}
+
+	/**
+	 * Converts an element. Numbers and strings are converted directly
+	 * when elements are converted by the default converter.
+	 */
+	protected int convertElement(final Object element, final boolean direct) {
+		if (direct) {
+			if (element instanceof Number) {
+				return ((Number) element).intValue();
+			}
+			if (element instanceof CharSequence) {
+				try {
+					return NumberParser.parseInt((CharSequence) element);
+				} catch (NumberFormatException nfex) {
+					throw new TypeConversionException(element, nfex);
+				}
+			}
+		}
+		return convertType(element);
+	}
+
 	/**
 	 * Creates an array with single element.
 	 */
@@ -84,9 +114,11 @@ public class IntegerArrayConverter implements TypeConverter<int[]> {
 			final Collection collection = (Collection) value;
 			final int[] target = new int[collection.size()];
 
+			final boolean direct = isDirect();
+
 			int i = 0;
 			for (final Object element : collection) {
-				target[i] = convertType(element);
+				target[i] = convertElement(element, direct);
 				i++;
 			}
 
@@ -95,18 +127,25 @@ public class IntegerArrayConverter implements TypeConverter<int[]> {
 
 		if (value instanceof Iterable) {
 			final Iterable iterable = (Iterable) value;
+			final boolean direct = isDirect();
 
-			final ArrayList<Integer> intArrayList = new ArrayList<>();
+			int[] target = new int[16];
+			int count = 0;
 
 			for (final Object element : iterable) {
-				final int convertedValue = convertType(element);
-				intArrayList.add(convertedValue);
+				if (count == target.length) {
+					target = Arrays.copyOf(target, count << 1);
+				}
+				target[count++] = convertElement(element, direct);
 			}
 
-			return intArrayList.stream().mapToInt(integer -> integer).toArray();
+			return Arrays.copyOf(target, count);
 		}
 
 		if (value instanceof CharSequence) {
+			if (isDirect()) {
+				return convertCharSequenceToArray((CharSequence) value);
+			}
 			final String[] strings = StringUtil.splitc(value.toString(), ArrayConverter.NUMBER_DELIMITERS);
 			return convertArrayToArray(strings);
 		}
@@ -115,6 +154,38 @@ public class IntegerArrayConverter implements TypeConverter<int[]> {
 		return convertToSingleElementArray(value);
 	}
 
+	/**
+	 * Converts delimited numbers to array. Numbers are parsed
+	 * in place, without creating strings.
+	 */
+	protected int[] convertCharSequenceToArray(final CharSequence value) {
+		final int length = value.length();
+
+		int[] target = new int[16];
+		int count = 0;
+		int start = 0;
+
+		while (true) {
+			final int end = NumberArrays.tokenEnd(value, start);
+
+			if (count == target.length) {
+				target = Arrays.copyOf(target, count << 1);
+			}
+			try {
+				target[count++] = NumberParser.parseInt(value, start, end);
+			} catch (NumberFormatException nfex) {
+				throw new TypeConversionException(value.subSequence(start, end), nfex);
+			}
+
+			if (end == length) {
+				break;
+			}
+			start = NumberArrays.tokenStart(value, end);
+		}
+
+		return Arrays.copyOf(target, count);
+	}
+
 	/**
 	 * Converts array value to array.
 	 */
@@ -130,8 +201,11 @@ public class IntegerArrayConverter implements TypeConverter<int[]> {
 			final Object[] array = (Object[]) value;
 			result = new int[array.length];
 
+			final boolean direct = isDirect();
+
 			for (int i = 0; i < array.length; i++) {
-				result[i] = convertType(array[i]);
+				final Object element = array[i];
+				result[i] = convertElement(element, direct);
 			}
 		}
 
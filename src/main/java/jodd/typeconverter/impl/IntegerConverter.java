@@ -27,7 +27,7 @@ package jodd.typeconverter.impl;
 
 import jodd.typeconverter.TypeConversionException;
 import jodd.typeconverter.TypeConverter;
-import jodd.util.StringUtil;
+import jodd.util.NumberParser;
 
 /**
  * Converts given object to an <code>Integer</code>.
@@ -57,11 +57,8 @@ public class IntegerConverter implements TypeConverter<Integer> {
 		}
 
 		try {
-			String stringValue = value.toString().trim();
-			if (StringUtil.startsWithChar(stringValue, '+')) {
-				stringValue = stringValue.substring(1);
-			}
-			return Integer.valueOf(stringValue);
+			final CharSequence charSequence = value instanceof CharSequence ? (CharSequence) value : value.toString();
+			return Integer.valueOf(NumberParser.parseInt(charSequence));
 		} catch (NumberFormatException nfex) {
 			throw new TypeConversionException(value, nfex);
 		}
@@ -67,7 +67,7 @@ public class LocalDateConverter implements TypeConverter<LocalDate> {
 
 		if (!StringUtil.containsOnlyDigits(stringValue)) {
 			// try to parse default string format
-			return LocalDate.parse(stringValue);
+			return TemporalParser.parseLocalDate(stringValue);
 		}
 
 		try {
@@ -67,7 +67,7 @@ public class LocalDateTimeConverter implements TypeConverter<LocalDateTime> {
 
 		if (!StringUtil.containsOnlyDigits(stringValue)) {
 			// try to parse default string format
-			return LocalDateTime.parse(stringValue);
+			return TemporalParser.parseLocalDateTime(stringValue);
 		}
 
 		try {
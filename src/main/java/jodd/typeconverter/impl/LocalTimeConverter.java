@@ -67,7 +67,7 @@ public class LocalTimeConverter implements TypeConverter<LocalTime> {
 
 		if (!StringUtil.containsOnlyDigits(stringValue)) {
 			// try to parse default string format
-			return LocalTime.parse(stringValue);
+			return TemporalParser.parseLocalTime(stringValue);
 		}
 
 		try {
@@ -36,9 +36,12 @@ import java.util.Locale;
  * <li>object of destination type is simply casted</li>
  * <li>finally, string representation of the object is used for getting the locale</li>
  * </ul>
+ * Locales are cached by their string representation.
  */
 public class LocaleConverter implements TypeConverter<Locale> {
 
+	private final ConverterCache<Locale> cache = new ConverterCache<>();
+
 	@Override
 	public Locale convert(final Object value) {
 		if (value == null) {
@@ -49,7 +52,14 @@ public class LocaleConverter implements TypeConverter<Locale> {
 			return (Locale) value;
 		}
 
-		return Locale.forLanguageTag(value.toString());
+		final String languageTag = value.toString();
+
+		Locale locale = cache.get(languageTag);
+		if (locale == null) {
+			locale = Locale.forLanguageTag(languageTag);
+			cache.put(languageTag, locale);
+		}
+		return locale;
 	}
 
 }
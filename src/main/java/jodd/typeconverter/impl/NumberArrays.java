@@ -0,0 +1,75 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.typeconverter.impl;
+
+import jodd.typeconverter.TypeConverter;
+import jodd.typeconverter.TypeConverterManager;
+import jodd.util.CharUtil;
+
+/**
+ * Helpers of number array converters, for converting
+ * elements without boxing and delimited strings without splitting.
+ */
+final class NumberArrays {
+
+	private NumberArrays() {
+	}
+
+	/**
+	 * Returns <code>true</code> if values of given type are converted by the
+	 * default converter, so they may be converted directly.
+	 */
+	static boolean isDefaultConverter(final TypeConverterManager typeConverterManager, final Class type, final Class converterType) {
+		final TypeConverter typeConverter = typeConverterManager.lookup(type);
+		return typeConverter != null && typeConverter.getClass() == converterType;
+	}
+
+	/**
+	 * Returns the end of the token that starts at given index, i.e.
+	 * the index of the next {@link ArrayConverter#NUMBER_DELIMITERS delimiter}
+	 * or the length of the input.
+	 */
+	static int tokenEnd(final CharSequence input, int index) {
+		final int length = input.length();
+		while (index < length && !CharUtil.equalsOne(input.charAt(index), ArrayConverter.NUMBER_DELIMITERS)) {
+			index++;
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the start of the next token, after the delimiters at given index.
+	 * Subsequent delimiters are skipped, as in <code>StringUtil#splitc</code>.
+	 */
+	static int tokenStart(final CharSequence input, int index) {
+		final int length = input.length();
+		while (index < length && CharUtil.equalsOne(input.charAt(index), ArrayConverter.NUMBER_DELIMITERS)) {
+			index++;
+		}
+		return index;
+	}
+}
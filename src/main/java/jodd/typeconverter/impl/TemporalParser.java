@@ -0,0 +1,178 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.typeconverter.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+
+/**
+ * Parser of the most common ISO-8601 local date and time shapes:
+ * <code>yyyy-MM-dd</code>, <code>HH:mm[:ss[.SSSSSSSSS]]</code> and their
+ * combination. The shape of the input is recognized by character positions,
+ * so these shapes are parsed without <code>DateTimeFormatter</code> and
+ * without exceptions. Any other input is left to the JDK parsing, which
+ * either parses it or reports the error as before.
+ */
+final class TemporalParser {
+
+	private TemporalParser() {
+	}
+
+	// ---------------------------------------------------------------- parse
+
+	/**
+	 * Parses ISO local date, like <code>LocalDate#parse</code>.
+	 */
+	static LocalDate parseLocalDate(final CharSequence input) {
+		final LocalDate localDate = input.length() == 10 ? date(input) : null;
+		return localDate != null ? localDate : LocalDate.parse(input);
+	}
+
+	/**
+	 * Parses ISO local time, like <code>LocalTime#parse</code>.
+	 */
+	static LocalTime parseLocalTime(final CharSequence input) {
+		final LocalTime localTime = time(input, 0, input.length());
+		return localTime != null ? localTime : LocalTime.parse(input);
+	}
+
+	/**
+	 * Parses ISO local date time, like <code>LocalDateTime#parse</code>.
+	 */
+	static LocalDateTime parseLocalDateTime(final CharSequence input) {
+		LocalDateTime localDateTime = null;
+		if (input.length() >= 16) {
+			final char separator = input.charAt(10);
+			if (separator == 'T' || separator == 't') {
+				localDateTime = dateTime(input);
+			}
+		}
+		return localDateTime != null ? localDateTime : LocalDateTime.parse(input);
+	}
+
+	// ---------------------------------------------------------------- shapes
+
+	private static LocalDateTime dateTime(final CharSequence input) {
+		final LocalDate date = date(input);
+		if (date == null) {
+			return null;
+		}
+		final LocalTime time = time(input, 11, input.length());
+		if (time == null) {
+			return null;
+		}
+		return LocalDateTime.of(date, time);
+	}
+
+	/**
+	 * Parses the date at the start of the input.
+	 */
+	private static LocalDate date(final CharSequence input) {
+		if (input.charAt(4) != '-' || input.charAt(7) != '-') {
+			return null;
+		}
+		final int year = digits(input, 0, 4);
+		final int month = digits(input, 5, 7);
+		final int day = digits(input, 8, 10);
+
+		if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+			return null;
+		}
+		return LocalDate.of(year, month, day);
+	}
+
+	/**
+	 * Parses the time within the given range of the input.
+	 */
+	private static LocalTime time(final CharSequence input, final int start, final int end) {
+		final int length = end - start;
+		if (length < 5 || input.charAt(start + 2) != ':') {
+			return null;
+		}
+		final int hour = digits(input, start, start + 2);
+		final int minute = digits(input, start + 3, start + 5);
+		int second = 0;
+		int nano = 0;
+
+		if (length > 5) {
+			if (length < 8 || input.charAt(start + 5) != ':') {
+				return null;
+			}
+			second = digits(input, start + 6, start + 8);
+
+			if (length > 8) {
+				// fraction of 1 to 9 digits
+				if (length == 9 || length > 18 || input.charAt(start + 8) != '.') {
+					return null;
+				}
+				nano = digits(input, start + 9, end);
+				if (nano < 0) {
+					return null;
+				}
+				for (int i = length - 9; i < 9; i++) {
+					nano *= 10;
+				}
+			}
+		}
+
+		if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+			return null;
+		}
+		return LocalTime.of(hour, minute, second, nano);
+	}
+
+	/**
+	 * Returns the value of decimal digits in the given range,
+	 * or <code>-1</code> if some character is not a digit.
+	 */
+	private static int digits(final CharSequence input, int start, final int end) {
+		int value = 0;
+		while (start < end) {
+			final int digit = input.charAt(start++) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	private static int lengthOfMonth(final int year, final int month) {
+		switch (month) {
+			case 2:
+				return Year.isLeap(year) ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+}
@@ -36,9 +36,14 @@ import java.util.TimeZone;
  * <li>object of destination type is simply casted</li>
  * <li>finally, string representation of the object is used for getting the time zone</li>
  * </ul>
+ * Time zones are cached by their string representation, including unknown
+ * ids that resolve to GMT. Since time zones are mutable, a copy of the
+ * cached time zone is returned.
  */
 public class TimeZoneConverter implements TypeConverter<TimeZone> {
 
+	private final ConverterCache<TimeZone> cache = new ConverterCache<>();
+
 	public TimeZone convert(final Object value) {
 		if (value == null) {
 			return null;
@@ -48,7 +53,13 @@ public class TimeZoneConverter implements TypeConverter<TimeZone> {
 			return (TimeZone) value;
 		}
 
-		return TimeZone.getTimeZone(value.toString());
+		final String id = value.toString();
 
+		TimeZone timeZone = cache.get(id);
+		if (timeZone == null) {
+			timeZone = TimeZone.getTimeZone(id);
+			cache.put(id, timeZone);
+		}
+		return (TimeZone) timeZone.clone();
 	}
 }
@@ -25,14 +25,22 @@
 
 package jodd.util;
 
+import jodd.io.FileUtil;
 import jodd.io.IOUtil;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 
@@ -189,6 +197,80 @@ public class ClassLoaderUtil {
 		return classLoaderStrategy.loadClass(className, classLoader);
 	}
 
+	// ---------------------------------------------------------------- package classes
+
+	private static final String CLASS_FILE_EXT = ".class";
+
+	/**
+	 * Finds names of all classes in given package and its sub-packages, as seen
+	 * by provided class loader. Both folders and jars on the classpath are
+	 * examined. Package and module descriptors are ignored.
+	 */
+	public static List<String> findClassNames(final String packageName, final ClassLoader classLoader) throws IOException {
+		final String packagePath = packageName.replace('.', '/');
+		final List<String> classNames = new ArrayList<>();
+
+		final Enumeration<URL> urls = classLoader.getResources(packagePath);
+
+		while (urls.hasMoreElements()) {
+			final URL url = urls.nextElement();
+			final String protocol = url.getProtocol();
+
+			if ("file".equals(protocol)) {
+				final File packageDir = FileUtil.toFile(url);
+				if (packageDir != null && packageDir.isDirectory()) {
+					collectClassNames(packageDir, packageName, classNames);
+				}
+			}
+			else if ("jar".equals(protocol)) {
+				final URLConnection urlConnection = url.openConnection();
+				if (!(urlConnection instanceof JarURLConnection)) {
+					continue;
+				}
+				urlConnection.setUseCaches(false);
+
+				final String prefix = packagePath.isEmpty() ? packagePath : packagePath + '/';
+
+				try (final JarFile jarFile = ((JarURLConnection) urlConnection).getJarFile()) {
+					final Enumeration<JarEntry> entries = jarFile.entries();
+					while (entries.hasMoreElements()) {
+						final String entryName = entries.nextElement().getName();
+						if (entryName.startsWith(prefix) && isClassFileName(entryName)) {
+							classNames.add(entryName
+								.substring(0, entryName.length() - CLASS_FILE_EXT.length())
+								.replace('/', '.'));
+						}
+					}
+				}
+			}
+		}
+		return classNames;
+	}
+
+	private static void collectClassNames(final File dir, final String packageName, final List<String> classNames) {
+		final File[] files = dir.listFiles();
+		if (files == null) {
+			return;
+		}
+		final String prefix = packageName.isEmpty() ? packageName : packageName + '.';
+
+		for (final File file : files) {
+			final String fileName = file.getName();
+			if (file.isDirectory()) {
+				collectClassNames(file, prefix + fileName, classNames);
+			}
+			else if (isClassFileName(fileName)) {
+				classNames.add(prefix + fileName.substring(0, fileName.length() - CLASS_FILE_EXT.length()));
+			}
+		}
+	}
+
+	private static boolean isClassFileName(final String fileName) {
+		return fileName.endsWith(CLASS_FILE_EXT)
+			&& !fileName.endsWith("package-info.class")
+			&& !fileName.endsWith("module-info.class");
+	}
+
 	// ---------------------------------------------------------------- class location
 
 	/**
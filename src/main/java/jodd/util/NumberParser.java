@@ -0,0 +1,458 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses decimal numbers from ranges of char sequences, char arrays and byte
+ * arrays, without creating strings. Surrounding white spaces ({@code <= ' '})
+ * and a leading plus sign are ignored, the rest is parsed as {@link Long#parseLong(String)}
+ * and {@link Double#parseDouble(String)} would. Common floating-point numbers, with
+ * up to 15 significant digits and small exponents, are parsed directly; other are
+ * parsed by the JDK. Byte arrays are read as ISO-8859-1 characters.
+ * <p>
+ * All methods throw <code>NumberFormatException</code> if number can not be parsed.
+ */
+public class NumberParser {
+
+	private static final double[] DOUBLE_POW10 = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+		1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	private static final float[] FLOAT_POW10 = {
+		1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+	};
+
+	// ---------------------------------------------------------------- int
+
+	/**
+	 * Parses <code>int</code> from the char sequence.
+	 */
+	public static int parseInt(final CharSequence input) {
+		return parseInt(input, 0, input.length());
+	}
+
+	/**
+	 * Parses <code>int</code> from the range of the char sequence.
+	 */
+	public static int parseInt(final CharSequence input, final int start, final int end) {
+		return (int) parseInteger(input, start, end, Integer.MIN_VALUE);
+	}
+
+	/**
+	 * Parses <code>int</code> from the range of the char array.
+	 */
+	public static int parseInt(final char[] input, final int start, final int end) {
+		return (int) parseInteger(input, start, end, Integer.MIN_VALUE);
+	}
+
+	/**
+	 * Parses <code>int</code> from the range of the byte array.
+	 */
+	public static int parseInt(final byte[] input, final int start, final int end) {
+		return (int) parseInteger(input, start, end, Integer.MIN_VALUE);
+	}
+
+	// ---------------------------------------------------------------- long
+
+	/**
+	 * Parses <code>long</code> from the char sequence.
+	 */
+	public static long parseLong(final CharSequence input) {
+		return parseLong(input, 0, input.length());
+	}
+
+	/**
+	 * Parses <code>long</code> from the range of the char sequence.
+	 */
+	public static long parseLong(final CharSequence input, final int start, final int end) {
+		return parseInteger(input, start, end, Long.MIN_VALUE);
+	}
+
+	/**
+	 * Parses <code>long</code> from the range of the char array.
+	 */
+	public static long parseLong(final char[] input, final int start, final int end) {
+		return parseInteger(input, start, end, Long.MIN_VALUE);
+	}
+
+	/**
+	 * Parses <code>long</code> from the range of the byte array.
+	 */
+	public static long parseLong(final byte[] input, final int start, final int end) {
+		return parseInteger(input, start, end, Long.MIN_VALUE);
+	}
+
+	// ---------------------------------------------------------------- short
+
+	/**
+	 * Parses <code>short</code> from the char sequence.
+	 */
+	public static short parseShort(final CharSequence input) {
+		return parseShort(input, 0, input.length());
+	}
+
+	/**
+	 * Parses <code>short</code> from the range of the char sequence.
+	 */
+	public static short parseShort(final CharSequence input, final int start, final int end) {
+		return (short) checkRange(parseInt(input, start, end), Short.MIN_VALUE, Short.MAX_VALUE, input, start, end);
+	}
+
+	/**
+	 * Parses <code>short</code> from the range of the char array.
+	 */
+	public static short parseShort(final char[] input, final int start, final int end) {
+		return (short) checkRange(parseInt(input, start, end), Short.MIN_VALUE, Short.MAX_VALUE, input, start, end);
+	}
+
+	/**
+	 * Parses <code>short</code> from the range of the byte array.
+	 */
+	public static short parseShort(final byte[] input, final int start, final int end) {
+		return (short) checkRange(parseInt(input, start, end), Short.MIN_VALUE, Short.MAX_VALUE, input, start, end);
+	}
+
+	// ---------------------------------------------------------------- byte
+
+	/**
+	 * Parses <code>byte</code> from the char sequence.
+	 */
+	public static byte parseByte(final CharSequence input) {
+		return parseByte(input, 0, input.length());
+	}
+
+	/**
+	 * Parses <code>byte</code> from the range of the char sequence.
+	 */
+	public static byte parseByte(final CharSequence input, final int start, final int end) {
+		return (byte) checkRange(parseInt(input, start, end), Byte.MIN_VALUE, Byte.MAX_VALUE, input, start, end);
+	}
+
+	/**
+	 * Parses <code>byte</code> from the range of the char array.
+	 */
+	public static byte parseByte(final char[] input, final int start, final int end) {
+		return (byte) checkRange(parseInt(input, start, end), Byte.MIN_VALUE, Byte.MAX_VALUE, input, start, end);
+	}
+
+	/**
+	 * Parses <code>byte</code> from the range of the byte array.
+	 */
+	public static byte parseByte(final byte[] input, final int start, final int end) {
+		return (byte) checkRange(parseInt(input, start, end), Byte.MIN_VALUE, Byte.MAX_VALUE, input, start, end);
+	}
+
+	// ---------------------------------------------------------------- double
+
+	/**
+	 * Parses <code>double</code> from the char sequence.
+	 */
+	public static double parseDouble(final CharSequence input) {
+		return parseDouble(input, 0, input.length());
+	}
+
+	/**
+	 * Parses <code>double</code> from the range of the char sequence.
+	 */
+	public static double parseDouble(final CharSequence input, final int start, final int end) {
+		return parseDecimal(input, start, end, false);
+	}
+
+	/**
+	 * Parses <code>double</code> from the range of the char array.
+	 */
+	public static double parseDouble(final char[] input, final int start, final int end) {
+		return parseDecimal(input, start, end, false);
+	}
+
+	/**
+	 * Parses <code>double</code> from the range of the byte array.
+	 */
+	public static double parseDouble(final byte[] input, final int start, final int end) {
+		return parseDecimal(input, start, end, false);
+	}
+
+	// ---------------------------------------------------------------- float
+
+	/**
+	 * Parses <code>float</code> from the char sequence.
+	 */
+	public static float parseFloat(final CharSequence input) {
+		return parseFloat(input, 0, input.length());
+	}
+
+	/**
+	 * Parses <code>float</code> from the range of the char sequence.
+	 */
+	public static float parseFloat(final CharSequence input, final int start, final int end) {
+		return (float) parseDecimal(input, start, end, true);
+	}
+
+	/**
+	 * Parses <code>float</code> from the range of the char array.
+	 */
+	public static float parseFloat(final char[] input, final int start, final int end) {
+		return (float) parseDecimal(input, start, end, true);
+	}
+
+	/**
+	 * Parses <code>float</code> from the range of the byte array.
+	 */
+	public static float parseFloat(final byte[] input, final int start, final int end) {
+		return (float) parseDecimal(input, start, end, true);
+	}
+
+	// ---------------------------------------------------------------- parse
+
+	/**
+	 * Returns character of a char sequence, char array or byte array.
+	 */
+	private static char charAt(final Object input, final int index) {
+		if (input instanceof CharSequence) {
+			return ((CharSequence) input).charAt(index);
+		}
+		if (input instanceof char[]) {
+			return ((char[]) input)[index];
+		}
+		return (char) (((byte[]) input)[index] & 0xFF);
+	}
+
+	/**
+	 * Returns the string of the input range, used for errors and fallbacks.
+	 */
+	private static String toString(final Object input, final int start, final int end) {
+		if (input instanceof CharSequence) {
+			return ((CharSequence) input).subSequence(start, end).toString();
+		}
+		if (input instanceof char[]) {
+			return new String((char[]) input, start, end - start);
+		}
+		return new String((byte[]) input, start, end - start, StandardCharsets.ISO_8859_1);
+	}
+
+	private static NumberFormatException forInput(final Object input, final int start, final int end) {
+		return new NumberFormatException("For input string: \"" + toString(input, start, end) + '"');
+	}
+
+	private static void checkBounds(final Object input, final int start, final int end) {
+		final int length;
+		if (input instanceof CharSequence) {
+			length = ((CharSequence) input).length();
+		}
+		else if (input instanceof char[]) {
+			length = ((char[]) input).length;
+		}
+		else {
+			length = ((byte[]) input).length;
+		}
+		if (start < 0 || start > end || end > length) {
+			throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+		}
+	}
+
+	private static int checkRange(final int value, final int min, final int max, final Object input, final int start, final int end) {
+		if (value < min || value > max) {
+			throw new NumberFormatException("Value out of range. Value:\"" + toString(input, start, end) + "\" Radix:10");
+		}
+		return value;
+	}
+
+	/**
+	 * Parses integer number, accumulated negatively down to given limit,
+	 * the same way as <code>Long.parseLong</code> does.
+	 */
+	private static long parseInteger(final Object input, int start, int end, final long minValue) {
+		checkBounds(input, start, end);
+
+		final int from = start;
+		final int to = end;
+
+		while (start < end && CharUtil.isWhitespace(charAt(input, start))) {
+			start++;
+		}
+		while (end > start && CharUtil.isWhitespace(charAt(input, end - 1))) {
+			end--;
+		}
+		if (start < end && charAt(input, start) == '+') {
+			start++;
+		}
+		if (start == end) {
+			throw forInput(input, from, to);
+		}
+
+		boolean negative = false;
+		long limit = -Long.MAX_VALUE;
+		if (minValue == Integer.MIN_VALUE) {
+			limit = -Integer.MAX_VALUE;
+		}
+
+		final char first = charAt(input, start);
+		if (first < '0') {
+			if (first == '-') {
+				negative = true;
+				limit = minValue;
+			}
+			else if (first != '+') {
+				throw forInput(input, from, to);
+			}
+			start++;
+			if (start == end) {
+				throw forInput(input, from, to);
+			}
+		}
+
+		final long multmin = limit / 10;
+		long result = 0;
+
+		while (start < end) {
+			final char c = charAt(input, start++);
+			final int digit = (c >= '0' && c <= '9') ? c - '0' : Character.digit(c, 10);
+
+			if (digit < 0 || result < multmin) {
+				throw forInput(input, from, to);
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				throw forInput(input, from, to);
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	/**
+	 * Parses decimal number. Numbers with up to 15 (7 for floats) significant
+	 * digits and small exponents are exactly represented, so they are parsed
+	 * with a single multiplication or division. All other numbers are parsed by
+	 * the JDK. Float results are returned as doubles, they are exactly converted
+	 * back to floats.
+	 */
+	private static double parseDecimal(final Object input, int start, int end, final boolean asFloat) {
+		checkBounds(input, start, end);
+
+		while (start < end && CharUtil.isWhitespace(charAt(input, start))) {
+			start++;
+		}
+		while (end > start && CharUtil.isWhitespace(charAt(input, end - 1))) {
+			end--;
+		}
+		if (start < end && charAt(input, start) == '+') {
+			start++;
+		}
+
+		final int maxDigits = asFloat ? 7 : 15;
+		final int maxExponent = asFloat ? FLOAT_POW10.length - 1 : DOUBLE_POW10.length - 1;
+
+		int i = start;
+		boolean negative = false;
+		if (i < end) {
+			final char c = charAt(input, i);
+			if (c == '-' || c == '+') {
+				negative = c == '-';
+				i++;
+			}
+		}
+
+		long mantissa = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean anyDigit = false;
+		boolean fraction = false;
+		boolean fast = true;
+
+		for (; i < end; i++) {
+			final char c = charAt(input, i);
+			if (c >= '0' && c <= '9') {
+				anyDigit = true;
+				if (fraction) {
+					exponent--;
+				}
+				if (mantissa == 0 && c == '0') {
+					continue;
+				}
+				if (++digits > maxDigits) {
+					fast = false;
+					break;
+				}
+				mantissa = mantissa * 10 + (c - '0');
+			}
+			else if (c == '.' && !fraction) {
+				fraction = true;
+			}
+			else {
+				break;
+			}
+		}
+
+		if (fast && anyDigit && i < end && (charAt(input, i) == 'e' || charAt(input, i) == 'E')) {
+			i++;
+			boolean negativeExponent = false;
+			if (i < end && (charAt(input, i) == '-' || charAt(input, i) == '+')) {
+				negativeExponent = charAt(input, i) == '-';
+				i++;
+			}
+			int exponentValue = 0;
+			final int exponentStart = i;
+			while (i < end) {
+				final char c = charAt(input, i);
+				if (c < '0' || c > '9' || exponentValue > 1000) {
+					break;
+				}
+				exponentValue = exponentValue * 10 + (c - '0');
+				i++;
+			}
+			if (i == exponentStart) {
+				fast = false;
+			}
+			exponent += negativeExponent ? -exponentValue : exponentValue;
+		}
+
+		if (fast && anyDigit && i == end && exponent >= -maxExponent && exponent <= maxExponent) {
+			final double value;
+			if (asFloat) {
+				final float floatValue = (float) mantissa;
+				value = exponent >= 0 ? floatValue * FLOAT_POW10[exponent] : floatValue / FLOAT_POW10[-exponent];
+			}
+			else {
+				final double doubleValue = (double) mantissa;
+				value = exponent >= 0 ? doubleValue * DOUBLE_POW10[exponent] : doubleValue / DOUBLE_POW10[-exponent];
+			}
+			return negative ? -value : value;
+		}
+
+		// zero with any exponent
+		if (fast && anyDigit && i == end && mantissa == 0) {
+			return negative ? -0.0d : 0.0d;
+		}
+
+		final String string = toString(input, start, end);
+		return asFloat ? Float.parseFloat(string) : Double.parseDouble(string);
+	}
+
+}
@@ -28,10 +28,16 @@ package jodd.util;
 import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -41,10 +47,16 @@ import java.util.function.Function;
  * <ul>
  *     <li>synchronization - especially on storing items. If not synchronized, one instance of an item may be put
  *     more then once into the map. This is usually fine, as it happens only during the initialization and makes not
- *     harm if something is created twice</li>
+ *     harm if something is created twice. Thread-safe caches create each item only once, without blocking
+ *     the lookups of other items.</li>
  *     <li>weak - if your key classes are replaced during the runtime, you should use weak map, in order to automatically
  *     remove obsolete keys.</li>
+ *     <li>class value - values are stored in per-class slots of the {@link ClassValue}. Reads are lock-free and
+ *     cached values do not prevent class unloading. This is the best choice for caches of class metadata.</li>
+ *     <li>bounded - if number of key classes is not limited (e.g. proxies or classes of many class loaders),
+ *     you should set the maximum size and/or expiration time, so obsolete values are evicted.</li>
  * </ul>
+ * Cache may optionally record {@link Stats statistics}.
  */
 public class TypeCache<T> {
 
@@ -65,10 +77,31 @@ public class TypeCache<T> {
 		return TypeCache.<A>create().get();
 	}
 
+	/**
+	 * Eviction policy of the bounded cache.
+	 */
+	public enum Eviction {
+		/**
+		 * Evicts the least recently used value.
+		 */
+		LRU,
+		/**
+		 * Evicts the least frequently used value. Frequency is approximated:
+		 * the value with the lowest number of hits among a few least recently
+		 * used values is evicted.
+		 */
+		LFU
+	}
+
 	public static class Builder<A> {
 		private boolean threadsafe;
 		private boolean weak;
 		private boolean none;
+		private boolean classValue;
+		private int maxSize;
+		private Eviction eviction = Eviction.LRU;
+		private long expireAfterAccess;
+		private boolean stats;
 
 		/**
 		 * No cache will be used.
@@ -94,10 +127,64 @@ public class TypeCache<T> {
 			return this;
 		}
 
+		/**
+		 * Cache values will be stored in the {@link ClassValue} slots.
+		 * Class value cache is always thread-safe and weak, so other flags
+		 * are ignored.
+		 */
+		public Builder<A> classValue(final boolean classValue) {
+			this.classValue = classValue;
+			return this;
+		}
+
+		/**
+		 * Sets maximum number of cached values. When the size is exceeded,
+		 * a value is evicted according to the {@link #eviction(Eviction) eviction policy}.
+		 * Bounded cache is always thread-safe and keeps strong references to keys,
+		 * so the weak flag is ignored.
+		 */
+		public Builder<A> maxSize(final int maxSize) {
+			if (maxSize <= 0) {
+				throw new IllegalArgumentException("Invalid max size: " + maxSize);
+			}
+			this.maxSize = maxSize;
+			return this;
+		}
+
+		/**
+		 * Sets eviction policy of the bounded cache. Default is {@link Eviction#LRU}.
+		 */
+		public Builder<A> eviction(final Eviction eviction) {
+			this.eviction = eviction;
+			return this;
+		}
+
+		/**
+		 * Values that are not accessed for given duration are evicted.
+		 * Makes cache bounded.
+		 * @see #maxSize(int)
+		 */
+		public Builder<A> expireAfterAccess(final long duration, final TimeUnit timeUnit) {
+			if (duration <= 0) {
+				throw new IllegalArgumentException("Invalid duration: " + duration);
+			}
+			this.expireAfterAccess = timeUnit.toNanos(duration);
+			return this;
+		}
+
+		/**
+		 * Cache will record {@link Stats statistics}.
+		 */
+		public Builder<A> stats(final boolean stats) {
+			this.stats = stats;
+			return this;
+		}
+
 		/**
 		 * Builds a type cache.
 		 */
 		public TypeCache<A> get() {
+			final Stats stats = this.stats ? new Stats() : null;
 			final Map<Class<?>, A> map;
 			if (none) {
 				map = new AbstractMap<Class<?>, A>() {
@@ -117,6 +204,16 @@ public class TypeCache<T> {
 					}
 				};
 			}
+			else if (maxSize != 0 || expireAfterAccess != 0) {
+				map = new BoundedMap<>(
+					maxSize == 0 ? Integer.MAX_VALUE : maxSize,
+					eviction,
+					expireAfterAccess,
+					stats == null ? null : stats.evictions::increment);
+			}
+			else if (classValue) {
+				map = new ClassValueMap<>();
+			}
 			else if (weak) {
 				if (threadsafe) {
 					map = Collections.synchronizedMap(new WeakHashMap<>());
@@ -131,16 +228,23 @@ public class TypeCache<T> {
 				}
 			}
 
-			return new TypeCache<>(map);
+			// maps that are locked while computing values load each key only once instead
+			final boolean singleFlight = !none && !classValue && (threadsafe || map instanceof BoundedMap);
+
+			return new TypeCache<>(map, stats, singleFlight);
 		}
 	}
 
 	// ---------------------------------------------------------------- map
 
 	private final Map<Class<?>, T> map;
+	private final Stats stats;
+	private final Map<Class<?>, Loading<T>> loadings;
 
-	private TypeCache(final Map<Class<?>, T> backedMap) {
+	private TypeCache(final Map<Class<?>, T> backedMap, final Stats stats, final boolean singleFlight) {
 		this.map = backedMap;
+		this.stats = stats;
+		this.loadings = singleFlight ? new ConcurrentHashMap<>() : null;
 	}
 
 	/**
@@ -154,17 +258,116 @@ public class TypeCache<T> {
 	 * Returns value from the map or {@code null} if value does not exist.
 	 */
 	public T get(final Class<?> key) {
-		return map.get(key);
+		final T value = map.get(key);
+		if (stats != null) {
+			stats.record(value != null);
+		}
+		return value;
 	}
 
 	/**
 	 * Returns existing value or add default supplied one.
 	 * Use this method instead of {@code get-nullcheck-put} block when
 	 * thread-safety is of importance.
+	 * <p>
+	 * In thread-safe caches, the mapping function is invoked once per key:
+	 * concurrent callers for the same key wait for the first one to finish,
+	 * while callers for other keys are never blocked by the loading.
 	 */
 	@SuppressWarnings("unchecked")
 	public <K> T get(final Class<K> key, final Function<Class<K>, ? extends T> mappingFunction) {
-		return map.computeIfAbsent(key, aClass -> mappingFunction.apply((Class<K>) aClass));
+		if (loadings == null && stats == null) {
+			return map.computeIfAbsent(key, aClass -> mappingFunction.apply((Class<K>) aClass));
+		}
+		final T value = map.get(key);
+		if (stats != null) {
+			stats.record(value != null);
+		}
+		if (value != null) {
+			return value;
+		}
+
+		final Function<Class<?>, T> loader;
+		if (stats == null) {
+			loader = aClass -> mappingFunction.apply((Class<K>) aClass);
+		}
+		else {
+			loader = aClass -> {
+				final long start = System.nanoTime();
+				try {
+					return mappingFunction.apply((Class<K>) aClass);
+				}
+				finally {
+					stats.recordLoad(System.nanoTime() - start);
+				}
+			};
+		}
+
+		if (loadings == null) {
+			return map.computeIfAbsent(key, loader);
+		}
+		return load(key, loader);
+	}
+
+	/**
+	 * Loads the value outside of the map locks. Only the first caller for the key
+	 * invokes the loader, others wait for the result.
+	 */
+	private T load(final Class<?> key, final Function<Class<?>, T> loader) {
+		final Loading<T> loading = new Loading<>();
+		final Loading<T> existing = loadings.putIfAbsent(key, loading);
+
+		if (existing != null) {
+			return existing.await();
+		}
+
+		try {
+			T value = map.get(key);
+			if (value == null) {
+				value = loader.apply(key);
+				if (value != null) {
+					final T previous = map.putIfAbsent(key, value);
+					if (previous != null) {
+						value = previous;
+					}
+				}
+			}
+			loading.complete(value);
+			return value;
+		}
+		catch (final RuntimeException | Error ex) {
+			loading.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			loadings.remove(key, loading);
+		}
+	}
+
+	/**
+	 * Value being loaded by the owner thread.
+	 */
+	private static class Loading<T> extends CompletableFuture<T> {
+		private final Thread owner = Thread.currentThread();
+
+		T await() {
+			if (owner == Thread.currentThread()) {
+				throw new IllegalStateException("Recursive load of the same type");
+			}
+			try {
+				return join();
+			}
+			catch (final CompletionException ex) {
+				final Throwable cause = ex.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw ex;
+			}
+		}
 	}
 
 	/**
@@ -202,4 +405,375 @@ public class TypeCache<T> {
 		map.values().forEach(valueConsumer);
 	}
 
+	/**
+	 * Returns cache {@link Stats statistics}. If statistics are not
+	 * recorded, returned statistics are always empty.
+	 */
+	public Stats getStats() {
+		return stats != null ? stats : new Stats();
+	}
+
+	// ---------------------------------------------------------------- stats
+
+	/**
+	 * Live cache statistics. Counters are updated concurrently, so a read
+	 * of several counters is not an atomic snapshot.
+	 */
+	public static class Stats {
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+		private final LongAdder loads = new LongAdder();
+		private final LongAdder loadTime = new LongAdder();
+		private final LongAdder evictions = new LongAdder();
+
+		void record(final boolean hit) {
+			if (hit) {
+				hits.increment();
+			} else {
+				misses.increment();
+			}
+		}
+
+		void recordLoad(final long nanos) {
+			loads.increment();
+			loadTime.add(nanos);
+		}
+
+		/**
+		 * Returns number of lookups that found a cached value.
+		 */
+		public long getHitCount() {
+			return hits.sum();
+		}
+
+		/**
+		 * Returns number of lookups that did not find a cached value.
+		 */
+		public long getMissCount() {
+			return misses.sum();
+		}
+
+		/**
+		 * Returns number of values created by the mapping function.
+		 */
+		public long getLoadCount() {
+			return loads.sum();
+		}
+
+		/**
+		 * Returns total time, in nanoseconds, spent in mapping functions.
+		 */
+		public long getTotalLoadTime() {
+			return loadTime.sum();
+		}
+
+		/**
+		 * Returns number of evicted values, including the expired ones.
+		 */
+		public long getEvictionCount() {
+			return evictions.sum();
+		}
+
+		@Override
+		public String toString() {
+			return "Stats{hits=" + getHitCount() +
+				", misses=" + getMissCount() +
+				", loads=" + getLoadCount() +
+				", loadTime=" + getTotalLoadTime() +
+				", evictions=" + getEvictionCount() + '}';
+		}
+	}
+
+	// ---------------------------------------------------------------- class value
+
+	/**
+	 * Map backed by the {@link ClassValue}. Each class gets its own slot, so reads
+	 * are lock-free and values are computed under the lock of the slot only.
+	 * Classes with values are additionally tracked in a weak set of keys,
+	 * used for iteration and size; it is never accessed on read.
+	 */
+	private static class ClassValueMap<V> extends AbstractMap<Class<?>, V> {
+
+		private static class Slot<V> {
+			private volatile V value;
+		}
+
+		private volatile ClassValue<Slot<V>> slots = newSlots();
+
+		// values are held by the class value only, as they often reference the key
+		// class; holding them here would prevent unloading of the class loader
+		private final Set<Class<?>> keys = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+		private static <V> ClassValue<Slot<V>> newSlots() {
+			return new ClassValue<Slot<V>>() {
+				@Override
+				protected Slot<V> computeValue(final Class<?> type) {
+					return new Slot<>();
+				}
+			};
+		}
+
+		@Override
+		public V get(final Object key) {
+			if (!(key instanceof Class)) {
+				return null;
+			}
+			return slots.get((Class<?>) key).value;
+		}
+
+		@Override
+		public V put(final Class<?> key, final V value) {
+			if (value == null) {
+				return remove(key);
+			}
+			final Slot<V> slot = slots.get(key);
+			synchronized (slot) {
+				final V old = slot.value;
+				slot.value = value;
+				keys.add(key);
+				return old;
+			}
+		}
+
+		@Override
+		public V computeIfAbsent(final Class<?> key, final Function<? super Class<?>, ? extends V> mappingFunction) {
+			final Slot<V> slot = slots.get(key);
+			V value = slot.value;
+			if (value != null) {
+				return value;
+			}
+			synchronized (slot) {
+				value = slot.value;
+				if (value == null) {
+					value = mappingFunction.apply(key);
+					if (value != null) {
+						slot.value = value;
+						keys.add(key);
+					}
+				}
+			}
+			return value;
+		}
+
+		@Override
+		public V remove(final Object key) {
+			if (!(key instanceof Class)) {
+				return null;
+			}
+			final Slot<V> slot = slots.get((Class<?>) key);
+			synchronized (slot) {
+				final V old = slot.value;
+				slot.value = null;
+				keys.remove(key);
+				return old;
+			}
+		}
+
+		/**
+		 * Drops all slots at once, by replacing the class value.
+		 */
+		@Override
+		public void clear() {
+			synchronized (keys) {
+				slots = newSlots();
+				keys.clear();
+			}
+		}
+
+		@Override
+		public int size() {
+			return keys.size();
+		}
+
+		/**
+		 * Returns a snapshot of all entries.
+		 */
+		@Override
+		public Set<Entry<Class<?>, V>> entrySet() {
+			final Map<Class<?>, V> copy = new IdentityHashMap<>();
+			synchronized (keys) {
+				final ClassValue<Slot<V>> slots = this.slots;
+				for (final Class<?> key : keys) {
+					final V value = slots.get(key).value;
+					if (value != null) {
+						copy.put(key, value);
+					}
+				}
+			}
+			return copy.entrySet();
+		}
+	}
+
+	// ---------------------------------------------------------------- bounded
+
+	/**
+	 * Synchronized map with the limited size and/or access expiration.
+	 * Entries are kept in access order, so the least recently used
+	 * entries (and the first to expire) are always at the beginning.
+	 */
+	private static class BoundedMap<V> extends AbstractMap<Class<?>, V> {
+		private static final int LFU_SAMPLE_SIZE = 8;
+
+		private final LinkedHashMap<Class<?>, Node<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+		private final int maxSize;
+		private final Eviction eviction;
+		private final long expireAfterAccess;
+		private final Runnable evictionListener;
+
+		private BoundedMap(final int maxSize, final Eviction eviction, final long expireAfterAccess, final Runnable evictionListener) {
+			this.maxSize = maxSize;
+			this.eviction = eviction;
+			this.expireAfterAccess = expireAfterAccess;
+			this.evictionListener = evictionListener;
+		}
+
+		private static class Node<V> {
+			private final V value;
+			private long accessTime;
+			private int hits;
+
+			private Node(final V value) {
+				this.value = value;
+			}
+		}
+
+		@Override
+		public synchronized V get(final Object key) {
+			final Node<V> node = map.get(key);
+			if (node == null) {
+				return null;
+			}
+			if (expireAfterAccess != 0) {
+				final long now = System.nanoTime();
+				if (now - node.accessTime > expireAfterAccess) {
+					map.remove(key);
+					evicted();
+					return null;
+				}
+				node.accessTime = now;
+			}
+			if (node.hits != Integer.MAX_VALUE) {
+				node.hits++;
+			}
+			return node.value;
+		}
+
+		@Override
+		public synchronized V put(final Class<?> key, final V value) {
+			final Node<V> node = new Node<>(value);
+			if (expireAfterAccess != 0) {
+				node.accessTime = System.nanoTime();
+			}
+			final Node<V> old = map.put(key, node);
+			if (old == null) {
+				expunge();
+			}
+			return old == null ? null : old.value;
+		}
+
+		@Override
+		public synchronized V putIfAbsent(final Class<?> key, final V value) {
+			final V existing = get(key);
+			if (existing != null) {
+				return existing;
+			}
+			put(key, value);
+			return null;
+		}
+
+		@Override
+		public synchronized V computeIfAbsent(final Class<?> key, final Function<? super Class<?>, ? extends V> mappingFunction) {
+			final V existing = get(key);
+			if (existing != null) {
+				return existing;
+			}
+			final V value = mappingFunction.apply(key);
+			if (value != null) {
+				put(key, value);
+			}
+			return value;
+		}
+
+		@Override
+		public synchronized V remove(final Object key) {
+			final Node<V> node = map.remove(key);
+			return node == null ? null : node.value;
+		}
+
+		@Override
+		public synchronized void clear() {
+			map.clear();
+		}
+
+		@Override
+		public synchronized int size() {
+			return map.size();
+		}
+
+		/**
+		 * Returns a snapshot of all entries.
+		 */
+		@Override
+		public synchronized Set<Entry<Class<?>, V>> entrySet() {
+			final Map<Class<?>, V> copy = new LinkedHashMap<>(map.size());
+			map.forEach((key, node) -> copy.put(key, node.value));
+			return copy.entrySet();
+		}
+
+		/**
+		 * Removes expired entries and then evicts entries until size fits.
+		 */
+		private void expunge() {
+			if (expireAfterAccess != 0) {
+				final long now = System.nanoTime();
+				final Iterator<Node<V>> iterator = map.values().iterator();
+				while (iterator.hasNext()) {
+					if (now - iterator.next().accessTime <= expireAfterAccess) {
+						break;
+					}
+					iterator.remove();
+					evicted();
+				}
+			}
+			while (map.size() > maxSize) {
+				if (eviction == Eviction.LFU) {
+					evictLeastFrequent();
+				} else {
+					final Iterator<Node<V>> iterator = map.values().iterator();
+					iterator.next();
+					iterator.remove();
+				}
+				evicted();
+			}
+		}
+
+		/**
+		 * Evicts the entry with the lowest hit count among the least recently used entries.
+		 * The most recently added entry is never evicted.
+		 */
+		private void evictLeastFrequent() {
+			Class<?> victim = null;
+			int minHits = Integer.MAX_VALUE;
+
+			final Iterator<Entry<Class<?>, Node<V>>> iterator = map.entrySet().iterator();
+			for (int i = 0; i < LFU_SAMPLE_SIZE && i < map.size() - 1; i++) {
+				final Entry<Class<?>, Node<V>> entry = iterator.next();
+				if (entry.getValue().hits < minHits) {
+					minHits = entry.getValue().hits;
+					victim = entry.getKey();
+				}
+			}
+			if (victim == null) {
+				victim = map.keySet().iterator().next();
+			}
+			map.remove(victim);
+		}
+
+		private void evicted() {
+			if (evictionListener != null) {
+				evictionListener.run();
+			}
+		}
+	}
+
 }
@@ -0,0 +1,276 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.bean;
+
+import jodd.bean.fixtures.NumberBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BeanCloneTest {
+
+	public enum Kind {
+		A, B
+	}
+
+	public static class Base {
+		private int id;
+		protected final String code;
+
+		public Base() {
+			this.code = "base";
+		}
+		public int getId() {
+			return id;
+		}
+	}
+
+	public static class Node extends Base {
+		private String name;
+		private Node parent;
+		private final List<Node> children = new ArrayList<>();
+		private Node[] links;
+		private int[] numbers;
+		private Map<String, Object> attributes;
+		private Date date;
+		private LocalDate localDate;
+		private BigDecimal amount;
+		private Kind kind;
+		private Object context;
+
+		public Node() {
+		}
+
+		public Node(final int id, final String name) {
+			((Base) this).id = id;
+			this.name = name;
+		}
+	}
+
+	public static class Context {
+		private final String value;
+
+		public Context(final String value) {
+			this.value = value;
+		}
+	}
+
+	public static class Counter {
+		private final AtomicLong count = new AtomicLong();
+		private final StringBuilder log = new StringBuilder();
+		private final BitSet flags = new BitSet();
+		private final UUID id = UUID.randomUUID();
+		private Object lock;
+	}
+
+	private static Node graph() {
+		final Node root = new Node(1, "root");
+		final Node child = new Node(2, "child");
+		child.parent = root;
+		root.children.add(child);
+		root.children.add(child);
+		root.links = new Node[] {root, child, null};
+		root.numbers = new int[] {1, 2, 3};
+		root.attributes = new HashMap<>();
+		root.attributes.put("self", root);
+		root.attributes.put("list", Collections.unmodifiableList(Arrays.asList("a", "b")));
+		root.date = new Date(1000);
+		root.localDate = LocalDate.of(2020, 1, 1);
+		root.amount = BigDecimal.TEN;
+		root.kind = Kind.B;
+		return root;
+	}
+
+	@Test
+	void testDeepClone() {
+		final Node root = graph();
+		final Node clone = BeanClone.create().clone(root);
+
+		assertNotSame(root, clone);
+		assertEquals(1, clone.getId());
+		assertEquals("root", clone.name);
+		assertEquals("base", clone.code);
+
+		// graph structure is preserved
+		final Node child = clone.children.get(0);
+		assertNotSame(root.children.get(0), child);
+		assertSame(child, clone.children.get(1));
+		assertSame(clone, child.parent);
+		assertSame(clone, clone.links[0]);
+		assertSame(child, clone.links[1]);
+		assertNull(clone.links[2]);
+		assertSame(clone, clone.attributes.get("self"));
+
+		// arrays and collections
+		assertNotSame(root.numbers, clone.numbers);
+		assertArrayEquals(root.numbers, clone.numbers);
+		assertNotSame(root.attributes, clone.attributes);
+		assertEquals(HashMap.class, clone.attributes.getClass());
+		assertEquals(Arrays.asList("a", "b"), clone.attributes.get("list"));
+		assertNotSame(root.attributes.get("list"), clone.attributes.get("list"));
+
+		// immutable and cloneable values
+		assertNotSame(root.date, clone.date);
+		assertEquals(root.date, clone.date);
+		assertSame(root.localDate, clone.localDate);
+		assertSame(root.amount, clone.amount);
+		assertSame(Kind.B, clone.kind);
+	}
+
+	@Test
+	void testCollections() {
+		final TreeSet<String> set = new TreeSet<>(Comparator.reverseOrder());
+		set.addAll(Arrays.asList("a", "c", "b"));
+		final TreeSet<String> setClone = BeanClone.create().clone(set);
+		assertNotSame(set, setClone);
+		assertEquals(Arrays.asList("c", "b", "a"), new ArrayList<>(setClone));
+
+		final EnumMap<Kind, Node> enumMap = new EnumMap<>(Kind.class);
+		enumMap.put(Kind.A, new Node(3, "a"));
+		final EnumMap<Kind, Node> enumMapClone = BeanClone.create().clone(enumMap);
+		assertEquals("a", enumMapClone.get(Kind.A).name);
+		assertNotSame(enumMap.get(Kind.A), enumMapClone.get(Kind.A));
+
+		final LinkedList<Object> list = new LinkedList<>(Arrays.asList(1, "two", null));
+		final LinkedList<Object> listClone = BeanClone.create().clone(list);
+		assertNotSame(list, listClone);
+		assertEquals(list, listClone);
+
+		assertEquals("x", BeanClone.create().clone("x"));
+		assertNull(BeanClone.create().clone(null));
+	}
+
+	@Test
+	void testStrategies() {
+		final Node root = graph();
+		final Context context = new Context("ctx");
+		root.context = context;
+		root.children.get(0).context = context;
+
+		assertThrows(BeanException.class, () -> BeanClone.create().clone(root));
+
+		Node clone = BeanClone.create().shallow(Context.class).clone(root);
+		assertSame(context, clone.context);
+
+		clone = BeanClone.create().skip(Context.class).skip(Date.class).clone(root);
+		assertNull(clone.context);
+		assertNull(clone.date);
+
+		clone = BeanClone.create().custom(Context.class, c -> new Context(c.value + "!")).clone(root);
+		assertEquals("ctx!", ((Context) clone.context).value);
+		assertSame(clone.context, clone.children.get(0).context);
+
+		clone = BeanClone.create().shallow(Base.class).clone(root);
+		assertSame(root, clone);
+
+		final Node child = BeanClone.create()
+			.shallow(Context.class)
+			.custom(List.class, list -> null)
+			.clone(root.children.get(0));
+		assertNull(child.children);
+		assertNull(child.parent.children);
+	}
+
+	@Test
+	void testJdkTypes() {
+		final Counter counter = new Counter();
+		counter.count.set(3);
+		counter.log.append("a");
+		counter.flags.set(1);
+
+		final Counter clone = BeanClone.create().clone(counter);
+		assertNotSame(counter.count, clone.count);
+		assertEquals(3, clone.count.get());
+		assertNotSame(counter.log, clone.log);
+		assertEquals("a", clone.log.toString());
+		assertNotSame(counter.flags, clone.flags);
+		assertEquals(counter.flags, clone.flags);
+		assertSame(counter.id, clone.id);
+
+		clone.count.incrementAndGet();
+		assertEquals(3, counter.count.get());
+
+		// other JDK types are not shared
+		counter.lock = new ReentrantLock();
+		final BeanException ex = assertThrows(BeanException.class, () -> BeanClone.create().clone(counter));
+		assertEquals("Cloning not supported: " + ReentrantLock.class.getName(), ex.getMessage());
+
+		assertSame(counter.lock, BeanClone.create().shallow(ReentrantLock.class).clone(counter).lock);
+	}
+
+	@Test
+	void testClassLoaderIsCollected() throws Exception {
+		final WeakReference<ClassLoader> classLoaderRef = cloneInThrowawayClassLoader();
+
+		for (int i = 0; i < 50 && classLoaderRef.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertNull(classLoaderRef.get());
+	}
+
+	private WeakReference<ClassLoader> cloneInThrowawayClassLoader() throws Exception {
+		final URL location = NumberBean.class.getProtectionDomain().getCodeSource().getLocation();
+		final URLClassLoader classLoader = new URLClassLoader(new URL[] {location}, null);
+
+		final Class<?> type = classLoader.loadClass(NumberBean.class.getName());
+		assertNotSame(NumberBean.class, type);
+
+		final Object bean = type.getConstructor().newInstance();
+		BeanUtil.pojo.setProperty(bean, "number", "173");
+		assertEquals("173", BeanUtil.pojo.getProperty(BeanClone.create().clone(bean), "number"));
+
+		classLoader.close();
+		return new WeakReference<>(classLoader);
+	}
+}
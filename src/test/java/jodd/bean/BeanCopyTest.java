@@ -25,17 +25,32 @@
 
 package jodd.bean;
 
+import jodd.bean.exception.InvokePropertyBeanException;
 import jodd.bean.fixtures.FooBean;
+import jodd.bean.fixtures.NumberBean;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BeanCopyTest {
@@ -521,4 +536,223 @@ class BeanCopyTest {
 		assertEquals(43, beanDest.child.number);
 	}
 
+	public static class PlanSource {
+		private int number = 173;
+		private String text = "42";
+		private Long missing = 1L;
+
+		public int getNumber() {
+			return number;
+		}
+		public String getText() {
+			return text;
+		}
+		public Long getMissing() {
+			return missing;
+		}
+	}
+
+	public static class PlanDestination {
+		private String number;
+		private int text;
+
+		public String getNumber() {
+			return number;
+		}
+		public void setNumber(final String number) {
+			this.number = number;
+		}
+		public int getText() {
+			return text;
+		}
+		public void setText(final int text) {
+			this.text = text;
+		}
+	}
+
+	public static class BrokenSource {
+		public String getValue() {
+			throw new IllegalStateException();
+		}
+	}
+
+	public static class SlowSource {
+		private final int number;
+
+		public SlowSource(final int number) {
+			this.number = number;
+		}
+		public int getNumber() {
+			if (number < 0) {
+				throw new IllegalStateException();
+			}
+			try {
+				Thread.sleep(1);
+			}
+			catch (final InterruptedException iex) {
+				Thread.currentThread().interrupt();
+			}
+			return number;
+		}
+	}
+
+	@Test
+	void testBulkCopyFailure() throws Exception {
+		final List<SlowSource> sources = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			sources.add(new SlowSource(i));
+		}
+		// fails in the chunk copied by the calling thread
+		sources.add(new SlowSource(-1));
+
+		final List<PlanDestination> destinations = Collections.synchronizedList(new ArrayList<>());
+		final ExecutorService executorService = Executors.newFixedThreadPool(3);
+		try {
+			assertThrows(InvokePropertyBeanException.class, () -> BeanCopy
+				.fromAll(sources, () -> {
+					final PlanDestination destination = new PlanDestination();
+					destinations.add(destination);
+					return destination;
+				})
+				.chunkSize(10)
+				.executor(executorService)
+				.copy());
+
+			final String copied = destinations.stream().map(PlanDestination::getNumber).collect(Collectors.toList()).toString();
+			Thread.sleep(100);
+			assertEquals(copied, destinations.stream().map(PlanDestination::getNumber).collect(Collectors.toList()).toString());
+		}
+		finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	void testPlansDoNotKeepClassLoaders() throws Exception {
+		final WeakReference<ClassLoader> classLoaderRef = copyWithThrowawayClassLoader();
+
+		for (int i = 0; i < 50 && classLoaderRef.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertNull(classLoaderRef.get());
+	}
+
+	private WeakReference<ClassLoader> copyWithThrowawayClassLoader() throws Exception {
+		final String className = NumberBean.class.getName();
+		final URL location = NumberBean.class.getProtectionDomain().getCodeSource().getLocation();
+
+		// child-first class loader, like the one of a web application
+		final URLClassLoader classLoader = new URLClassLoader(new URL[] {location}, getClass().getClassLoader()) {
+			@Override
+			protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+				if (!name.equals(className)) {
+					return super.loadClass(name, resolve);
+				}
+				synchronized (getClassLoadingLock(name)) {
+					final Class<?> type = findLoadedClass(name);
+					return type != null ? type : findClass(name);
+				}
+			}
+		};
+
+		final Class<?> type = classLoader.loadClass(className);
+		assertNotSame(NumberBean.class, type);
+
+		final Object dest = type.getConstructor().newInstance();
+		BeanCopy.from(new PlanSource()).to(dest).copy();
+		assertEquals("173", BeanUtil.pojo.getProperty(dest, "number"));
+
+		final PlanDestination planDestination = new PlanDestination();
+		BeanCopy.from(dest).to(planDestination).copy();
+		assertEquals("173", planDestination.getNumber());
+
+		BeanCopy.fromAll(Arrays.asList(dest, dest), PlanDestination::new).copy();
+
+		classLoader.close();
+		return new WeakReference<>(classLoader);
+	}
+
+	@Test
+	void testCopyPlan() {
+		final PlanDestination dest = new PlanDestination();
+		final List<String> names = new ArrayList<>();
+
+		BeanCopy.from(new PlanSource()).to(dest).filter((name, value) -> names.add(name)).copy();
+
+		assertEquals("173", dest.getNumber());
+		assertEquals(42, dest.getText());
+		assertEquals(Arrays.asList("missing", "number", "text"), names);
+
+		final PlanDestination dest2 = new PlanDestination();
+		BeanCopy.from(new PlanSource()).to(dest2).filter(name -> !name.equals("text")).copy();
+
+		assertEquals("173", dest2.getNumber());
+		assertEquals(0, dest2.getText());
+
+		assertSame(
+			BeanCopyPlan.of(PlanSource.class, PlanDestination.class, false, false),
+			BeanCopyPlan.of(PlanSource.class, PlanDestination.class, false, false));
+		assertNull(BeanCopyPlan.of(PlanSource.class, HashMap.class, false, false));
+
+		final InvokePropertyBeanException ex = assertThrows(InvokePropertyBeanException.class,
+			() -> BeanCopy.from(new BrokenSource()).to(new PlanDestination()).copy());
+		final InvokePropertyBeanException expected = assertThrows(InvokePropertyBeanException.class,
+			() -> BeanUtil.pojo.getProperty(new BrokenSource(), "value"));
+		assertEquals(expected.getMessage(), ex.getMessage());
+	}
+
+	@Test
+	void testBulkCopy() {
+		final List<PropertyBean> sources = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			final PropertyBean propertyBean = new PropertyBean();
+			propertyBean.number = i;
+			sources.add(i == 173 ? null : propertyBean);
+		}
+
+		final List<PropertyBean> destinations = BeanCopy
+			.fromAll(sources, PropertyBean::new)
+			.includeFields(true)
+			.chunkSize(100)
+			.copy();
+
+		assertEquals(sources.size(), destinations.size());
+		for (int i = 0; i < sources.size(); i++) {
+			if (i == 173) {
+				assertNull(destinations.get(i));
+				continue;
+			}
+			assertEquals(i, destinations.get(i).number);
+		}
+
+		// maps and custom executor
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(3);
+		try {
+			final List<HashMap<String, Object>> maps = BeanCopy
+				.fromAll(sources.stream().filter(Objects::nonNull).limit(50), HashMap<String, Object>::new)
+				.includeFields(true)
+				.filter(name -> !name.equals("[child]"))
+				.chunkSize(7)
+				.executor(executorService)
+				.copy();
+
+			assertEquals(50, maps.size());
+			assertEquals(49, maps.get(49).get("number"));
+			assertFalse(maps.get(49).containsKey("child"));
+		}
+		finally {
+			executorService.shutdown();
+		}
+
+		// exceptions
+
+		assertThrows(IllegalArgumentException.class, () -> BeanCopy.fromAll(sources, PropertyBean::new).chunkSize(0));
+		assertThrows(InvokePropertyBeanException.class, () -> BeanCopy
+			.fromAll(Arrays.asList(new BrokenSource(), new BrokenSource()), PlanDestination::new)
+			.chunkSize(1)
+			.copy());
+	}
+
 }
@@ -0,0 +1,210 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.bean;
+
+import jodd.bean.fixtures.NumberBean;
+import jodd.introspector.ClassIntrospector;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeanDiffTest {
+
+	public static class Address {
+		private String city;
+		private int zip;
+
+		public Address(final String city, final int zip) {
+			this.city = city;
+			this.zip = zip;
+		}
+
+		public String getCity() {
+			return city;
+		}
+		public int getZip() {
+			return zip;
+		}
+	}
+
+	public static class Customer {
+		private String name = "name";
+		private int age = 30;
+		private Address address = new Address("city", 1000);
+		private List<Address> addresses = new ArrayList<>(Arrays.asList(new Address("a", 1), new Address("b", 2)));
+		private Map<String, Object> tags = new HashMap<>();
+		private int[] scores = {1, 2, 3};
+		private String secret = "secret";
+		public String field = "field";
+
+		public String getName() {
+			return name;
+		}
+		public int getAge() {
+			return age;
+		}
+		public Address getAddress() {
+			return address;
+		}
+		public List<Address> getAddresses() {
+			return addresses;
+		}
+		public Map<String, Object> getTags() {
+			return tags;
+		}
+		public int[] getScores() {
+			return scores;
+		}
+		protected String getSecret() {
+			return secret;
+		}
+	}
+
+	private static String toString(final List<BeanDiff.Change> changes) {
+		return changes.stream().map(BeanDiff.Change::toString).sorted().collect(Collectors.joining("|"));
+	}
+
+	@Test
+	void testFlatDiff() {
+		final Customer oldCustomer = new Customer();
+		final Customer newCustomer = new Customer();
+
+		assertTrue(BeanDiff.create().diff(oldCustomer, newCustomer).stream()
+			.allMatch(change -> change.getPath().equals("address") || change.getPath().equals("addresses")));
+
+		newCustomer.address = oldCustomer.address;
+		newCustomer.addresses = oldCustomer.addresses;
+		assertEquals("", toString(BeanDiff.create().diff(oldCustomer, newCustomer)));
+
+		newCustomer.name = "other";
+		newCustomer.age = 31;
+		newCustomer.scores = new int[] {1, 2, 3};
+		newCustomer.secret = "other";
+		newCustomer.field = "other";
+
+		final List<BeanDiff.Change> changes = BeanDiff.create().diff(oldCustomer, newCustomer);
+		assertEquals("age: 30 -> 31|name: name -> other", toString(changes));
+
+		final BeanDiff.Change change = changes.stream().filter(c -> c.getPath().equals("name")).findFirst().get();
+		assertEquals("name", change.getOldValue());
+		assertEquals("other", change.getNewValue());
+		assertEquals(ClassIntrospector.get().lookup(Customer.class).getPropertySlot("name"), change.getSlot());
+
+		assertEquals(
+			"age: 30 -> 31|field: field -> other|name: name -> other|secret: secret -> other",
+			toString(BeanDiff.create().declared(true).includeFields(true).diff(oldCustomer, newCustomer)));
+	}
+
+	@Test
+	void testNestedDiff() {
+		final Customer oldCustomer = new Customer();
+		final Customer newCustomer = new Customer();
+		newCustomer.address.zip = 2000;
+		newCustomer.addresses.get(1).city = "c";
+		newCustomer.tags.put("x", 1);
+		oldCustomer.tags.put("y", 2);
+		newCustomer.scores = new int[] {1, 2, 4};
+
+		final List<BeanDiff.Change> deepChanges = BeanDiff.create().maxDepth(2).diff(oldCustomer, newCustomer);
+		final BeanDiff.Change scores = deepChanges.remove(2);
+		assertEquals("scores", scores.getPath());
+		assertSame(newCustomer.scores, scores.getNewValue());
+		assertEquals(
+			"address.zip: 1000 -> 2000|addresses[1].city: b -> c|tags[x]: null -> 1|tags[y]: 2 -> null",
+			toString(deepChanges));
+
+		// depth 1 compares nested beans, but not the beans in the lists
+		final List<BeanDiff.Change> changes = BeanDiff.create().maxDepth(1).diff(oldCustomer, newCustomer);
+		assertTrue(changes.stream().anyMatch(c -> c.getPath().equals("address.zip")));
+		assertTrue(changes.stream().anyMatch(c -> c.getPath().equals("addresses[0]")));
+
+		newCustomer.addresses.add(new Address("d", 4));
+		assertTrue(BeanDiff.create().maxDepth(5).diff(oldCustomer, newCustomer).stream()
+			.anyMatch(c -> c.getPath().equals("addresses") && c.getNewValue() == newCustomer.addresses));
+	}
+
+	@Test
+	void testNullsAndMaps() {
+		final Customer customer = new Customer();
+
+		assertEquals(6, BeanDiff.create().diff(null, customer).size());
+		assertEquals(6, BeanDiff.create().diff(customer, null).size());
+		assertEquals(0, BeanDiff.create().diff(null, null).size());
+
+		final Map<String, Object> oldMap = new HashMap<>();
+		oldMap.put("a", 1);
+		final Map<String, Object> newMap = new HashMap<>();
+		newMap.put("a", 2);
+
+		assertEquals(": {a=1} -> {a=2}", toString(BeanDiff.create().diff(oldMap, newMap)));
+		assertEquals("[a]: 1 -> 2", toString(BeanDiff.create().maxDepth(1).diff(oldMap, newMap)));
+
+		assertThrows(IllegalArgumentException.class, () -> BeanDiff.create().diff(customer, new Address("a", 1)));
+		assertThrows(IllegalArgumentException.class, () -> BeanDiff.create().maxDepth(-1));
+	}
+
+	@Test
+	void testClassLoaderIsCollected() throws Exception {
+		final WeakReference<ClassLoader> classLoaderRef = diffInThrowawayClassLoader();
+
+		for (int i = 0; i < 50 && classLoaderRef.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertNull(classLoaderRef.get());
+	}
+
+	private WeakReference<ClassLoader> diffInThrowawayClassLoader() throws Exception {
+		final URL location = NumberBean.class.getProtectionDomain().getCodeSource().getLocation();
+		final URLClassLoader classLoader = new URLClassLoader(new URL[] {location}, null);
+
+		final Class<?> type = classLoader.loadClass(NumberBean.class.getName());
+		assertNotSame(NumberBean.class, type);
+
+		final Object bean = type.getConstructor().newInstance();
+		BeanUtil.pojo.setProperty(bean, "number", "173");
+		assertEquals(1, BeanDiff.create().diff(bean, type.getConstructor().newInstance()).size());
+
+		classLoader.close();
+		return new WeakReference<>(classLoader);
+	}
+}
@@ -0,0 +1,186 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.bean;
+
+import jodd.bean.fixtures.FooBean;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeanMapViewTest {
+
+	public static class User {
+		private String name = "jodd";
+		private int age = 20;
+		private boolean active;
+		private String secret = "s3cr3t";
+		public long id = 7;
+
+		public String getName() {
+			return name;
+		}
+		public void setName(final String name) {
+			this.name = name;
+		}
+		public int getAge() {
+			return age;
+		}
+		public void setAge(final int age) {
+			this.age = age;
+		}
+		public boolean isActive() {
+			return active;
+		}
+		public void setActive(final boolean active) {
+			this.active = active;
+		}
+		public void setSecret(final String secret) {
+			this.secret = secret;
+		}
+	}
+
+	@Test
+	void testBeanMapView() {
+		final User user = new User();
+		final Map<String, Object> map = BeanMapView.of(user);
+
+		assertEquals(3, map.size());
+		assertEquals("jodd", map.get("name"));
+		assertEquals(20, map.get("age"));
+		assertEquals(false, map.get("active"));
+		assertNull(map.get("secret"));
+		assertNull(map.get("id"));
+		assertNull(map.get(173));
+		assertTrue(map.containsKey("age"));
+		assertFalse(map.containsKey("secret"));
+
+		// live
+
+		user.setName("bean");
+		assertEquals("bean", map.get("name"));
+
+		assertEquals(20, map.put("age", "33"));
+		assertEquals(33, user.getAge());
+		assertNull(map.put("secret", "new"));
+		assertEquals("new", user.secret);
+		assertThrows(BeanException.class, () -> map.put("none", 1));
+		assertThrows(UnsupportedOperationException.class, () -> map.remove("age"));
+
+		// entries
+
+		final List<String> keys = new ArrayList<>();
+		for (final Map.Entry<String, Object> entry : map.entrySet()) {
+			keys.add(entry.getKey());
+			if (entry.getKey().equals("active")) {
+				entry.setValue("true");
+			}
+		}
+		assertEquals("[active, age, name]", keys.toString());
+		assertTrue(user.isActive());
+
+		final Map<String, Object> copy = new HashMap<>(map);
+		assertEquals(copy, map);
+		assertEquals(map, copy);
+		assertEquals("{active=true, age=33, name=bean}", map.toString());
+
+		// fields
+
+		final Map<String, Object> mapWithFields = BeanMapView.of(user, false, true);
+		assertEquals(4, mapWithFields.size());
+		assertEquals(7L, mapWithFields.get("id"));
+
+		final Map<String, Object> declaredMap = BeanMapView.of(user, true, true);
+		assertEquals("new", declaredMap.get("secret"));
+		assertNotEquals(map.size(), declaredMap.size());
+	}
+
+	@Test
+	void testBeanMapViewAsVisitor() {
+		final FooBean fooBean = new FooBean();
+		final Map<String, Object> expected = new HashMap<>();
+		new BeanVisitor(fooBean).visit(expected::put);
+
+		assertEquals(expected, new HashMap<>(BeanMapView.of(fooBean)));
+	}
+
+	public interface UserView {
+		String getName();
+		void setName(String name);
+		int getAge();
+		boolean isActive();
+		long getId();
+		UserView setId(long id);
+		void reset();
+	}
+
+	public interface DefaultView {
+		String getName();
+		default String getTitle() {
+			return "Mr. " + getName();
+		}
+	}
+
+	@Test
+	void testMapBeanView() {
+		final Map<String, Object> map = new HashMap<>();
+		map.put("name", "jodd");
+		map.put("age", "20");
+		map.put("active", "true");
+
+		final UserView view = MapBeanView.of(map, UserView.class);
+
+		assertEquals("jodd", view.getName());
+		assertEquals(20, view.getAge());
+		assertTrue(view.isActive());
+		assertEquals(0, view.getId());
+
+		view.setName("view");
+		assertEquals("view", map.get("name"));
+		assertEquals(view, view.setId(173));
+		assertEquals(173L, view.getId());
+
+		map.put("age", 33);
+		assertEquals(33, view.getAge());
+
+		assertEquals(map.toString(), view.toString());
+		assertThrows(UnsupportedOperationException.class, view::reset);
+		assertThrows(IllegalArgumentException.class, () -> MapBeanView.of(map, User.class));
+
+		// default methods are rejected when the view is created
+		final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> MapBeanView.of(map, DefaultView.class));
+		assertTrue(ex.getMessage().contains("getTitle"));
+	}
+}
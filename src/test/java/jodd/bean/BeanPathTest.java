@@ -0,0 +1,333 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.bean;
+
+import jodd.bean.fixtures.Abean;
+import jodd.bean.fixtures.Cbean;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeanPathTest {
+
+	public static class Item {
+		private int price;
+		private String name;
+		private Item child;
+
+		public Item() {
+		}
+		public Item(final String name, final int price) {
+			this.name = name;
+			this.price = price;
+		}
+
+		public int getPrice() {
+			return price;
+		}
+		public void setPrice(final int price) {
+			this.price = price;
+		}
+		public String getName() {
+			return name;
+		}
+		public void setName(final String name) {
+			this.name = name;
+		}
+		public Item getChild() {
+			return child;
+		}
+		public void setChild(final Item child) {
+			this.child = child;
+		}
+		@Override
+		public String toString() {
+			return name + ':' + price + '/' + child;
+		}
+		public String getBroken() {
+			throw new IllegalStateException("broken");
+		}
+		public void setBroken(final String broken) {
+			throw new IllegalStateException("broken");
+		}
+	}
+
+	public static class Order {
+		private List<Item> items = new ArrayList<>(Arrays.asList(new Item("one", 1), new Item("two", 2)));
+		private Item[] array = {new Item("three", 3), null};
+		private Map<String, Item> map = new HashMap<>();
+		private Map<String, Integer> counts = new HashMap<>();
+		private Item item = new Item("four", 4);
+		private Item empty;
+		private String secret = "secret";
+
+		public Order() {
+			map.put("five", new Item("five", 5));
+			counts.put("six", 6);
+		}
+
+		public List<Item> getItems() {
+			return items;
+		}
+		public Item[] getArray() {
+			return array;
+		}
+		public void setArray(final Item[] array) {
+			this.array = array;
+		}
+		public Map<String, Item> getMap() {
+			return map;
+		}
+		public Map<String, Integer> getCounts() {
+			return counts;
+		}
+		public Item getItem() {
+			return item;
+		}
+		public void setItem(final Item item) {
+			this.item = item;
+		}
+		public Item getEmpty() {
+			return empty;
+		}
+		public void setEmpty(final Item empty) {
+			this.empty = empty;
+		}
+	}
+
+	private static final String[] PATHS = {
+		"item", "item.price", "item.name", "item.child", "item.child.price",
+		"items[0].price", "items[1].name", "items[2].price", "items[x].price", "items",
+		"array[0].price", "array[1].price", "array[5]", "map[five].price", "map[none].price",
+		"counts[six]", "empty.price", "empty", "secret", "none", "item.none", "item.broken",
+		"map.five.price", "", "[0]", "item[0]", "item.price[1]",
+	};
+
+	private static final BeanUtil[] BEAN_UTILS = {
+		BeanUtil.pojo, BeanUtil.declared, BeanUtil.silent, BeanUtil.forced,
+		BeanUtil.declaredSilent, BeanUtil.declaredForced, BeanUtil.declaredForcedSilent, BeanUtil.forcedSilent,
+	};
+
+	@Test
+	void testGet() {
+		for (final BeanUtil beanUtil : BEAN_UTILS) {
+			for (final String path : PATHS) {
+				final BeanPath beanPath = beanUtil.compile(path);
+				for (int i = 0; i < 3; i++) {
+					final Object expected = invoke(() -> beanUtil.getProperty(new Order(), path));
+					final Object actual = invoke(() -> beanPath.get(new Order()));
+					assertEquals(expected, actual, path);
+				}
+			}
+		}
+	}
+
+	@Test
+	void testSet() {
+		final Object[] values = {"7", 8, null, new Item("nine", 9)};
+
+		for (final BeanUtil beanUtil : BEAN_UTILS) {
+			for (final String path : PATHS) {
+				final BeanPath beanPath = beanUtil.compile(path);
+				for (final Object value : values) {
+					final Order expectedOrder = new Order();
+					final Order actualOrder = new Order();
+
+					final Object expected = invoke(() -> {
+						beanUtil.setProperty(expectedOrder, path, value);
+						return null;
+					});
+					final Object actual = invoke(() -> {
+						beanPath.set(actualOrder, value);
+						return null;
+					});
+					assertEquals(expected, actual, path);
+
+					for (final String readPath : PATHS) {
+						assertEquals(
+							invoke(() -> BeanUtil.declaredSilent.getProperty(expectedOrder, readPath)),
+							invoke(() -> BeanUtil.declaredSilent.getProperty(actualOrder, readPath)),
+							path + " -> " + readPath);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void testHas() {
+		for (final BeanUtil beanUtil : BEAN_UTILS) {
+			for (final String path : PATHS) {
+				final BeanPath beanPath = beanUtil.compile(path);
+				final Object expected = invoke(() -> beanUtil.hasProperty(new Order(), path));
+				final Object actual = invoke(() -> beanPath.has(new Order()));
+				assertEquals(expected, actual, path);
+			}
+		}
+	}
+
+	@Test
+	void testPolymorphicBeans() {
+		final BeanPath beanPath = BeanUtil.pojo.compile("name");
+
+		final Map<String, Object> map = new HashMap<>();
+		map.put("name", "map");
+
+		for (int i = 0; i < 10; i++) {
+			assertEquals("item", beanPath.get(new Item("item", 1)));
+			assertEquals("map", beanPath.get(map));
+			assertEquals("supplier", beanPath.get((Supplier<Item>) () -> new Item("supplier", 1)));
+		}
+
+		beanPath.set(map, "map2");
+		assertEquals("map2", map.get("name"));
+	}
+
+	@Test
+	void testExistingFixtures() {
+		final Cbean cbean = new Cbean();
+		final BeanPath beanPath = BeanUtil.pojo.compile("bbean.abean.fooProp");
+
+		assertEquals("abean_value", beanPath.get(cbean));
+		assertTrue(beanPath.has(cbean));
+
+		beanPath.set(cbean, "value");
+		assertEquals("value", cbean.getBbean().getAbean().getFooProp());
+
+		final Abean abean = cbean.getBbean().getAbean();
+		final BeanPath mval = BeanUtil.pojo.compile("mval");
+		assertFalse(mval.has(abean));
+		mval.set(abean, Integer.valueOf(173));
+		assertTrue(mval.has(abean));
+		assertEquals(173, (Integer) mval.get(abean));
+	}
+
+	@Test
+	void testForcedSet() {
+		final Order order = new Order();
+		BeanUtil.forced.compile("empty.child.name").set(order, "forced");
+		assertEquals("forced", order.getEmpty().getChild().getName());
+
+		final BeanPath beanPath = BeanUtil.pojo.compile("items[1].name");
+		assertSame(beanPath, beanPath);
+		assertEquals("items[1].name", beanPath.toString());
+	}
+
+	@Test
+	void testDefaultCompile() throws Exception {
+		// custom implementations do not have to implement it
+		assertTrue(BeanUtil.class.getMethod("compile", String.class).isDefault());
+		assertTrue(BeanUtil.class.getMethod("compileAll", String[].class).isDefault());
+	}
+
+	@Test
+	void testPathSet() {
+		for (final BeanUtil beanUtil : BEAN_UTILS) {
+			for (final String path : PATHS) {
+				final BeanPathSet beanPathSet = beanUtil.compileAll(path);
+				final Object expected = invoke(() -> beanUtil.getProperty(new Order(), path));
+				final Object actual = invoke(() -> beanPathSet.get(new Order())[0]);
+				assertEquals(expected, actual, path);
+			}
+
+			final List<String> paths = new ArrayList<>();
+			for (final String path : PATHS) {
+				try {
+					beanUtil.getProperty(new Order(), path);
+					paths.add(path);
+				}
+				catch (final RuntimeException ignore) {
+				}
+			}
+			paths.add("item.price");
+
+			final BeanPathSet beanPathSet = beanUtil.compileAll(paths.toArray(new String[0]));
+			assertEquals(paths.size(), beanPathSet.size());
+
+			for (int i = 0; i < 3; i++) {
+				final Order order = new Order();
+				final Object[] values = beanPathSet.get(order);
+
+				final Map<String, Object> consumed = new HashMap<>();
+				beanPathSet.forEach(order, consumed::put);
+
+				for (int j = 0; j < paths.size(); j++) {
+					final String path = paths.get(j);
+					final Object expected = beanUtil.getProperty(order, path);
+					assertEquals(path, beanPathSet.getName(j));
+					assertEquals(expected, values[j], path);
+					assertEquals(expected, consumed.get(path), path);
+				}
+			}
+		}
+	}
+
+	@Test
+	void testPathSetSharedPrefix() {
+		final List<String> invoked = new ArrayList<>();
+		final Item item = new Item("item", 1) {
+			@Override
+			public Item getChild() {
+				invoked.add("child");
+				return super.getChild();
+			}
+		};
+		item.setChild(new Item("child", 2));
+
+		final BeanPathSet beanPathSet = BeanUtil.pojo.compileAll("child.name", "name", "child.price", "child.child");
+
+		assertEquals("[child, item, 2, null]", Arrays.toString(beanPathSet.get(item)));
+		assertEquals(1, invoked.size());
+		assertEquals("child.name,name,child.price,child.child", beanPathSet.toString());
+	}
+
+	/**
+	 * Returns the result or the exception type and message.
+	 */
+	private Object invoke(final Supplier<Object> supplier) {
+		try {
+			final Object result = supplier.get();
+			if (result instanceof Object[]) {
+				return Arrays.deepToString((Object[]) result);
+			}
+			return String.valueOf(result);
+		}
+		catch (final Exception ex) {
+			return ex.getClass().getName() + ": " + ex.getMessage() + " (" + Objects.toString(ex.getCause()) + ')';
+		}
+	}
+}
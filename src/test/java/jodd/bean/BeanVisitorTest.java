@@ -28,13 +28,21 @@ package jodd.bean;
 import jodd.bean.fixtures.FooBean;
 import org.junit.jupiter.api.Test;
 
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BeanVisitorTest {
 
@@ -65,4 +73,91 @@ class BeanVisitorTest {
 		Collections.sort(names);
 		assertEquals("[com.plex, simple]", names.toString());
 	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.METHOD, ElementType.FIELD})
+	public @interface Audited {
+	}
+
+	public static class Counted {
+		private final List<String> read = new ArrayList<>();
+		@Audited
+		private String one = "one";
+		private String two = "";
+		private String three;
+
+		public String getOne() {
+			read.add("one");
+			return one;
+		}
+		public String getTwo() {
+			read.add("two");
+			return two;
+		}
+		@Audited
+		public String getThree() {
+			read.add("three");
+			return three;
+		}
+	}
+
+	@Test
+	void testStream() {
+		final FooBean fooBean = new FooBean();
+		final List<String> names = new ArrayList<>();
+		new BeanVisitor(fooBean).visit((s, o) -> names.add(s + '=' + o));
+
+		final List<String> streamed = new BeanVisitor(fooBean).stream()
+			.map(e -> e.getKey() + '=' + e.getValue())
+			.collect(Collectors.toList());
+		assertEquals(names, streamed);
+
+		final List<String> parallel = new BeanVisitor(fooBean).stream().parallel()
+			.map(e -> e.getKey() + '=' + e.getValue())
+			.collect(Collectors.toList());
+		assertEquals(names, parallel);
+	}
+
+	@Test
+	void testStreamIsLazy() {
+		final Counted counted = new Counted();
+
+		final Optional<Map.Entry<String, Object>> first = new BeanVisitor(counted).stream().findFirst();
+		assertEquals("one", first.get().getKey());
+		assertEquals("[one]", counted.read.toString());
+
+		counted.read.clear();
+		final List<String> names = new BeanVisitor(counted)
+			.filter(name -> name.startsWith("t"))
+			.ignoreNulls(true)
+			.ignoreEmptyString(true)
+			.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+		assertTrue(names.isEmpty());
+		assertEquals("[three, two]", counted.read.toString());
+
+		counted.read.clear();
+		final List<String> annotated = new ArrayList<>();
+		new BeanVisitor(counted).annotatedWith(Audited.class).visit((name, value) -> annotated.add(name));
+		assertEquals("[one, three]", annotated.toString());
+		assertEquals(annotated, new BeanVisitor(counted).annotatedWith(Audited.class)
+			.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+		assertEquals("[one, three, one, three]", counted.read.toString());
+	}
+
+	@Test
+	void testStreamMap() {
+		final Map<String, Object> map = new TreeMap<>();
+		for (int i = 0; i < 100; i++) {
+			map.put("key" + i, i % 2 == 0 ? null : i);
+		}
+
+		final List<String> names = new ArrayList<>();
+		new BeanVisitor(map).ignoreNulls(true).filter(name -> !name.endsWith("1")).visit((s, o) -> names.add(s + '=' + o));
+
+		assertEquals(names, new BeanVisitor(map).ignoreNulls(true).filter(name -> !name.endsWith("1"))
+			.stream().parallel()
+			.map(e -> e.getKey() + '=' + e.getValue())
+			.collect(Collectors.toList()));
+		assertEquals(40, names.size());
+	}
 }
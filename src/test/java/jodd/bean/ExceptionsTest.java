@@ -7,12 +7,15 @@ import jodd.bean.exception.PropertyNotFoundBeanException;
 import jodd.bean.exception.NullPropertyBeanException;
 import org.junit.jupiter.api.Test;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -145,4 +148,49 @@ class ExceptionsTest {
 				() -> BeanUtil.declared.setProperty(new X(), "nested.a", 5));
 	}
 
+	static class Silent {
+		String[] array = {"a"};
+		List<String> list = new AbstractList<String>() {
+			@Override
+			public String get(final int index) {
+				if (index != 0) {
+					throw new AssertionError();
+				}
+				return "b";
+			}
+			@Override
+			public String set(final int index, final String element) {
+				if (index != 0) {
+					throw new AssertionError();
+				}
+				return "b";
+			}
+			@Override
+			public int size() {
+				return 1;
+			}
+		};
+	}
+
+	@Test
+	void testSilentWithoutExceptions() {
+		final BeanUtilBean beanUtil = new BeanUtilBean() {
+			@Override
+			protected int parseInt(final String indexString, final BeanProperty bp) {
+				throw new AssertionError();
+			}
+		}.declared(true).silent(true);
+
+		final Silent silent = new Silent();
+		for (final String name : new String[] {"array[1]", "array[-1]", "array[x]", "list[1]", "list[x]", "list[+5]", "", "a..b"}) {
+			assertNull(beanUtil.getProperty(silent, name), name);
+			assertNull(beanUtil.compile(name).get(silent), name);
+			beanUtil.setProperty(silent, name, "c");
+			beanUtil.compile(name).set(silent, "c");
+		}
+		assertEquals("a", beanUtil.getProperty(silent, "array[+0]"));
+		assertEquals("b", beanUtil.getProperty(silent, "list[0]"));
+		assertEquals("a", beanUtil.compile("array[0]").get(silent));
+	}
+
 }
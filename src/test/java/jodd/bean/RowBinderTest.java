@@ -0,0 +1,198 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.bean;
+
+import jodd.bean.exception.InvokePropertyBeanException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RowBinderTest {
+
+	public enum Color {
+		RED, GREEN
+	}
+
+	public static class Row {
+		private int id;
+		private Long total;
+		private String name;
+		private Color color;
+		private List<Integer> numbers;
+		private Object any;
+		private String secret;
+
+		public int getId() {
+			return id;
+		}
+		public void setId(final int id) {
+			this.id = id;
+		}
+		public Long getTotal() {
+			return total;
+		}
+		public void setTotal(final Long total) {
+			this.total = total;
+		}
+		public String getName() {
+			return name;
+		}
+		public void setName(final String name) {
+			this.name = name;
+		}
+		public Color getColor() {
+			return color;
+		}
+		public void setColor(final Color color) {
+			this.color = color;
+		}
+		public List<Integer> getNumbers() {
+			return numbers;
+		}
+		public void setNumbers(final List<Integer> numbers) {
+			this.numbers = numbers;
+		}
+		public Object getAny() {
+			return any;
+		}
+		public void setAny(final Object any) {
+			this.any = any;
+		}
+		public String getReadOnly() {
+			return "read-only";
+		}
+	}
+
+	private static final String[] COLUMNS = {"id", "total", "name", "color", "numbers", "any", "secret", "readOnly", "none"};
+
+	@Test
+	void testUnmatchedColumns() {
+		final RowBinder<Row> binder = BeanUtil.pojo.compileRowBinder(Row.class, COLUMNS);
+
+		assertSame(Row.class, binder.getType());
+		assertArrayEquals(COLUMNS, binder.getColumns());
+		assertArrayEquals(new String[] {"secret", "readOnly", "none"}, binder.getUnmatchedColumns());
+		assertTrue(binder.isMatched(0));
+		assertFalse(binder.isMatched(6));
+
+		final RowBinder<Row> declaredBinder = BeanUtil.declared.compileRowBinder(Row.class, COLUMNS);
+		assertArrayEquals(new String[] {"readOnly", "none"}, declaredBinder.getUnmatchedColumns());
+	}
+
+	@Test
+	void testBindArray() {
+		final RowBinder<Row> binder = BeanUtil.declared.compileRowBinder(Row.class, COLUMNS);
+		final Object[] values = {"12", 34, 56L, "GREEN", new String[] {"1", "2"}, 'c', "s", "ro", "x"};
+
+		final Row row = binder.bind(values);
+		final Row expected = new Row();
+		for (int i = 0; i < COLUMNS.length; i++) {
+			BeanUtil.declaredSilent.setProperty(expected, COLUMNS[i], values[i]);
+		}
+
+		assertEquals(12, row.getId());
+		assertEquals(Long.valueOf(34), row.getTotal());
+		assertEquals("56", row.getName());
+		assertEquals(Color.GREEN, row.getColor());
+		assertEquals(Arrays.asList(1, 2), row.getNumbers());
+		assertEquals('c', row.getAny());
+		assertEquals("s", row.secret);
+
+		assertEquals(expected.getId(), row.getId());
+		assertEquals(expected.getTotal(), row.getTotal());
+		assertEquals(expected.getName(), row.getName());
+		assertEquals(expected.getColor(), row.getColor());
+		assertEquals(expected.getNumbers(), row.getNumbers());
+		assertEquals(expected.getAny(), row.getAny());
+		assertEquals(expected.secret, row.secret);
+
+		// reuse instance, shorter row
+		assertSame(row, binder.bind(new Object[] {7, null}, row));
+		assertEquals(7, row.getId());
+		assertNull(row.getTotal());
+		assertEquals("56", row.getName());
+	}
+
+	@Test
+	void testBindMap() {
+		final RowBinder<Row> binder = BeanUtil.pojo.compileRowBinder(Row.class, COLUMNS);
+
+		final Map<String, Object> values = new HashMap<>();
+		values.put("id", 3);
+		values.put("name", null);
+		values.put("secret", "s");
+		values.put("other", "o");
+
+		final Row row = new Row();
+		row.setName("name");
+		row.setTotal(1L);
+
+		binder.bind(values, row);
+
+		assertEquals(3, row.getId());
+		assertNull(row.getName());
+		assertEquals(Long.valueOf(1), row.getTotal());
+		assertNull(row.secret);
+
+		assertEquals(3, binder.bind(values).getId());
+	}
+
+	@Test
+	void testErrors() {
+		final RowBinder<Row> binder = BeanUtil.pojo.compileRowBinder(Row.class, "id", "color");
+
+		final InvokePropertyBeanException ex = assertThrows(
+			InvokePropertyBeanException.class, () -> binder.bind(new Object[] {"x"}));
+		assertTrue(ex.getMessage().contains("id"));
+
+		assertThrows(InvokePropertyBeanException.class, () -> binder.bind(new Object[] {1, "BLUE"}));
+
+		final Row row = BeanUtil.silent.compileRowBinder(Row.class, "id", "color", "name").bind(new Object[] {"x", "BLUE", "ok"});
+		assertEquals(0, row.getId());
+		assertNull(row.getColor());
+		assertEquals("ok", row.getName());
+
+		assertThrows(BeanException.class, () -> BeanUtil.pojo.compileRowBinder(Color.class, "id").bind(new Object[0]));
+	}
+
+	@Test
+	void testDefaultCompile() throws Exception {
+		// custom implementations do not have to implement it
+		assertTrue(BeanUtil.class.getMethod("compileRowBinder", Class.class, String[].class).isDefault());
+	}
+}
@@ -0,0 +1,170 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.introspector;
+
+import jodd.introspector.fixtures.Abean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccessorsTest {
+
+	public static class Bean {
+		private int count;
+		private long hidden = 7;
+		public int getCount() {
+			return count;
+		}
+		public void setCount(final int count) {
+			this.count = count;
+		}
+		public String getBoom() {
+			throw new IllegalStateException("boom");
+		}
+	}
+
+	static class PackageBean {
+		private String name;
+		public String getName() {
+			return name;
+		}
+		public void setName(final String name) {
+			this.name = name;
+		}
+	}
+
+	private final ClassIntrospector introspector = new CachingIntrospector(true, true, true, null, true);
+
+	@Test
+	void testGeneratedMode() {
+		assertTrue(introspector.lookup(Bean.class).isGeneratedAccessors());
+		assertFalse(new CachingIntrospector().lookup(Bean.class).isGeneratedAccessors());
+	}
+
+	@Test
+	void testPublicMethods() throws Exception {
+		final ClassDescriptor cd = introspector.lookup(Abean.class);
+		final PropertyDescriptor pd = cd.getPropertyDescriptor("fooProp", false);
+
+		final Abean abean = new Abean();
+		final Getter getter = pd.getGetter(false);
+		final Setter setter = pd.getSetter(false);
+
+		assertTrue(getter instanceof Accessors.LambdaGetter);
+		assertTrue(setter instanceof Accessors.LambdaSetter);
+
+		assertEquals("abean_value", getter.invokeGetter(abean));
+		setter.invokeSetter(abean, "new");
+		assertEquals("new", abean.getFooProp());
+		assertEquals(String.class, getter.getGetterRawType());
+		assertEquals(String.class, setter.getSetterRawType());
+
+		assertEquals(Boolean.TRUE, cd.getPropertyDescriptor("something", false).getGetter(false).invokeGetter(abean));
+	}
+
+	@Test
+	void testPrimitives() throws Exception {
+		final ClassDescriptor cd = introspector.lookup(Bean.class);
+		final Bean bean = new Bean();
+
+		final PropertyDescriptor pd = cd.getPropertyDescriptor("count", false);
+		pd.getSetter(false).invokeSetter(bean, Integer.valueOf(173));
+		assertEquals(173, bean.count);
+		assertEquals(Integer.valueOf(173), pd.getGetter(false).invokeGetter(bean));
+		assertEquals(int.class, pd.getGetter(false).getGetterRawType());
+
+		// as reflection does
+		assertThrows(IllegalArgumentException.class, () -> pd.getSetter(false).invokeSetter(bean, null));
+	}
+
+	@Test
+	void testPrivateField() throws Exception {
+		final ClassDescriptor cd = introspector.lookup(Bean.class);
+		final Bean bean = new Bean();
+
+		final PropertyDescriptor pd = cd.getPropertyDescriptor("hidden", true);
+		assertNotNull(pd);
+		assertTrue(pd.isFieldOnly());
+		assertTrue(pd.getGetter(true) instanceof Accessors.MethodHandleGetter);
+		assertTrue(pd.getSetter(true) instanceof Accessors.MethodHandleSetter);
+
+		assertEquals(Long.valueOf(7), pd.getGetter(true).invokeGetter(bean));
+		pd.getSetter(true).invokeSetter(bean, Long.valueOf(8));
+		assertEquals(8, bean.hidden);
+
+		// widening is done by the reflection
+		pd.getSetter(true).invokeSetter(bean, Integer.valueOf(9));
+		assertEquals(9, bean.hidden);
+	}
+
+	@Test
+	void testNonPublicClass() throws Exception {
+		final ClassDescriptor cd = introspector.lookup(PackageBean.class);
+		final PackageBean bean = new PackageBean();
+
+		final PropertyDescriptor pd = cd.getPropertyDescriptor("name", true);
+		assertTrue(pd.getGetter(true) instanceof Accessors.MethodHandleGetter);
+		assertTrue(pd.getSetter(true) instanceof Accessors.MethodHandleSetter);
+
+		pd.getSetter(true).invokeSetter(bean, "jodd");
+		assertEquals("jodd", bean.name);
+		assertEquals("jodd", pd.getGetter(true).invokeGetter(bean));
+	}
+
+	@Test
+	void testExceptionIsWrapped() {
+		final ClassDescriptor cd = introspector.lookup(Bean.class);
+		final Getter getter = cd.getPropertyDescriptor("boom", false).getGetter(false);
+
+		final InvocationTargetException itex = assertThrows(InvocationTargetException.class, () -> getter.invokeGetter(new Bean()));
+		assertEquals(IllegalStateException.class, itex.getCause().getClass());
+	}
+
+	@Test
+	void testInvalidArguments() {
+		final ClassDescriptor cd = introspector.lookup(Bean.class);
+		final Bean bean = new Bean();
+
+		for (final String name : new String[] {"count", "hidden"}) {
+			final PropertyDescriptor pd = cd.getPropertyDescriptor(name, true);
+			final Getter getter = pd.getGetter(true);
+			final Setter setter = pd.getSetter(true);
+
+			// same exceptions as the reflection throws
+			assertThrows(NullPointerException.class, () -> getter.invokeGetter(null));
+			assertThrows(IllegalArgumentException.class, () -> getter.invokeGetter("bean"));
+			assertThrows(NullPointerException.class, () -> setter.invokeSetter(null, 1));
+			assertThrows(IllegalArgumentException.class, () -> setter.invokeSetter("bean", 1));
+			assertThrows(IllegalArgumentException.class, () -> setter.invokeSetter(bean, "1"));
+		}
+	}
+}
@@ -0,0 +1,89 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.introspector;
+
+import jodd.introspector.fixtures.Abean;
+import jodd.introspector.fixtures.Bbean;
+import jodd.introspector.fixtures.Mojo;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachingIntrospectorTest {
+
+	@Test
+	void testWarmUp() {
+		final CachingIntrospector introspector = new CachingIntrospector();
+
+		final Map<Class, Long> timings = introspector.warmUp(Abean.class, Bbean.class, Abean.class);
+
+		assertEquals(2, timings.size());
+		assertArrayEquals(new Class[] {Abean.class, Bbean.class}, timings.keySet().toArray());
+		timings.values().forEach(time -> assertTrue(time >= 0));
+
+		final ClassDescriptor cd = introspector.cache.get(Abean.class);
+		assertNotNull(cd);
+		assertSame(cd, introspector.lookup(Abean.class));
+		assertNotNull(cd.getProperties().getPropertyDescriptor("fooProp").getters);
+	}
+
+	@Test
+	void testWarmUpWithExecutor() {
+		final CachingIntrospector introspector = new CachingIntrospector();
+		final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+		try {
+			final Map<Class, Long> timings = introspector.warmUp(Arrays.asList(Abean.class, Bbean.class, Mojo.class), executorService);
+			assertEquals(3, timings.size());
+		}
+		finally {
+			executorService.shutdown();
+		}
+
+		assertEquals(3, introspector.cache.size());
+	}
+
+	@Test
+	void testWarmUpPackages() {
+		final CachingIntrospector introspector = new CachingIntrospector();
+
+		final Map<Class, Long> timings = introspector.warmUpPackages("jodd.introspector.fixtures");
+
+		assertTrue(timings.containsKey(Abean.class));
+		assertTrue(timings.containsKey(Mojo.class));
+		timings.keySet().forEach(type -> assertEquals("jodd.introspector.fixtures", type.getPackage().getName()));
+		assertEquals(timings.size(), introspector.cache.size());
+	}
+}
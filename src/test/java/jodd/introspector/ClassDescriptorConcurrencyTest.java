@@ -0,0 +1,122 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.introspector;
+
+import jodd.introspector.fixtures.Abean;
+import org.junit.jupiter.api.RepeatedTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ClassDescriptorConcurrencyTest {
+
+	private static final int THREADS = 48;
+
+	static class CountingClassDescriptor extends ClassDescriptor {
+		final AtomicInteger fieldsCount = new AtomicInteger();
+		final AtomicInteger methodsCount = new AtomicInteger();
+		final AtomicInteger propertiesCount = new AtomicInteger();
+		final AtomicInteger ctorsCount = new AtomicInteger();
+
+		CountingClassDescriptor(final Class type) {
+			super(type, true, true, true, null);
+		}
+
+		@Override
+		protected Fields createFields() {
+			fieldsCount.incrementAndGet();
+			return super.createFields();
+		}
+
+		@Override
+		protected Methods createMethods() {
+			methodsCount.incrementAndGet();
+			return super.createMethods();
+		}
+
+		@Override
+		protected Properties createProperties() {
+			propertiesCount.incrementAndGet();
+			return super.createProperties();
+		}
+
+		@Override
+		protected Ctors createCtors() {
+			ctorsCount.incrementAndGet();
+			return super.createCtors();
+		}
+	}
+
+	@RepeatedTest(5)
+	void testSingleScanUnderContention() throws Exception {
+		final CountingClassDescriptor cd = new CountingClassDescriptor(Abean.class);
+		final CountDownLatch start = new CountDownLatch(1);
+		final ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+
+		final List<Future<Object[]>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < THREADS; i++) {
+				futures.add(executorService.submit(() -> {
+					start.await();
+					final PropertyDescriptor pd = cd.getPropertyDescriptor("fooProp", false);
+					return new Object[] {
+						cd.getAllPropertyDescriptors(),
+						cd.getAllMethodDescriptors(),
+						cd.getAllFieldDescriptors(),
+						cd.getAllCtorDescriptors(),
+						pd.getGetter(false),
+						pd.getSetter(false),
+					};
+				}));
+			}
+			start.countDown();
+
+			final Object[] first = futures.get(0).get();
+			for (final Future<Object[]> future : futures) {
+				final Object[] result = future.get();
+				for (int i = 0; i < first.length; i++) {
+					assertSame(first[i], result[i]);
+				}
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertEquals(1, cd.fieldsCount.get());
+		assertEquals(1, cd.methodsCount.get());
+		assertEquals(1, cd.propertiesCount.get());
+		assertEquals(1, cd.ctorsCount.get());
+	}
+}
@@ -0,0 +1,203 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.introspector;
+
+import jodd.introspector.fixtures.Abean;
+import jodd.introspector.fixtures.Bbean;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntrospectorSnapshotTest {
+
+	public static class Upper implements MapperFunction<Object, Object> {
+		@Override
+		public Object apply(final Object o) {
+			return o.toString().toUpperCase();
+		}
+	}
+
+	public static class Base<T> {
+		protected List<T> items;
+		public List<T> getItems() {
+			return items;
+		}
+		public void setItems(final List<T> items) {
+			this.items = items;
+		}
+	}
+
+	public static class Order extends Base<Long> {
+		@Mapper(Upper.class)
+		private String code;
+		private Map<String, Integer> counts;
+		private boolean open;
+
+		public String getCode() {
+			return code;
+		}
+		@Mapper(Upper.class)
+		public void setCode(final String code) {
+			this.code = code;
+		}
+		public Map<String, Integer> getCounts() {
+			return counts;
+		}
+		public boolean isOpen() {
+			return open;
+		}
+	}
+
+	static class CountingClassDescriptor extends ClassDescriptor {
+		final AtomicInteger scans = new AtomicInteger();
+
+		CountingClassDescriptor(final Class type) {
+			super(type, true, true, true, null);
+		}
+
+		@Override
+		protected Methods createMethods() {
+			scans.incrementAndGet();
+			return super.createMethods();
+		}
+
+		@Override
+		protected Properties createProperties() {
+			scans.incrementAndGet();
+			return super.createProperties();
+		}
+	}
+
+	private byte[] snapshotOf(final CachingIntrospector introspector, final Class... types) throws Exception {
+		introspector.warmUp(types);
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertEquals(types.length, introspector.saveSnapshot(out));
+		return out.toByteArray();
+	}
+
+	@Test
+	void testRestoreWithoutScanning() throws Exception {
+		final CachingIntrospector introspector = new CachingIntrospector();
+		final byte[] bytes = snapshotOf(introspector, Order.class, Abean.class);
+
+		final IntrospectorSnapshot snapshot = IntrospectorSnapshot.read(new ByteArrayInputStream(bytes));
+		assertEquals(2, snapshot.size());
+
+		final CountingClassDescriptor cd = new CountingClassDescriptor(Order.class);
+		assertTrue(snapshot.restore(cd));
+		assertEquals(1, snapshot.size());
+		assertFalse(snapshot.restore(new CountingClassDescriptor(Order.class)));
+
+		final ClassDescriptor scanned = introspector.lookup(Order.class);
+		final PropertyDescriptor[] expected = scanned.getAllPropertyDescriptors();
+		final PropertyDescriptor[] restored = cd.getAllPropertyDescriptors();
+		assertEquals(0, cd.scans.get());
+
+		assertEquals(expected.length, restored.length);
+		for (int i = 0; i < expected.length; i++) {
+			final PropertyDescriptor e = expected[i];
+			final PropertyDescriptor r = restored[i];
+
+			assertEquals(e.getName(), r.getName());
+			assertEquals(e.isPublic(), r.isPublic());
+			assertEquals(e.getType(), r.getType());
+			assertEquals(e.resolveComponentType(true), r.resolveComponentType(true));
+			assertEquals(e.resolveKeyType(true), r.resolveKeyType(true));
+			assertEquals(method(e.getReadMethodDescriptor()), method(r.getReadMethodDescriptor()));
+			assertEquals(method(e.getWriteMethodDescriptor()), method(r.getWriteMethodDescriptor()));
+			if (e.getFieldDescriptor() == null) {
+				assertNull(r.getFieldDescriptor());
+			} else {
+				assertEquals(e.getFieldDescriptor().getField(), r.getFieldDescriptor().getField());
+			}
+		}
+
+		final PropertyDescriptor items = cd.getPropertyDescriptor("items", true);
+		assertEquals(Long.class, items.getGetter(true).getGetterRawComponentType());
+		assertEquals(Long.class, items.getSetter(true).getSetterRawComponentType());
+
+		final PropertyDescriptor code = cd.getPropertyDescriptor("code", true);
+		assertSame(MapperFunctionInstances.get().lookup(Upper.class), code.getSetter(true).getMapperFunction());
+		assertNotNull(code.getFieldDescriptor().mapperFunction);
+
+		final Order order = new Order();
+		code.getSetter(true).invokeSetter(order, "abc");
+		assertEquals("abc", code.getGetter(true).invokeGetter(order));
+	}
+
+	@Test
+	void testLoadSnapshot() throws Exception {
+		final byte[] bytes = snapshotOf(new CachingIntrospector(), Order.class, Bbean.class);
+
+		final CachingIntrospector introspector = new CachingIntrospector();
+		assertTrue(introspector.loadSnapshot(new ByteArrayInputStream(bytes)));
+
+		final ClassDescriptor cd = introspector.lookup(Order.class);
+		assertNotNull(cd.getPropertyDescriptor("counts", true));
+		assertEquals(Integer.class, cd.getPropertyDescriptor("counts", true).resolveComponentType(true));
+		assertEquals(String.class, cd.getPropertyDescriptor("counts", true).resolveKeyType(true));
+		assertEquals(1, introspector.snapshot.size());
+
+		// different configuration
+
+		final CachingIntrospector introspector2 = new CachingIntrospector(true, true, false, null);
+		assertFalse(introspector2.loadSnapshot(new ByteArrayInputStream(bytes)));
+		assertNull(introspector2.snapshot);
+	}
+
+	@Test
+	void testChecksum() throws Exception {
+		final long checksum = IntrospectorSnapshot.checksum(Order.class);
+		assertNotEquals(-1, checksum);
+		assertEquals(checksum, IntrospectorSnapshot.checksum(Order.class));
+		assertNotEquals(checksum, IntrospectorSnapshot.checksum(Base.class));
+
+		final Object proxy = Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {Runnable.class}, (p, m, a) -> null);
+		assertEquals(-1, IntrospectorSnapshot.checksum(proxy.getClass()));
+
+		// classes without class files are not saved
+		final CachingIntrospector introspector = new CachingIntrospector();
+		introspector.lookup(proxy.getClass());
+		assertEquals(0, introspector.saveSnapshot(new ByteArrayOutputStream()));
+	}
+
+	private static Object method(final MethodDescriptor methodDescriptor) {
+		return methodDescriptor == null ? null : methodDescriptor.getMethod();
+	}
+}
@@ -48,6 +48,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IntrospectorTest {
@@ -346,6 +347,30 @@ class IntrospectorTest {
 		assertEquals(99, one.whynot());
 	}
 
+	@Test
+	void testPropertySlots() throws InvocationTargetException, IllegalAccessException {
+		ClassDescriptor cd = ClassIntrospector.get().lookup(One.class);
+
+		PropertyDescriptor[] propertyDescriptors = cd.getAllPropertyDescriptors();
+
+		for (int i = 0; i < propertyDescriptors.length; i++) {
+			assertEquals(i, cd.getPropertySlot(propertyDescriptors[i].getName()));
+			assertSame(propertyDescriptors[i], cd.getPropertyDescriptor(i));
+		}
+		assertEquals(-1, cd.getPropertySlot("xxx"));
+		assertEquals(-1, cd.getPropertySlot(""));
+
+		One one = new One();
+
+		int slot = cd.getPropertySlot("fone");
+		cd.getPropertySetter(slot, true).invokeSetter(one, "slot");
+		assertEquals("slot", cd.getPropertyGetter(slot, true).invokeGetter(one));
+
+		slot = cd.getPropertySlot("not");
+		assertNull(cd.getPropertyGetter(slot, false));
+		assertNotNull(cd.getPropertyGetter(slot, true));
+	}
+
 	@Test
 	void testPropertiesOneSubClass() throws InvocationTargetException, IllegalAccessException {
 		ClassDescriptor cd = ClassIntrospector.get().lookup(OneSub.class);
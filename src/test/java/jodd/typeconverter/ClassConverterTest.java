@@ -30,8 +30,16 @@ import jodd.util.fixtures.testdata.A;
 import jodd.util.fixtures.testdata.B;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class ClassConverterTest {
@@ -52,6 +60,81 @@ class ClassConverterTest {
 		}
 	}
 
+	@Test
+	void testCachedConversion() {
+		ClassConverter classConverter = new ClassConverter();
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(Integer.class, classConverter.convert("java.lang.Integer"));
+			assertEquals(Integer.class, classConverter.convert(" java.lang.Integer.class "));
+			assertEquals(int[].class, classConverter.convert("int[]"));
+			assertThrows(TypeConversionException.class, () -> classConverter.convert("foo.Klass"));
+		}
+
+		// classes and failures are cached per context class loader
+		final Thread thread = Thread.currentThread();
+		final ClassLoader contextClassLoader = thread.getContextClassLoader();
+		final ClassLoader classLoader = new ClassLoader(contextClassLoader) {
+			@Override
+			protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+				if (name.equals("foo.Klass")) {
+					return String.class;
+				}
+				return super.loadClass(name, resolve);
+			}
+		};
+
+		thread.setContextClassLoader(classLoader);
+		try {
+			assertEquals(String.class, classConverter.convert("foo.Klass"));
+			assertEquals(String.class, classConverter.convert("foo.Klass"));
+		}
+		finally {
+			thread.setContextClassLoader(contextClassLoader);
+		}
+
+		final TypeConversionException first = assertThrows(TypeConversionException.class, () -> classConverter.convert("foo.Klass"));
+		final TypeConversionException second = assertThrows(TypeConversionException.class, () -> classConverter.convert("foo.Klass"));
+		assertNotSame(first, second);
+		assertNotSame(first.getCause(), second.getCause());
+		assertTrue(second.getCause() instanceof ClassNotFoundException);
+		assertEquals(first.getCause().getMessage(), second.getCause().getMessage());
+	}
+
+	@Test
+	void testClassLoaderIsCollected() throws Exception {
+		final ClassConverter classConverter = new ClassConverter();
+
+		final WeakReference<ClassLoader> classLoaderRef = convertInThrowawayClassLoader(classConverter);
+
+		for (int i = 0; i < 50 && classLoaderRef.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertNull(classLoaderRef.get());
+		assertEquals(A.class, classConverter.convert(A.class.getName()));
+	}
+
+	private WeakReference<ClassLoader> convertInThrowawayClassLoader(final ClassConverter classConverter) throws Exception {
+		final URL location = A.class.getProtectionDomain().getCodeSource().getLocation();
+		final URLClassLoader classLoader = new URLClassLoader(new URL[] {location}, null);
+
+		final Thread thread = Thread.currentThread();
+		final ClassLoader contextClassLoader = thread.getContextClassLoader();
+		thread.setContextClassLoader(classLoader);
+		try {
+			final Class type = classConverter.convert(A.class.getName());
+			assertSame(classLoader, type.getClassLoader());
+			assertSame(type, classConverter.convert(A.class.getName()));
+		}
+		finally {
+			thread.setContextClassLoader(contextClassLoader);
+		}
+
+		classLoader.close();
+		return new WeakReference<>(classLoader);
+	}
+
 	@Test
 	void testCast() {
 
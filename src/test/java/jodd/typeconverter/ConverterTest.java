@@ -89,6 +89,25 @@ class ConverterTest {
 		assertNotNull(Converter.get().toString("555"));
 	}
 
+	@Test
+	void testRangeConversion() {
+		final String value = "[ +173, -2.5, 42]";
+
+		assertEquals(173, Converter.get().toIntValue(value, 1, 6));
+		assertEquals(173L, Converter.get().toLongValue(value, 1, 6));
+		assertEquals(173, Converter.get().toShortValue(value, 1, 6));
+		assertEquals(-2.5, Converter.get().toDoubleValue(value, 7, 12));
+		assertEquals(-2.5f, Converter.get().toFloatValue(value, 7, 12));
+		assertEquals(42, Converter.get().toByteValue(value, 13, 16));
+
+		try {
+			Converter.get().toIntValue(value, 0, 6);
+			fail("error");
+		} catch (TypeConversionException tcex) {
+			assertTrue(tcex.getMessage().contains("[ +173"));
+		}
+	}
+
 	@Test
 	void testArrayConversion() {
 		assertArrayEquals(new String[]{"555", "12"}, Converter.get().toStringArray("555,12"));
@@ -25,9 +25,14 @@
 
 package jodd.typeconverter;
 
+import jodd.typeconverter.impl.EnumConverter;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class EnumTest {
 
@@ -35,6 +40,21 @@ class EnumTest {
 		ONE, TWO
 	}
 
+	public enum Labeled {
+		FIRST("one"), SECOND("First");
+
+		private final String label;
+
+		Labeled(final String label) {
+			this.label = label;
+		}
+
+		@Override
+		public String toString() {
+			return label;
+		}
+	}
+
 	@Test
 	void testCastEnums() {
 		En en = TypeConverterManager.get().convertType("ONE", En.class);
@@ -43,4 +63,49 @@ class EnumTest {
 		assertEquals(En.TWO, en);
 	}
 
+	@Test
+	void testEnumConverter() {
+		final TypeConverterManager typeConverterManager = TypeConverterManager.get();
+
+		assertTrue(typeConverterManager.lookup(En.class) instanceof EnumConverter);
+		assertSame(typeConverterManager.lookup(En.class), typeConverterManager.lookup(En.class));
+
+		assertNull(typeConverterManager.convertType(null, En.class));
+		assertEquals(En.TWO, typeConverterManager.convertType(En.TWO, En.class));
+		assertEquals(En.TWO, typeConverterManager.convertType(new StringBuilder("TWO"), En.class));
+		assertEquals(En.ONE, typeConverterManager.convertType("one", En.class));
+		assertEquals(En.TWO, typeConverterManager.convertType(1, En.class));
+		assertEquals(En.TWO, typeConverterManager.convertType(1L, En.class));
+		assertEquals(En.ONE, typeConverterManager.convertType(0.0d, En.class));
+
+		assertThrows(TypeConversionException.class, () -> typeConverterManager.convertType("THREE", En.class));
+		assertThrows(TypeConversionException.class, () -> typeConverterManager.convertType(2, En.class));
+		assertThrows(TypeConversionException.class, () -> typeConverterManager.convertType(-1, En.class));
+		assertThrows(TypeConversionException.class, () -> typeConverterManager.convertType(0.5f, En.class));
+		assertThrows(TypeConversionException.class, () -> typeConverterManager.convertType("1", En.class));
+	}
+
+	@Test
+	void testEnumConverterPriority() {
+		final EnumConverter<Labeled> enumConverter = new EnumConverter<>(Labeled.class);
+
+		// toString() first, then name, then ignoring case
+		assertEquals(Labeled.FIRST, enumConverter.convert("one"));
+		assertEquals(Labeled.SECOND, enumConverter.convert("First"));
+		assertEquals(Labeled.FIRST, enumConverter.convert("FIRST"));
+		assertEquals(Labeled.SECOND, enumConverter.convert("second"));
+		assertEquals(Labeled.FIRST, enumConverter.convert("ONE"));
+		assertEquals(Labeled.SECOND, enumConverter.convert("first"));
+	}
+
+	@Test
+	void testRegisteredEnumConverter() {
+		final TypeConverterManager typeConverterManager = new TypeConverterManager();
+		typeConverterManager.register(En.class, value -> En.ONE);
+
+		assertEquals(En.ONE, typeConverterManager.convertType("TWO", En.class));
+
+		typeConverterManager.unregister(En.class);
+		assertEquals(En.TWO, typeConverterManager.convertType("TWO", En.class));
+	}
 }
@@ -49,4 +49,20 @@ class LocaleConverterTest {
 		assertEquals(new Locale("en"), localeConverter.convert(new Locale("en")));
 
 	}
+
+	@Test
+	void testCachedConversion() {
+		LocaleConverter localeConverter = new LocaleConverter();
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(new Locale("en", "US"), localeConverter.convert("en-US"));
+			assertEquals(new Locale("en", "US"), localeConverter.convert(new StringBuilder("en-US")));
+			assertEquals(Locale.forLanguageTag("!"), localeConverter.convert("!"));
+		}
+
+		// cache is bounded
+		for (int i = 0; i < 3000; i++) {
+			assertEquals(Locale.forLanguageTag("x-" + i), localeConverter.convert("x-" + i));
+		}
+	}
 }
@@ -0,0 +1,138 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.typeconverter;
+
+import jodd.typeconverter.impl.ByteConverter;
+import jodd.typeconverter.impl.DoubleConverter;
+import jodd.typeconverter.impl.FloatConverter;
+import jodd.typeconverter.impl.IntegerConverter;
+import jodd.typeconverter.impl.LongConverter;
+import jodd.typeconverter.impl.ShortConverter;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NumberArraysTest {
+
+	private static final Class[] TYPES = {
+		int[].class, long[].class, double[].class, float[].class, short[].class, byte[].class,
+	};
+
+	private static final Object[] VALUES = {
+		"1,2,3", " 1 ; +2\n-3 ", "1,,2", ",1", "1,", ",", ",,", "", " ", "7", "1, x", "1.5,2.5", "300,70000",
+		"2147483648", "1e3", new StringBuilder("4;5"),
+		Arrays.asList(1, 2L, 3.5, "4", new BigDecimal("5.5"), new AtomicInteger(6), (short) 300),
+		new LinkedHashSet<>(Arrays.asList("1", " 2 ", "+3")),
+		Arrays.asList("1", "x"),
+		Arrays.asList(true, 'c'),
+		new Object[] {1, "2", 3.5f, new StringBuilder("4")},
+		new String[] {"1", "2 ", "1e2"},
+		new Integer[] {1, 2, 300},
+		(Iterable<Object>) () -> Arrays.<Object>asList(1, "2", 3L).iterator(),
+		(Iterable<Integer>) () -> manyNumbers().iterator(),
+		new int[] {1, 2}, new double[] {1.5, -2.5}, new char[] {'a'}, new boolean[] {true},
+		173, 1.5, "173",
+	};
+
+	@Test
+	void testDirectConversions() {
+		final TypeConverterManager direct = new TypeConverterManager();
+
+		final TypeConverterManager boxed = new TypeConverterManager();
+		boxed.register(int.class, new IntegerConverter() {});
+		boxed.register(long.class, new LongConverter() {});
+		boxed.register(double.class, new DoubleConverter() {});
+		boxed.register(float.class, new FloatConverter() {});
+		boxed.register(short.class, new ShortConverter() {});
+		boxed.register(byte.class, new ByteConverter() {});
+
+		for (final Class type : TYPES) {
+			for (final Object value : VALUES) {
+				final Object expected = invoke(() -> boxed.convertType(value, type));
+				final Object actual = invoke(() -> direct.convertType(value, type));
+				assertEquals(expected, actual, type.getSimpleName() + " <- " + value);
+			}
+		}
+	}
+
+	@Test
+	void testCustomElementConverter() {
+		final TypeConverterManager typeConverterManager = new TypeConverterManager();
+		typeConverterManager.register(int.class, value -> 7);
+
+		assertArrayEquals(new int[] {7, 7}, typeConverterManager.convertType("1,2", int[].class));
+		assertArrayEquals(new int[] {7, 7}, typeConverterManager.convertType(Arrays.asList(1, 2), int[].class));
+	}
+
+	@Test
+	void testGrowingArrays() {
+		final StringBuilder sb = new StringBuilder();
+		for (final Integer number : manyNumbers()) {
+			sb.append(number).append(',');
+		}
+		sb.append(100);
+
+		final long[] longs = TypeConverterManager.get().convertType(sb, long[].class);
+		assertEquals(101, longs.length);
+		assertEquals(4950 + 100, Arrays.stream(longs).sum());
+	}
+
+	private static List<Integer> manyNumbers() {
+		final List<Integer> numbers = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			numbers.add(i);
+		}
+		return numbers;
+	}
+
+	/**
+	 * Returns array elements as a list, or the exception type.
+	 */
+	private Object invoke(final Supplier<Object> supplier) {
+		try {
+			final Object array = supplier.get();
+			final List<Object> list = new ArrayList<>();
+			for (int i = 0; i < Array.getLength(array); i++) {
+				list.add(Array.get(array, i));
+			}
+			return list;
+		}
+		catch (final RuntimeException ex) {
+			return ex.getClass().getName();
+		}
+	}
+}
@@ -0,0 +1,175 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.typeconverter;
+
+import jodd.time.TimeUtil;
+import jodd.typeconverter.impl.CalendarConverter;
+import jodd.typeconverter.impl.DateConverter;
+import jodd.typeconverter.impl.LocalDateConverter;
+import jodd.typeconverter.impl.LocalDateTimeConverter;
+import jodd.typeconverter.impl.LocalTimeConverter;
+import jodd.typeconverter.impl.SqlDateConverter;
+import jodd.typeconverter.impl.SqlTimeConverter;
+import jodd.typeconverter.impl.SqlTimestampConverter;
+import jodd.util.StringUtil;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TemporalParserTest {
+
+	private static final String[] DATES = {
+		"2018-04-11", "0000-01-01", "9999-12-31", "2020-02-29", "2019-02-29", "2100-02-29", "2000-02-29",
+		"2018-04-31", "2018-13-01", "2018-00-10", "2018-04-00", "2018-4-11", "2018-04-1", "2018/04/11",
+		"+2018-04-11", "-2018-04-11", "+12018-04-11", "20180411", "2018-04-1x", "２０１８-04-11",
+	};
+
+	private static final String[] TIMES = {
+		"09:11", "09:11:23", "09:11:23.1", "09:11:23.123", "09:11:23.123456", "09:11:23.123456789",
+		"09:11:23.1234567891", "09:11:23.", "00:00", "23:59:59.999999999", "24:00", "23:60", "23:59:60",
+		"9:11", "09:1", "09:11:2", "09-11-23", "09:11:23,5", "0911", "09:11:23Z", "09:11:23+01:00",
+	};
+
+	private static final String[] VALUES;
+
+	static {
+		final String[] separators = {"T", "t", " ", "", "x"};
+		VALUES = new String[DATES.length * TIMES.length * separators.length + DATES.length + TIMES.length + 4];
+
+		int index = 0;
+		for (final String date : DATES) {
+			for (final String time : TIMES) {
+				for (final String separator : separators) {
+					VALUES[index++] = date + separator + time;
+				}
+			}
+			VALUES[index++] = date;
+		}
+		for (final String time : TIMES) {
+			VALUES[index++] = time;
+		}
+		VALUES[index++] = "";
+		VALUES[index++] = "x";
+		VALUES[index++] = "-123";
+		VALUES[index] = "1523430683000";
+	}
+
+	@Test
+	void testLocalDateTime() {
+		final LocalDateTimeConverter converter = new LocalDateTimeConverter();
+		for (final String value : VALUES) {
+			assertEquals(
+				invoke(() -> isMillis(value) ? TimeUtil.fromMilliseconds(Long.parseLong(value)) : LocalDateTime.parse(value)),
+				invoke(() -> converter.convert(value)),
+				value);
+		}
+	}
+
+	@Test
+	void testLocalDate() {
+		final LocalDateConverter converter = new LocalDateConverter();
+		for (final String value : VALUES) {
+			assertEquals(
+				invoke(() -> isMillis(value) ? TimeUtil.fromMilliseconds(Long.parseLong(value)).toLocalDate() : LocalDate.parse(value)),
+				invoke(() -> converter.convert(value)),
+				value);
+		}
+	}
+
+	@Test
+	void testLocalTime() {
+		final LocalTimeConverter converter = new LocalTimeConverter();
+		for (final String value : VALUES) {
+			assertEquals(
+				invoke(() -> isMillis(value) ? TimeUtil.fromMilliseconds(Long.parseLong(value)).toLocalTime() : LocalTime.parse(value)),
+				invoke(() -> converter.convert(value)),
+				value);
+		}
+	}
+
+	@Test
+	void testDateAndCalendar() {
+		final DateConverter dateConverter = new DateConverter();
+		final CalendarConverter calendarConverter = new CalendarConverter();
+		for (final String value : VALUES) {
+			final Object expected = invoke(() -> isMillis(value) ? new Date(Long.parseLong(value)) : TimeUtil.toDate(LocalDateTime.parse(value)));
+			assertEquals(expected, invoke(() -> dateConverter.convert(value)), value);
+			assertEquals(expected, invoke(() -> calendarConverter.convert(value).getTime()), value);
+		}
+	}
+
+	@Test
+	void testSqlTypes() {
+		final SqlDateConverter sqlDateConverter = new SqlDateConverter();
+		final SqlTimeConverter sqlTimeConverter = new SqlTimeConverter();
+		final SqlTimestampConverter sqlTimestampConverter = new SqlTimestampConverter();
+		for (final String value : VALUES) {
+			if (isMillis(value)) {
+				continue;
+			}
+			assertEquals(
+				invoke(() -> java.sql.Date.valueOf(value)),
+				invoke(() -> sqlDateConverter.convert(value)),
+				value);
+			assertEquals(
+				invoke(() -> Time.valueOf(value)),
+				invoke(() -> sqlTimeConverter.convert(value)),
+				value);
+			assertEquals(
+				invoke(() -> Timestamp.valueOf(value)),
+				invoke(() -> sqlTimestampConverter.convert(value)),
+				value);
+		}
+	}
+
+	private static boolean isMillis(final String value) {
+		return StringUtil.containsOnlyDigits(value);
+	}
+
+	/**
+	 * Returns the result or the type of the exception, since converters
+	 * wrap some JDK exceptions.
+	 */
+	private Object invoke(final Supplier<Object> supplier) {
+		try {
+			return supplier.get();
+		}
+		catch (final TypeConversionException tcex) {
+			return tcex.getCause() != null ? tcex.getCause().getClass() : tcex.getClass();
+		}
+		catch (final RuntimeException rex) {
+			return rex.getClass();
+		}
+	}
+}
@@ -25,14 +25,30 @@
 
 package jodd.typeconverter;
 
+import jodd.util.fixtures.testdata.A;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.TreeSet;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ToCollectionTest {
@@ -50,4 +66,81 @@ class ToCollectionTest {
 		assertTrue(list.contains(123));
 		assertTrue(list.contains(456));
 	}
+
+	public static class SizedList extends ArrayList<Object> {
+		private final int initialCapacity;
+
+		public SizedList() {
+			this.initialCapacity = -1;
+		}
+		public SizedList(final int initialCapacity) {
+			super(initialCapacity);
+			this.initialCapacity = initialCapacity;
+		}
+	}
+
+	public static class NoDefaultCtorList extends ArrayList<Object> {
+		public NoDefaultCtorList(final String ignore) {
+		}
+	}
+
+	@Test
+	void testConvertToCollectionTypes() {
+		final TypeConverterManager typeConverterManager = TypeConverterManager.get();
+		final String[] values = {"3", "1", "2", "1"};
+
+		assertEquals(Arrays.asList(3, 1, 2), new ArrayList<>(typeConverterManager.<LinkedHashSet<Integer>, Integer>convertToCollection(values, LinkedHashSet.class, Integer.class)));
+		assertEquals(Arrays.asList(1, 2, 3), new ArrayList<>(typeConverterManager.<TreeSet<Integer>, Integer>convertToCollection(values, TreeSet.class, Integer.class)));
+		assertEquals(Arrays.asList(3L, 1L, 2L, 1L), typeConverterManager.<LinkedList<Long>, Long>convertToCollection(values, LinkedList.class, Long.class));
+
+		final SizedList sizedList = typeConverterManager.convertType(Arrays.asList(values), SizedList.class);
+		assertEquals(4, sizedList.initialCapacity);
+		assertEquals(Arrays.asList(values), sizedList);
+		assertEquals(-1, typeConverterManager.convertType(5, SizedList.class).initialCapacity);
+
+		assertThrows(TypeConversionException.class, () -> typeConverterManager.convertType(values, NoDefaultCtorList.class));
+		assertThrows(TypeConversionException.class, () -> typeConverterManager.convertToCollection(values, Queue.class, String.class));
+	}
+
+	@Test
+	void testConvertersUseTheirManager() {
+		final TypeConverterManager typeConverterManager = new TypeConverterManager();
+		typeConverterManager.register(Integer.class, value -> 7);
+
+		final List<Integer> list = typeConverterManager.convertToCollection(new String[] {"1", "2"}, List.class, Integer.class);
+		assertEquals(Arrays.asList(7, 7), list);
+
+		final Collection<Integer> set = typeConverterManager.convertToCollection(new String[] {"1", "2"}, Set.class, null);
+		assertEquals(new HashSet<>(Arrays.asList("1", "2")), set);
+
+		assertArrayEquals(new Integer[] {7, 7}, typeConverterManager.convertType(new String[] {"1", "2"}, Integer[].class));
+		assertArrayEquals(new Thread.State[] {Thread.State.NEW}, typeConverterManager.convertType("NEW", Thread.State[].class));
+	}
+
+	@Test
+	void testClassLoaderIsCollected() throws Exception {
+		final WeakReference<ClassLoader> classLoaderRef = convertInThrowawayClassLoader();
+
+		for (int i = 0; i < 50 && classLoaderRef.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertNull(classLoaderRef.get());
+	}
+
+	private WeakReference<ClassLoader> convertInThrowawayClassLoader() throws Exception {
+		final URL location = A.class.getProtectionDomain().getCodeSource().getLocation();
+		final URLClassLoader classLoader = new URLClassLoader(new URL[] {location}, null);
+
+		final Class type = classLoader.loadClass(A.class.getName());
+		assertNotSame(A.class, type);
+
+		final Object value = type.getConstructor().newInstance();
+		final Collection list = TypeConverterManager.get().convertToCollection(new Object[] {value}, ArrayList.class, type);
+		assertEquals(1, list.size());
+		assertSame(value, list.iterator().next());
+
+		classLoader.close();
+		return new WeakReference<>(classLoader);
+	}
 }
@@ -0,0 +1,197 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.typeconverter;
+
+import jodd.util.fixtures.testdata.A;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TypeConverterManagerTest {
+
+	public static class MyDate extends Date {
+	}
+
+	@Test
+	void testLookupSpecialized() {
+		final TypeConverterManager typeConverterManager = TypeConverterManager.get();
+
+		final TypeConverter<Integer> intConverter = typeConverterManager.lookup(String.class, int.class);
+		assertEquals(42, intConverter.convert(" +42 ").intValue());
+		assertEquals(-7, intConverter.convert("-7").intValue());
+		assertNull(intConverter.convert(null));
+		assertThrows(TypeConversionException.class, () -> intConverter.convert("x"));
+		assertSame(intConverter, typeConverterManager.lookup(String.class, int.class));
+
+		assertEquals(Long.valueOf(7), typeConverterManager.lookup(Integer.class, Long.class).convert(7));
+		assertEquals(Integer.valueOf(1024), typeConverterManager.lookup(AtomicLong.class, Integer.class).convert(new AtomicLong(1024)));
+
+		final Long longValue = Long.valueOf(1234567);
+		assertSame(longValue, typeConverterManager.lookup(Long.class, Long.class).convert(longValue));
+		final String string = "string";
+		assertSame(string, typeConverterManager.lookup(String.class, String.class).convert(string));
+		assertSame(string, typeConverterManager.lookup(String.class, Object.class).convert(string));
+	}
+
+	@Test
+	void testLookupAsConvertType() {
+		final TypeConverterManager typeConverterManager = TypeConverterManager.get();
+
+		final Class[] types = {
+			Integer.class, int.class, Long.class, long.class, Short.class, short.class, Byte.class, byte.class,
+			Double.class, double.class, Float.class, float.class, String.class, BigDecimal.class, Boolean.class,
+		};
+		final Object[] values = {
+			"12", " +3 ", "-1.5", "", "x", "+", 7, 300L, 7.5d, 2.5f, (short) 3, (byte) 4,
+			new BigDecimal("1.5"), new BigInteger("99"), new AtomicLong(5), true,
+		};
+
+		for (final Class type : types) {
+			for (final Object value : values) {
+				final TypeConverter converter = typeConverterManager.lookup(value.getClass(), type);
+
+				final Object expected = invoke(() -> typeConverterManager.convertType(value, type));
+				for (int i = 0; i < 2; i++) {
+					assertEquals(expected, invoke(() -> converter.convert(value)), value + " -> " + type);
+				}
+			}
+		}
+	}
+
+	@Test
+	void testLookupCustomConverter() {
+		final TypeConverterManager typeConverterManager = new TypeConverterManager();
+		assertEquals(Integer.valueOf(5), typeConverterManager.lookup(String.class, Integer.class).convert("5"));
+
+		typeConverterManager.register(Integer.class, value -> 1);
+		assertEquals(Integer.valueOf(1), typeConverterManager.lookup(String.class, Integer.class).convert("5"));
+
+		typeConverterManager.unregister(Integer.class);
+		assertThrows(TypeConversionException.class, () -> typeConverterManager.convertType("5", Integer.class));
+	}
+
+	@Test
+	void testUnregisteredSubclass() {
+		final TypeConverterManager typeConverterManager = new TypeConverterManager();
+
+		final GregorianCalendar calendar = typeConverterManager.convertType(new Date(173), GregorianCalendar.class);
+		assertEquals(173, calendar.getTimeInMillis());
+		assertEquals(173, typeConverterManager.convertType(173L, GregorianCalendar.class).getTimeInMillis());
+		assertNull(typeConverterManager.convertType(null, GregorianCalendar.class));
+		assertNull(typeConverterManager.lookup(Long.class, GregorianCalendar.class).convert(null));
+
+		// date converter does not create subclasses
+		final TypeConversionException tcex =
+			assertThrows(TypeConversionException.class, () -> typeConverterManager.convertType(173L, MyDate.class));
+		assertTrue(tcex.getMessage().contains(MyDate.class.getName()));
+
+		final MyDate myDate = new MyDate();
+		assertSame(myDate, typeConverterManager.convertType(myDate, MyDate.class));
+
+		// registered converter is used once registered
+		final GregorianCalendar registered = new GregorianCalendar();
+		typeConverterManager.register(GregorianCalendar.class, value -> registered);
+		assertSame(registered, typeConverterManager.convertType(new Date(173), GregorianCalendar.class));
+		assertSame(registered, typeConverterManager.convertType(null, GregorianCalendar.class));
+	}
+
+	@Test
+	void testUnregisteredTypes() {
+		final TypeConverterManager typeConverterManager = TypeConverterManager.get();
+
+		assertThrows(TypeConversionException.class, () -> typeConverterManager.convertType("x", Thread.class));
+		assertThrows(TypeConversionException.class, () -> typeConverterManager.convertType("x", Thread.class));
+		assertNull(typeConverterManager.lookup(String.class, Thread.class).convert(null));
+
+		final Calendar calendar = Calendar.getInstance();
+		assertSame(calendar, typeConverterManager.convertType(calendar, Calendar.class));
+
+		final List<String> list = typeConverterManager.convertType(new String[] {"1", "2"}, ArrayList.class);
+		assertEquals(2, list.size());
+		assertEquals("[1, 2]", list.toString());
+	}
+
+	/**
+	 * Returns the result or the exception type.
+	 */
+	private Object invoke(final Supplier<Object> supplier) {
+		try {
+			return supplier.get();
+		}
+		catch (final Exception ex) {
+			return ex.getClass().getName();
+		}
+	}
+
+	@Test
+	void testClassLoaderIsCollected() throws Exception {
+		final WeakReference<ClassLoader> classLoaderRef = convertInThrowawayClassLoader();
+
+		for (int i = 0; i < 50 && classLoaderRef.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertNull(classLoaderRef.get());
+	}
+
+	private WeakReference<ClassLoader> convertInThrowawayClassLoader() throws Exception {
+		final URL location = A.class.getProtectionDomain().getCodeSource().getLocation();
+		final URLClassLoader classLoader = new URLClassLoader(new URL[] {location}, null);
+
+		final Class type = classLoader.loadClass(A.class.getName());
+		assertNotSame(A.class, type);
+
+		final TypeConverterManager typeConverterManager = TypeConverterManager.get();
+		final Object value = type.getConstructor().newInstance();
+
+		// from and to the throwaway class, with a JDK class on the other side
+		assertEquals(value.toString(), typeConverterManager.lookup(type, String.class).convert(value));
+		assertThrows(TypeConversionException.class, () -> typeConverterManager.lookup(String.class, type).convert("a"));
+		assertThrows(TypeConversionException.class, () -> typeConverterManager.convertType(1, type));
+
+		classLoader.close();
+		return new WeakReference<>(classLoader);
+	}
+}
@@ -24,4 +24,19 @@ class TimeZoneConverterTest {
 	void testConvert_with_other_input() {
 		assertNotNull(timeZoneConverter.convert("Europe/Berlin"));
 	}
+
+	@Test
+	void testConvert_cached() {
+		for (int i = 0; i < 3; i++) {
+			assertEquals(TimeZone.getTimeZone("Europe/Berlin"), timeZoneConverter.convert("Europe/Berlin"));
+			assertEquals(TimeZone.getTimeZone("GMT+02:00"), timeZoneConverter.convert("GMT+02:00"));
+			assertEquals(TimeZone.getTimeZone("Foo/Bar"), timeZoneConverter.convert("Foo/Bar"));
+		}
+
+		// cached time zones are not shared
+		final TimeZone timeZone = timeZoneConverter.convert("Europe/Berlin");
+		timeZone.setRawOffset(0);
+		assertNotSame(timeZone, timeZoneConverter.convert("Europe/Berlin"));
+		assertEquals(TimeZone.getTimeZone("Europe/Berlin"), timeZoneConverter.convert("Europe/Berlin"));
+	}
 }
\ No newline at end of file
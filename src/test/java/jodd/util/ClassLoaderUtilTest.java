@@ -32,9 +32,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class ClassLoaderUtilTest {
@@ -71,6 +74,26 @@ class ClassLoaderUtilTest {
 		assertEquals("jodd/util/ClassLoaderUtilTest$Boo.class", ClassUtil.convertClassNameToFileName(Boo.class.getName()));
 	}
 
+	@Test
+	void testFindClassNames() throws IOException {
+		final ClassLoader classLoader = ClassLoaderUtilTest.class.getClassLoader();
+
+		// folder
+		List<String> classNames = ClassLoaderUtil.findClassNames("jodd.util", classLoader);
+		assertTrue(classNames.contains(ClassLoaderUtilTest.class.getName()));
+		assertTrue(classNames.contains(Boo.class.getName()));
+		assertTrue(classNames.contains("jodd.util.fixtures.testdata.A"));
+		assertFalse(classNames.contains("jodd.util.package-info"));
+
+		// jar
+		classNames = ClassLoaderUtil.findClassNames("org.junit.jupiter.api", classLoader);
+		assertTrue(classNames.contains(Test.class.getName()));
+
+		// none
+		classNames = ClassLoaderUtil.findClassNames("jodd.util.nonexisting", classLoader);
+		assertTrue(classNames.isEmpty());
+	}
+
 	public static class Boo {
 		int v;
 	}
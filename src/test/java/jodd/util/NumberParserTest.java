@@ -0,0 +1,187 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+
+package jodd.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NumberParserTest {
+
+	private static final String[] INTEGERS = {
+		"0", "1", "-1", "+1", " 173 ", "\t+42\n", "-0", "007", "++7", "+-7", "-+7", "--7",
+		"2147483647", "2147483648", "-2147483648", "-2147483649", "+2147483647",
+		"9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+		"32767", "32768", "-32768", "-32769", "127", "128", "-128", "-129",
+		"", " ", "+", "-", "1 2", "12a", "a12", "1.0", "1e3", "0x10", "١٢",
+	};
+
+	private static final String[] DECIMALS = {
+		"0", "-0", "0.0", "-0.0", "1", "-1", "+1", " 1.5 ", "\t+2.25\n", ".5", "5.", "-.5",
+		"123456789012345", "1234567890123456", "12345678901234567890", "0.1", "0.3", "3.14159",
+		"1e10", "1E-10", "1.5e+3", "-2.5e-3", "1e22", "1e23", "1e-22", "1e-23", "0e500", "1e500", "1e-500",
+		"123.456e2", "0.000001234", "1.000000000000000000", "9007199254740993", "3.4028235e38", "1.4e-45",
+		"NaN", "-Infinity", "Infinity", "1d", "2.5f", "0x1p3", "+ 5", "+-5",
+		"", " ", "+", "-", ".", "e5", "1e", "1e+", "1.2.3", "1..2", "abc", "1 2",
+	};
+
+	@Test
+	void testParseInt() {
+		for (final String input : INTEGERS) {
+			final Object expected = invoke(() -> Integer.parseInt(jdkString(input)));
+			assertAll(expected, input, NumberParser::parseInt, NumberParser::parseInt, NumberParser::parseInt);
+		}
+	}
+
+	@Test
+	void testParseLong() {
+		for (final String input : INTEGERS) {
+			final Object expected = invoke(() -> Long.parseLong(jdkString(input)));
+			assertAll(expected, input, NumberParser::parseLong, NumberParser::parseLong, NumberParser::parseLong);
+		}
+	}
+
+	@Test
+	void testParseShortAndByte() {
+		for (final String input : INTEGERS) {
+			final Object expectedShort = invoke(() -> Short.parseShort(jdkString(input)));
+			assertAll(expectedShort, input, NumberParser::parseShort, NumberParser::parseShort, NumberParser::parseShort);
+
+			final Object expectedByte = invoke(() -> Byte.parseByte(jdkString(input)));
+			assertAll(expectedByte, input, NumberParser::parseByte, NumberParser::parseByte, NumberParser::parseByte);
+		}
+	}
+
+	@Test
+	void testParseDouble() {
+		for (final String input : DECIMALS) {
+			final Object expected = invoke(() -> Double.parseDouble(jdkString(input)));
+			assertAll(expected, input, NumberParser::parseDouble, NumberParser::parseDouble, NumberParser::parseDouble);
+		}
+	}
+
+	@Test
+	void testParseFloat() {
+		for (final String input : DECIMALS) {
+			final Object expected = invoke(() -> Float.parseFloat(jdkString(input)));
+			assertAll(expected, input, NumberParser::parseFloat, NumberParser::parseFloat, NumberParser::parseFloat);
+		}
+	}
+
+	@Test
+	void testParseRandomDecimals() {
+		final Random random = new Random(173);
+
+		for (int i = 0; i < 10000; i++) {
+			final long mantissa = random.nextLong() % 1_000_000_000_000_000L;
+			final int exponent = random.nextInt(60) - 30;
+			final String input = mantissa + "e" + exponent;
+			final String plain = Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(20) - 10));
+			final String digits = String.valueOf(random.nextInt(10_000_000)) + '.' + random.nextInt(1000);
+
+			for (final String string : new String[] {input, plain, digits}) {
+				assertEquals(Double.parseDouble(string), NumberParser.parseDouble(string), string);
+				assertEquals(Float.parseFloat(string), NumberParser.parseFloat(string), string);
+			}
+		}
+	}
+
+	@Test
+	void testRanges() {
+		final String input = "id=173;price=-12.5;count=+7 ";
+
+		assertEquals(173, NumberParser.parseInt(input, 3, 6));
+		assertEquals(173, NumberParser.parseInt(input.toCharArray(), 3, 6));
+		assertEquals(173, NumberParser.parseInt(input.getBytes(StandardCharsets.ISO_8859_1), 3, 6));
+		assertEquals(-12.5, NumberParser.parseDouble(input, 13, 18));
+		assertEquals(-12.5f, NumberParser.parseFloat(input.toCharArray(), 13, 18));
+		assertEquals(7L, NumberParser.parseLong(input.getBytes(StandardCharsets.ISO_8859_1), 25, input.length()));
+
+		assertThrows(NumberFormatException.class, () -> NumberParser.parseInt(input, 0, 6));
+		assertThrows(IndexOutOfBoundsException.class, () -> NumberParser.parseInt(input, 3, 100));
+		assertThrows(IndexOutOfBoundsException.class, () -> NumberParser.parseInt(input.toCharArray(), 6, 3));
+		assertThrows(IndexOutOfBoundsException.class, () -> NumberParser.parseDouble(input.getBytes(StandardCharsets.ISO_8859_1), -1, 3));
+	}
+
+	// ---------------------------------------------------------------- util
+
+	@FunctionalInterface
+	interface RangeParser<I> {
+		Object parse(I input, int start, int end);
+	}
+
+	/**
+	 * Asserts that input, placed in the middle of other characters, is parsed
+	 * to expected value from a char sequence, a char array and a byte array.
+	 */
+	private void assertAll(
+			final Object expected,
+			final String input,
+			final RangeParser<CharSequence> charSequenceParser,
+			final RangeParser<char[]> charArrayParser,
+			final RangeParser<byte[]> byteArrayParser) {
+
+		final String string = "x1" + input + "9y";
+		final int start = 2;
+		final int end = start + input.length();
+
+		assertEquals(expected, invoke(() -> charSequenceParser.parse(string, start, end)), input);
+		assertEquals(expected, invoke(() -> charSequenceParser.parse(new StringBuilder(string), start, end)), input);
+		assertEquals(expected, invoke(() -> charArrayParser.parse(string.toCharArray(), start, end)), input);
+
+		final Function<String, byte[]> bytes = s -> s.getBytes(StandardCharsets.ISO_8859_1);
+		if (new String(bytes.apply(input), StandardCharsets.ISO_8859_1).equals(input)) {
+			assertEquals(expected, invoke(() -> byteArrayParser.parse(bytes.apply(string), start, end)), input);
+		}
+	}
+
+	/**
+	 * Returns the string as parsed by the JDK: trimmed and without a leading plus sign.
+	 */
+	private static String jdkString(final String input) {
+		final String string = input.trim();
+		return string.startsWith("+") ? string.substring(1) : string;
+	}
+
+	/**
+	 * Returns the result or the exception type.
+	 */
+	private static Object invoke(final Supplier<Object> supplier) {
+		try {
+			return supplier.get();
+		}
+		catch (final RuntimeException ex) {
+			return ex.getClass().getName();
+		}
+	}
+}
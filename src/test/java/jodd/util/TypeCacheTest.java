@@ -0,0 +1,348 @@
+// Copyright (c) 2003-present, Jodd Team (http://jodd.org)
+// All rights reserved.
+//
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are met:
+//
+// 1. Redistributions of source code must retain the above copyright notice,
+// this list of conditions and the following disclaimer.
+//
+// 2. Redistributions in binary form must reproduce the above copyright
+// notice, this list of conditions and the following disclaimer in the
+// documentation and/or other materials provided with the distribution.
+//
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+// AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+// IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+// ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+// LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+// CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+// SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+// INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+// CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+// ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+// POSSIBILITY OF SUCH DAMAGE.
+
+package jodd.util;
+
+import jodd.introspector.CachingIntrospector;
+import jodd.introspector.ClassIntrospector;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TypeCacheTest {
+
+	@Test
+	void testDefault() {
+		final TypeCache<String> cache = TypeCache.createDefault();
+
+		assertEquals("String", cache.get(String.class, Class::getSimpleName));
+		assertEquals("String", cache.get(String.class));
+		assertEquals(1, cache.size());
+		assertEquals("String", cache.remove(String.class));
+		assertEquals(0, cache.size());
+	}
+
+	@Nested
+	class Bounded {
+
+		@Test
+		void testInvalid() {
+			assertThrows(IllegalArgumentException.class, () -> TypeCache.create().maxSize(0));
+			assertThrows(IllegalArgumentException.class, () -> TypeCache.create().expireAfterAccess(0, TimeUnit.SECONDS));
+		}
+
+		@Test
+		void testLru() {
+			final TypeCache<String> cache = TypeCache.<String>create().maxSize(2).stats(true).get();
+
+			cache.put(String.class, "1");
+			cache.put(Integer.class, "2");
+			assertEquals("1", cache.get(String.class));
+
+			cache.put(Long.class, "3");
+
+			assertEquals(2, cache.size());
+			assertNull(cache.get(Integer.class));
+			assertEquals("1", cache.get(String.class));
+			assertEquals("3", cache.get(Long.class));
+			assertEquals(1, cache.getStats().getEvictionCount());
+		}
+
+		@Test
+		void testLfu() {
+			final TypeCache<String> cache = TypeCache.<String>create().maxSize(3).eviction(TypeCache.Eviction.LFU).get();
+
+			cache.put(String.class, "1");
+			cache.put(Integer.class, "2");
+			cache.put(Long.class, "3");
+
+			// String is the least recently used, but the most frequently used
+			cache.get(String.class);
+			cache.get(String.class);
+			cache.get(Long.class);
+			cache.get(Long.class);
+			cache.get(Integer.class);
+
+			cache.put(Short.class, "4");
+
+			assertEquals(3, cache.size());
+			assertNull(cache.get(Integer.class));
+			assertNotNull(cache.get(String.class));
+			assertNotNull(cache.get(Long.class));
+			assertNotNull(cache.get(Short.class));
+		}
+
+		@Test
+		void testExpireAfterAccess() throws InterruptedException {
+			final TypeCache<String> cache = TypeCache.<String>create().expireAfterAccess(20, TimeUnit.MILLISECONDS).stats(true).get();
+
+			cache.put(String.class, "1");
+			assertEquals("1", cache.get(String.class));
+
+			Thread.sleep(50);
+
+			assertNull(cache.get(String.class));
+			assertEquals(0, cache.size());
+			assertEquals(1, cache.getStats().getEvictionCount());
+
+			cache.put(String.class, "1");
+			Thread.sleep(50);
+			cache.put(Integer.class, "2");
+
+			assertEquals(1, cache.size());
+			assertEquals(2, cache.getStats().getEvictionCount());
+		}
+
+		@Test
+		void testForEachValue() {
+			final TypeCache<String> cache = TypeCache.<String>create().maxSize(10).get();
+			cache.put(String.class, "1");
+			cache.put(Integer.class, "2");
+
+			final List<String> values = new ArrayList<>();
+			cache.forEachValue(values::add);
+			assertEquals(2, values.size());
+
+			cache.clear();
+			assertEquals(0, cache.size());
+		}
+	}
+
+	@Nested
+	class ClassValueCache {
+
+		@Test
+		void testGetPut() {
+			final TypeCache<String> cache = TypeCache.<String>create().classValue(true).get();
+
+			assertNull(cache.get(String.class));
+			assertEquals(0, cache.size());
+			assertNull(cache.put(String.class, "1"));
+			assertEquals("1", cache.put(String.class, "2"));
+			assertEquals("2", cache.get(String.class));
+			assertEquals(1, cache.size());
+
+			assertEquals("Integer", cache.get(Integer.class, Class::getSimpleName));
+			assertEquals("Integer", cache.get(Integer.class, type -> "other"));
+			assertEquals(2, cache.size());
+
+			final List<String> values = new ArrayList<>();
+			cache.forEachValue(values::add);
+			values.sort(String::compareTo);
+			assertEquals("[2, Integer]", values.toString());
+
+			assertEquals("2", cache.remove(String.class));
+			assertNull(cache.get(String.class));
+			assertEquals(1, cache.size());
+
+			cache.clear();
+			assertNull(cache.get(Integer.class));
+			assertTrue(cache.isEmpty());
+		}
+
+		@Test
+		void testNullIsNotCached() {
+			final TypeCache<String> cache = TypeCache.<String>create().classValue(true).get();
+
+			assertNull(cache.get(String.class, type -> null));
+			assertEquals("1", cache.get(String.class, type -> "1"));
+		}
+
+		@Test
+		void testIntrospectorDefault() {
+			final ClassIntrospector introspector = new CachingIntrospector();
+			assertSame(introspector.lookup(String.class), introspector.lookup(String.class));
+		}
+
+		@Test
+		void testClassLoaderIsCollected() throws Exception {
+			final TypeCache<Object> cache = TypeCache.create().classValue(true).get();
+			final ClassIntrospector introspector = new CachingIntrospector();
+
+			final WeakReference<ClassLoader> classLoaderRef = loadThrowaway(type -> {
+				// values reference the key class
+				cache.put(type, new Object[] {type});
+				introspector.lookup(type).getAllPropertyDescriptors();
+			});
+
+			for (int i = 0; i < 50 && classLoaderRef.get() != null; i++) {
+				System.gc();
+				Thread.sleep(20);
+			}
+			assertNull(classLoaderRef.get());
+			assertEquals(0, cache.size());
+		}
+
+		private WeakReference<ClassLoader> loadThrowaway(final Consumer<Class> consumer) throws Exception {
+			final URL location = Throwaway.class.getProtectionDomain().getCodeSource().getLocation();
+			final URLClassLoader classLoader = new URLClassLoader(new URL[] {location}, null);
+
+			final Class type = classLoader.loadClass(Throwaway.class.getName());
+			assertNotSame(Throwaway.class, type);
+			consumer.accept(type);
+
+			classLoader.close();
+			return new WeakReference<>(classLoader);
+		}
+	}
+
+	@Nested
+	class SingleFlight {
+
+		private TypeCache<String> weakThreadsafe() {
+			return TypeCache.<String>create().weak(true).threadsafe(true).get();
+		}
+
+		@Test
+		void testLoadOnce() throws Exception {
+			for (final TypeCache<String> cache : Arrays.asList(
+					weakThreadsafe(),
+					TypeCache.<String>create().threadsafe(true).get(),
+					TypeCache.<String>create().classValue(true).get(),
+					TypeCache.<String>create().maxSize(10).get())) {
+
+				final AtomicInteger loads = new AtomicInteger();
+				final CountDownLatch start = new CountDownLatch(1);
+				final ExecutorService executorService = Executors.newFixedThreadPool(16);
+				final List<Future<String>> futures = new ArrayList<>();
+
+				try {
+					for (int i = 0; i < 16; i++) {
+						futures.add(executorService.submit(() -> {
+							start.await();
+							return cache.get(String.class, type -> {
+								loads.incrementAndGet();
+								ThreadUtil.sleep(20);
+								return type.getSimpleName();
+							});
+						}));
+					}
+					start.countDown();
+					for (final Future<String> future : futures) {
+						assertEquals("String", future.get());
+					}
+				}
+				finally {
+					executorService.shutdownNow();
+				}
+				assertEquals(1, loads.get());
+			}
+		}
+
+		@Test
+		void testOtherKeysNotBlocked() throws Exception {
+			final TypeCache<String> cache = weakThreadsafe();
+			final CountDownLatch loading = new CountDownLatch(1);
+			final CountDownLatch release = new CountDownLatch(1);
+			final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+			try {
+				final Future<String> slow = executorService.submit(() -> cache.get(String.class, type -> {
+					loading.countDown();
+					try {
+						release.await();
+					} catch (final InterruptedException ignore) {
+					}
+					return "slow";
+				}));
+
+				loading.await();
+				assertEquals("fast", cache.get(Integer.class, type -> "fast"));
+				assertFalse(slow.isDone());
+
+				release.countDown();
+				assertEquals("slow", slow.get());
+			}
+			finally {
+				executorService.shutdownNow();
+			}
+		}
+
+		@Test
+		void testFailureAndRecursion() {
+			final TypeCache<String> cache = weakThreadsafe();
+
+			assertThrows(IllegalArgumentException.class, () -> cache.get(String.class, type -> {
+				throw new IllegalArgumentException();
+			}));
+			assertEquals("ok", cache.get(String.class, type -> "ok"));
+
+			assertThrows(IllegalStateException.class, () -> cache.get(Long.class, type -> cache.get(Long.class, t -> "x")));
+			assertEquals("Long", cache.get(Long.class, type -> cache.get(Short.class, t -> "Short").replace("Short", "Long")));
+		}
+	}
+
+	@Test
+	void testStats() {
+		final TypeCache<String> cache = TypeCache.<String>create().threadsafe(true).stats(true).get();
+
+		assertNull(cache.get(String.class));
+		assertEquals("String", cache.get(String.class, Class::getSimpleName));
+		assertEquals("String", cache.get(String.class, Class::getSimpleName));
+		assertEquals("String", cache.get(String.class));
+
+		final TypeCache.Stats stats = cache.getStats();
+		assertEquals(2, stats.getHitCount());
+		assertEquals(2, stats.getMissCount());
+		assertEquals(1, stats.getLoadCount());
+		assertEquals(0, stats.getEvictionCount());
+
+		final TypeCache.Stats none = TypeCache.createDefault().getStats();
+		assertEquals(0, none.getHitCount());
+	}
+
+	public static class Throwaway {
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+		public void setName(final String name) {
+			this.name = name;
+		}
+	}
+}